@@ -0,0 +1,461 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * AbstractDateSeries.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Made slots() public and renamed find() to slotOf();
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The base class for date-indexed series of primitive values
+ * ({@link DateDoubleSeries}, {@link DateLongSeries} and
+ * {@link DateIntSeries}), which replace maps such as
+ * <code>TreeMap&lt;SerialDate, Double&gt;</code> without boxing.
+ * <P>
+ * This class maps each date to a <i>slot</i> in the value array held by the
+ * subclass; the values in the slots returned by {@link #slots()} or
+ * {@link #slotOf(int)} can be read with the subclass's <code>getAt()</code>
+ * method without copying.  A series uses one of two layouts, chosen when it
+ * is created:
+ * <ul>
+ * <li>{@link #DENSE} - the slot is the serial number minus a base serial,
+ *     so lookups take constant time, and a bitmap records which slots hold
+ *     a value.  This suits daily data, where most dates have a value.</li>
+ * <li>{@link #SPARSE} - the serial numbers of the dates with values are
+ *     kept in a sorted array alongside the values, and lookups are a binary
+ *     search.  This suits irregular data.  Appending dates in ascending
+ *     order takes constant amortised time.</li>
+ * </ul>
+ */
+public abstract class AbstractDateSeries {
+
+    /** Layout code for a series indexed directly by serial number. */
+    public static final int DENSE = 0;
+
+    /** Layout code for a series with a sorted array of serial numbers. */
+    public static final int SPARSE = 1;
+
+    /** The initial capacity. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The layout. */
+    private final int layout;
+
+    /** The serial number of slot zero (dense layout). */
+    private int base;
+
+    /** The number of slots (the length of the subclass's value array). */
+    private int capacity;
+
+    /** The slots that hold a value (dense layout). */
+    private BitSet present;
+
+    /** The serial number in each slot, ascending (sparse layout). */
+    private int[] serials;
+
+    /** The number of dates with a value. */
+    private int count;
+
+    /**
+     * Creates a new, empty series.
+     *
+     * @param layout  the layout ({@link #DENSE} or {@link #SPARSE}).
+     */
+    protected AbstractDateSeries(final int layout) {
+        if ((layout != DENSE) && (layout != SPARSE)) {
+            throw new IllegalArgumentException(
+                "AbstractDateSeries(): invalid layout code.");
+        }
+        this.layout = layout;
+        this.present = new BitSet();
+        this.serials = new int[0];
+    }
+
+    /**
+     * Returns the layout of this series.
+     *
+     * @return {@link #DENSE} or {@link #SPARSE}.
+     */
+    public int getLayout() {
+        return this.layout;
+    }
+
+    /**
+     * Returns the number of dates with a value.
+     *
+     * @return The number of dates.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns <code>true</code> if the series holds no values.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the series has a value for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final int serial) {
+        return slotOf(serial) >= 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the series has a value for a date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final SerialDate date) {
+        return contains(date.toSerial());
+    }
+
+    /**
+     * Returns the earliest date with a value.
+     *
+     * @return The date (serial number).
+     */
+    public int getFirstSerial() {
+        checkNotEmpty();
+        if (this.layout == SPARSE) {
+            return this.serials[0];
+        }
+        return this.base + this.present.nextSetBit(0);
+    }
+
+    /**
+     * Returns the latest date with a value.
+     *
+     * @return The date (serial number).
+     */
+    public int getLastSerial() {
+        checkNotEmpty();
+        if (this.layout == SPARSE) {
+            return this.serials[this.count - 1];
+        }
+        return this.base + this.present.length() - 1;
+    }
+
+    /**
+     * Returns the dates with a value, in ascending order.
+     *
+     * @return The dates (serial numbers).
+     */
+    public int[] serials() {
+        if (this.layout == SPARSE) {
+            return Arrays.copyOf(this.serials, this.count);
+        }
+        final int[] result = slots();
+        for (int i = 0; i < result.length; i++) {
+            result[i] += this.base;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the value for a date, if there is one.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return <code>true</code> if a value was removed.
+     */
+    public boolean remove(final int serial) {
+        final int slot = slotOf(serial);
+        if (slot < 0) {
+            return false;
+        }
+        if (this.layout == SPARSE) {
+            final int tail = this.count - slot - 1;
+            System.arraycopy(this.serials, slot + 1, this.serials, slot,
+                    tail);
+            moveValues(this.capacity, slot + 1, slot, tail);
+        }
+        else {
+            this.present.clear(slot);
+        }
+        this.count--;
+        return true;
+    }
+
+    /**
+     * Returns the slots that hold values, in ascending date order.  A slot
+     * stays valid until the series is next modified.
+     *
+     * @return The slots.
+     */
+    public final int[] slots() {
+        final int[] result = new int[this.count];
+        if (this.layout == SPARSE) {
+            for (int i = 0; i < this.count; i++) {
+                result[i] = i;
+            }
+            return result;
+        }
+        int i = 0;
+        for (int slot = this.present.nextSetBit(0); slot >= 0;
+                slot = this.present.nextSetBit(slot + 1)) {
+            result[i++] = slot;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slot holding the value for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The slot, or -1 if the series has no value for the date.
+     */
+    public final int slotOf(final int serial) {
+        if (this.layout == SPARSE) {
+            final int i = Arrays.binarySearch(this.serials, 0, this.count,
+                    serial);
+            return (i >= 0) ? i : -1;
+        }
+        final long slot = (long) serial - this.base;
+        if ((slot < 0) || (slot >= this.capacity)
+                || !this.present.get((int) slot)) {
+            return -1;
+        }
+        return (int) slot;
+    }
+
+    /**
+     * Returns the slot holding the value for a date, creating it (and
+     * growing the value array) if necessary.  The value in a new slot is
+     * undefined until the subclass writes it.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The slot.
+     */
+    protected final int slotFor(final int serial) {
+        if ((serial < SerialDate.SERIAL_LOWER_BOUND)
+                || (serial > SerialDate.SERIAL_UPPER_BOUND)) {
+            throw new IllegalArgumentException(
+                "AbstractDateSeries: date out of range: " + serial);
+        }
+        return (this.layout == SPARSE) ? sparseSlot(serial)
+                                       : denseSlot(serial);
+    }
+
+    /**
+     * Returns (creating if necessary) the slot for a date in a sparse
+     * series.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The slot.
+     */
+    private int sparseSlot(final int serial) {
+        int i;
+        if ((this.count == 0) || (serial > this.serials[this.count - 1])) {
+            i = -this.count - 1;
+        }
+        else {
+            i = Arrays.binarySearch(this.serials, 0, this.count, serial);
+        }
+        if (i >= 0) {
+            return i;
+        }
+        i = -i - 1;
+        if (this.count == this.capacity) {
+            final int newCapacity = Math.max(INITIAL_CAPACITY,
+                    2 * this.capacity);
+            this.serials = Arrays.copyOf(this.serials, newCapacity);
+            moveValues(newCapacity, 0, 0, this.count);
+            this.capacity = newCapacity;
+        }
+        final int tail = this.count - i;
+        System.arraycopy(this.serials, i, this.serials, i + 1, tail);
+        moveValues(this.capacity, i, i + 1, tail);
+        this.serials[i] = serial;
+        this.count++;
+        return i;
+    }
+
+    /**
+     * Returns (creating if necessary) the slot for a date in a dense
+     * series.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The slot.
+     */
+    private int denseSlot(final int serial) {
+        if (this.capacity == 0) {
+            moveValues(INITIAL_CAPACITY, 0, 0, 0);
+            this.capacity = INITIAL_CAPACITY;
+            this.base = serial;
+        }
+        else if (serial < this.base) {
+            // grow at the front, leaving room for more earlier dates...
+            final int newCapacity = Math.max(2 * this.capacity,
+                    this.capacity + this.base - serial);
+            final int shift = newCapacity - this.capacity;
+            moveValues(newCapacity, 0, shift, this.capacity);
+            final BitSet shifted = new BitSet(newCapacity);
+            for (int slot = this.present.nextSetBit(0); slot >= 0;
+                    slot = this.present.nextSetBit(slot + 1)) {
+                shifted.set(slot + shift);
+            }
+            this.present = shifted;
+            this.capacity = newCapacity;
+            this.base -= shift;
+        }
+        else if (serial - this.base >= this.capacity) {
+            final int newCapacity = Math.max(2 * this.capacity,
+                    serial - this.base + 1);
+            moveValues(newCapacity, 0, 0, this.capacity);
+            this.capacity = newCapacity;
+        }
+        final int slot = serial - this.base;
+        if (!this.present.get(slot)) {
+            this.present.set(slot);
+            this.count++;
+        }
+        return slot;
+    }
+
+    /**
+     * Copies the values for the dates in a range into an empty series of
+     * the same type.
+     *
+     * @param target  the target series (empty, same layout).
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The target series.
+     */
+    protected final AbstractDateSeries sliceInto(
+            final AbstractDateSeries target, final SerialDateRange range) {
+        if (isEmpty() || range.isEmpty()) {
+            return target;
+        }
+        int from;
+        int to;
+        if (this.layout == SPARSE) {
+            from = lowerBound(range.getFirst());
+            to = lowerBound(range.getLast() + 1);
+            target.serials = Arrays.copyOfRange(this.serials, from, to);
+            target.count = to - from;
+        }
+        else {
+            from = (int) Math.max(0L, (long) range.getFirst() - this.base);
+            to = (int) Math.min(this.capacity,
+                    (long) range.getLast() - this.base + 1);
+            if (from >= to) {
+                return target;
+            }
+            target.base = this.base + from;
+            target.present = this.present.get(from, to);
+            target.count = target.present.cardinality();
+        }
+        if (to > from) {
+            target.capacity = to - from;
+            target.moveValues(target.capacity, 0, 0, 0);
+            copyValues(target, from, 0, to - from);
+        }
+        return target;
+    }
+
+    /**
+     * Returns the number of dates with a value before a date (sparse
+     * layout).
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The index.
+     */
+    private int lowerBound(final int serial) {
+        final int i = Arrays.binarySearch(this.serials, 0, this.count,
+                serial);
+        return (i >= 0) ? i : -i - 1;
+    }
+
+    /**
+     * Checks that the series is not empty.
+     */
+    private void checkNotEmpty() {
+        if (this.count == 0) {
+            throw new IllegalStateException(
+                "AbstractDateSeries: the series is empty.");
+        }
+    }
+
+    /**
+     * Moves values within the subclass's value array.  If
+     * <code>capacity</code> differs from the current length of the array,
+     * a new array of that length is allocated and only the moved values are
+     * kept.
+     *
+     * @param capacity  the required length of the value array.
+     * @param from  the first slot to move.
+     * @param to  the destination of the first slot.
+     * @param length  the number of slots to move.
+     */
+    protected abstract void moveValues(int capacity, int from, int to,
+                                       int length);
+
+    /**
+     * Copies values from this series into another series of the same
+     * type.
+     *
+     * @param target  the target series.
+     * @param from  the first slot in this series.
+     * @param to  the first slot in the target series.
+     * @param length  the number of slots to copy.
+     */
+    protected abstract void copyValues(AbstractDateSeries target, int from,
+                                       int to, int length);
+
+}
@@ -0,0 +1,171 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * AdjustedRecurrence.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A recurrence whose dates are those of another recurrence moved to
+ * business days of a {@link BusinessDayCalendar} (for example the last
+ * business day of each quarter is the last day of each quarter adjusted
+ * with the preceding convention).
+ * <P>
+ * Adjustments never reorder dates, so the next occurrence is found from the
+ * occurrences of the underlying rule near the date, and two dates that
+ * adjust to the same business day give one occurrence.  Underlying dates
+ * outside the range of the calendar are ignored.
+ */
+public class AdjustedRecurrence extends RecurrenceRule {
+
+    /** The underlying rule. */
+    private final RecurrenceRule rule;
+
+    /** The calendar. */
+    private final BusinessDayCalendar calendar;
+
+    /** The business day convention. */
+    private final int convention;
+
+    /**
+     * Creates a new recurrence.
+     *
+     * @param rule  the underlying rule (<code>null</code> not permitted).
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     * @param convention  the business day convention
+     *                    (<code>SerialDate.FOLLOWING</code>,
+     *                    <code>BusinessDayCalendar.MODIFIED_FOLLOWING</code>
+     *                    etc.).
+     */
+    public AdjustedRecurrence(final RecurrenceRule rule,
+                              final BusinessDayCalendar calendar,
+                              final int convention) {
+        if ((rule == null) || (calendar == null)) {
+            throw new IllegalArgumentException(
+                "AdjustedRecurrence(): null argument.");
+        }
+        if ((convention < BusinessDayCalendar.MODIFIED_PRECEDING)
+                || (convention > BusinessDayCalendar.MODIFIED_FOLLOWING)) {
+            throw new IllegalArgumentException(
+                "AdjustedRecurrence(): invalid convention.");
+        }
+        this.rule = rule;
+        this.calendar = calendar;
+        this.convention = convention;
+    }
+
+    /**
+     * Returns the underlying rule.
+     *
+     * @return The rule.
+     */
+    public RecurrenceRule getRule() {
+        return this.rule;
+    }
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence, or {@link #NONE}.
+     */
+    public int nextOccurrence(final int after) {
+        // earlier dates can be adjusted forwards past the date...
+        int result = NONE;
+        int d = this.rule.previousOccurrence(after + 1);
+        while ((d != NONE) && this.calendar.covers(d)) {
+            final int adjusted = this.calendar.adjust(d, this.convention);
+            if (adjusted <= after) {
+                break;
+            }
+            result = adjusted;
+            d = this.rule.previousOccurrence(d);
+        }
+        if (result != NONE) {
+            return result;
+        }
+        // ...otherwise use the first later date that adjusts past it
+        d = this.rule.nextOccurrence(after);
+        while ((d != NONE) && this.calendar.covers(d)) {
+            final int adjusted = this.calendar.adjust(d, this.convention);
+            if (adjusted > after) {
+                return adjusted;
+            }
+            d = this.rule.nextOccurrence(d);
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence, or {@link #NONE}.
+     */
+    public int previousOccurrence(final int before) {
+        // later dates can be adjusted backwards before the date...
+        int result = NONE;
+        int d = this.rule.nextOccurrence(before - 1);
+        while ((d != NONE) && this.calendar.covers(d)) {
+            final int adjusted = this.calendar.adjust(d, this.convention);
+            if (adjusted >= before) {
+                break;
+            }
+            result = adjusted;
+            d = this.rule.nextOccurrence(d);
+        }
+        if (result != NONE) {
+            return result;
+        }
+        // ...otherwise use the first earlier date that adjusts before it
+        d = this.rule.previousOccurrence(before);
+        while ((d != NONE) && this.calendar.covers(d)) {
+            final int adjusted = this.calendar.adjust(d, this.convention);
+            if (adjusted < before) {
+                return adjusted;
+            }
+            d = this.rule.previousOccurrence(d);
+        }
+        return NONE;
+    }
+
+}
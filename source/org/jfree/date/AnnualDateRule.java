@@ -39,6 +39,7 @@
  * 26-Oct-2001 : Changed package to com.jrefinery.date.* (DG);
  * 12-Nov-2001 : Javadoc comments updated (DG);
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 19-Oct-2026 : Added getSerial();
  *
  */
 
@@ -69,6 +70,20 @@ public abstract class AnnualDateRule implements Cloneable {
      */
     public abstract SerialDate getDate(int year);
 
+    /**
+     * Returns the serial number of the date for this rule, given the year.
+     * Subclasses can override this to avoid creating a date.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number, or -1 if the rule gives no date for the
+     *     year.
+     */
+    public int getSerial(final int year) {
+        final SerialDate date = getDate(year);
+        return (date != null) ? date.toSerial() : -1;
+    }
+
     /**
      * Returns a clone of the rule.
      * <P>
@@ -0,0 +1,130 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * AnnualRecurrence.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A recurrence with one date per year, given by an {@link AnnualDateRule}
+ * (for example Easter Sunday, or the last Monday in May).
+ * <P>
+ * The next occurrence is found by evaluating the rule for the year of the
+ * date and, if necessary, the following year, so no more than a few years
+ * are evaluated for any query.
+ */
+public class AnnualRecurrence extends RecurrenceRule {
+
+    /** The annual rule. */
+    private final AnnualDateRule rule;
+
+    /**
+     * Creates a new recurrence.
+     *
+     * @param rule  the annual rule (<code>null</code> not permitted).
+     */
+    public AnnualRecurrence(final AnnualDateRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException(
+                "AnnualRecurrence(): null 'rule' argument.");
+        }
+        this.rule = rule;
+    }
+
+    /**
+     * Returns the annual rule.
+     *
+     * @return The rule.
+     */
+    public AnnualDateRule getRule() {
+        return this.rule;
+    }
+
+    /**
+     * Returns the first occurrence after a date.  The rule is evaluated
+     * from the year before the date onwards, since rules such as "the
+     * Monday following 31 December" can give a date in the next year.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence, or {@link #NONE}.
+     */
+    public int nextOccurrence(final int after) {
+        if (after >= SerialDate.SERIAL_UPPER_BOUND) {
+            return NONE;
+        }
+        final int year = (after < SerialDate.SERIAL_LOWER_BOUND)
+                ? SerialDate.MINIMUM_YEAR_SUPPORTED
+                : SerialDateArithmetic.getYYYY(after);
+        for (int y = Math.max(year - 1, SerialDate.MINIMUM_YEAR_SUPPORTED);
+                y <= SerialDate.MAXIMUM_YEAR_SUPPORTED; y++) {
+            final int s = this.rule.getSerial(y);
+            if ((s != NONE) && (s > after)) {
+                return s;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence, or {@link #NONE}.
+     */
+    public int previousOccurrence(final int before) {
+        if (before <= SerialDate.SERIAL_LOWER_BOUND) {
+            return NONE;
+        }
+        final int year = (before > SerialDate.SERIAL_UPPER_BOUND)
+                ? SerialDate.MAXIMUM_YEAR_SUPPORTED
+                : SerialDateArithmetic.getYYYY(before);
+        for (int y = Math.min(year + 1, SerialDate.MAXIMUM_YEAR_SUPPORTED);
+                y >= SerialDate.MINIMUM_YEAR_SUPPORTED; y--) {
+            final int s = this.rule.getSerial(y);
+            if ((s != NONE) && (s < before)) {
+                return s;
+            }
+        }
+        return NONE;
+    }
+
+}
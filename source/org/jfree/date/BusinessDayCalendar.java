@@ -0,0 +1,555 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * BusinessDayCalendar.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added getBusinessDay() and getBusinessDayCount();
+ * 19-Oct-2026 : fromRules() now uses getSerial();
+ * 19-Oct-2026 : fromRules() resolves observed holidays;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.BitSet;
+
+/**
+ * A calendar of business days over a fixed range of years, with lookup
+ * tables that make business day adjustments constant-time operations.
+ * <P>
+ * A day is a business day unless its day of the week is in the weekend mask
+ * or it is a holiday.  When the calendar is created it records, for every
+ * day in its range, the next business day on or after that day, the previous
+ * business day on or before it, and the number of business days up to and
+ * including it.  Every adjustment convention is then one or two array reads,
+ * however long a run of holidays is, and business days can be added and
+ * counted without probing one day at a time.
+ * <P>
+ * The adjustment conventions extend the <code>PRECEDING</code>,
+ * <code>NEAREST</code> and <code>FOLLOWING</code> codes defined in
+ * {@link SerialDate} with {@link #MODIFIED_FOLLOWING} and
+ * {@link #MODIFIED_PRECEDING}.
+ * <P>
+ * Instances are immutable, so they can be shared between threads.  Methods
+ * throw an <code>IllegalArgumentException</code> for dates outside the range
+ * of the calendar.
+ */
+public final class BusinessDayCalendar {
+
+    /**
+     * Useful constant for the modified following convention: the following
+     * business day, unless that is in the next month, in which case the
+     * preceding business day.
+     */
+    public static final int MODIFIED_FOLLOWING = 2;
+
+    /**
+     * Useful constant for the modified preceding convention: the preceding
+     * business day, unless that is in the previous month, in which case the
+     * following business day.
+     */
+    public static final int MODIFIED_PRECEDING = -2;
+
+    /** A weekend mask for Saturday and Sunday. */
+    public static final int SATURDAY_SUNDAY
+        = weekendMask(SerialDate.SATURDAY, SerialDate.SUNDAY);
+
+    /** A weekend mask for Friday and Saturday. */
+    public static final int FRIDAY_SATURDAY
+        = weekendMask(SerialDate.FRIDAY, SerialDate.SATURDAY);
+
+    /** A value in the lookup tables for "no business day in range". */
+    private static final int NONE = 0;
+
+    /** The first year covered by the calendar. */
+    private final int firstYear;
+
+    /** The last year covered by the calendar. */
+    private final int lastYear;
+
+    /** The weekend mask. */
+    private final int weekendMask;
+
+    /** The serial number of the first day covered by the calendar. */
+    private final int first;
+
+    /** The serial number of the last day covered by the calendar. */
+    private final int last;
+
+    /** The next business day on or after each day (indexed from first). */
+    private final int[] next;
+
+    /** The previous business day on or before each day. */
+    private final int[] previous;
+
+    /** The number of business days in the range up to each day. */
+    private final int[] rank;
+
+    /** The business days in the range, in ascending order. */
+    private final int[] businessDays;
+
+    /**
+     * Creates a new calendar.
+     *
+     * @param firstYear  the first year covered by the calendar.
+     * @param lastYear  the last year covered by the calendar.
+     * @param weekendMask  the days of the week that are not business days
+     *                     (see {@link #weekendMask(int[])}).
+     * @param holidays  the holidays, with bits indexed by serial number
+     *                  (<code>null</code> permitted).
+     */
+    public BusinessDayCalendar(final int firstYear, final int lastYear,
+                               final int weekendMask, final BitSet holidays) {
+
+        // check arguments...
+        if ((firstYear < SerialDate.MINIMUM_YEAR_SUPPORTED)
+                || (lastYear > SerialDate.MAXIMUM_YEAR_SUPPORTED)
+                || (firstYear > lastYear)) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar(): invalid range of years.");
+        }
+        if ((weekendMask & 0xFE) == 0xFE) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar(): every day is in the weekend.");
+        }
+
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.weekendMask = weekendMask;
+        this.first = SerialDateArithmetic.yearStart(firstYear);
+        this.last = SerialDateArithmetic.yearStart(lastYear + 1) - 1;
+        final int n = this.last - this.first + 1;
+        this.next = new int[n];
+        this.previous = new int[n];
+        this.rank = new int[n];
+
+        // a forward pass for the previous business days and ranks...
+        int count = 0;
+        int prev = NONE;
+        for (int i = 0; i < n; i++) {
+            final int serial = this.first + i;
+            if (isBusinessDay(serial, weekendMask, holidays)) {
+                count++;
+                prev = serial;
+            }
+            this.previous[i] = prev;
+            this.rank[i] = count;
+        }
+
+        // ...and a backward pass for the next business days
+        this.businessDays = new int[count];
+        int following = NONE;
+        for (int i = n - 1; i >= 0; i--) {
+            if (this.previous[i] == this.first + i) {
+                following = this.first + i;
+                this.businessDays[--count] = following;
+            }
+            this.next[i] = following;
+        }
+
+    }
+
+    /**
+     * Creates a calendar with holidays given by annual date rules.  Any
+     * {@link ObservedHolidayRule} objects are resolved together, so that
+     * holidays moved off a weekend do not land on each other.
+     *
+     * @param firstYear  the first year covered by the calendar.
+     * @param lastYear  the last year covered by the calendar.
+     * @param weekendMask  the days of the week that are not business days.
+     * @param rules  the holiday rules (<code>null</code> not permitted).
+     *
+     * @return The calendar.
+     */
+    public static BusinessDayCalendar fromRules(final int firstYear,
+                                                final int lastYear,
+                                                final int weekendMask,
+                                                final AnnualDateRule[] rules) {
+        final BitSet holidays = new BitSet();
+        ObservedHolidayRule.resolve(rules, firstYear, lastYear, holidays);
+        return new BusinessDayCalendar(firstYear, lastYear, weekendMask,
+                holidays);
+    }
+
+    /**
+     * Returns a weekend mask for the specified days of the week.
+     *
+     * @param days  the day-of-the-week codes defined in {@link SerialDate}.
+     *
+     * @return The mask.
+     */
+    public static int weekendMask(final int... days) {
+        int result = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (!SerialDate.isValidWeekdayCode(days[i])) {
+                throw new IllegalArgumentException(
+                    "BusinessDayCalendar.weekendMask(): invalid day code.");
+            }
+            result |= 1 << days[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first year covered by the calendar.
+     *
+     * @return The year.
+     */
+    public int getFirstYear() {
+        return this.firstYear;
+    }
+
+    /**
+     * Returns the last year covered by the calendar.
+     *
+     * @return The year.
+     */
+    public int getLastYear() {
+        return this.lastYear;
+    }
+
+    /**
+     * Returns the weekend mask.
+     *
+     * @return The mask.
+     */
+    public int getWeekendMask() {
+        return this.weekendMask;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified date falls within the range
+     * of the calendar.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean covers(final int serial) {
+        return (serial >= this.first) && (serial <= this.last);
+    }
+
+    /**
+     * Returns <code>true</code> if the specified date is a business day.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean isBusinessDay(final int serial) {
+        return this.previous[index(serial)] == serial;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified date is a business day.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean isBusinessDay(final SerialDate date) {
+        return isBusinessDay(date.toSerial());
+    }
+
+    /**
+     * Returns the next business day on or after the specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The business day (serial number).
+     */
+    public int following(final int serial) {
+        return check(this.next[index(serial)]);
+    }
+
+    /**
+     * Returns the previous business day on or before the specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The business day (serial number).
+     */
+    public int preceding(final int serial) {
+        return check(this.previous[index(serial)]);
+    }
+
+    /**
+     * Adjusts a date to a business day.
+     *
+     * @param serial  the date (serial number).
+     * @param convention  the adjustment convention
+     *                    (<code>SerialDate.FOLLOWING</code>,
+     *                    <code>MODIFIED_FOLLOWING</code>,
+     *                    <code>SerialDate.PRECEDING</code>,
+     *                    <code>MODIFIED_PRECEDING</code> or
+     *                    <code>SerialDate.NEAREST</code>).
+     *
+     * @return The adjusted date (serial number).
+     */
+    public int adjust(final int serial, final int convention) {
+        final int i = index(serial);
+        switch (convention) {
+            case SerialDate.FOLLOWING:
+                return check(this.next[i]);
+            case SerialDate.PRECEDING:
+                return check(this.previous[i]);
+            case MODIFIED_FOLLOWING: {
+                final int f = this.next[i];
+                if ((f != NONE) && (f <= SerialDateArithmetic.endOfMonth(
+                        serial))) {
+                    return f;
+                }
+                return check(this.previous[i]);
+            }
+            case MODIFIED_PRECEDING: {
+                final int p = this.previous[i];
+                if ((p != NONE) && (p > serial
+                        - SerialDateArithmetic.getDayOfMonth(serial))) {
+                    return p;
+                }
+                return check(this.next[i]);
+            }
+            case SerialDate.NEAREST: {
+                // ties go to the following business day...
+                final int f = this.next[i];
+                final int p = this.previous[i];
+                if (p == NONE) {
+                    return check(f);
+                }
+                if ((f == NONE) || (serial - p < f - serial)) {
+                    return p;
+                }
+                return f;
+            }
+            default:
+                throw new IllegalArgumentException(
+                    "BusinessDayCalendar.adjust(): invalid convention.");
+        }
+    }
+
+    /**
+     * Adjusts a date to a business day.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     * @param convention  the adjustment convention.
+     *
+     * @return The adjusted date.
+     */
+    public SerialDate adjust(final SerialDate date, final int convention) {
+        return SerialDate.createInstance(adjust(date.toSerial(), convention));
+    }
+
+    /**
+     * Adjusts an array of dates (for example a schedule) to business days.
+     *
+     * @param serials  the dates (serial numbers).
+     * @param convention  the adjustment convention.
+     *
+     * @return The adjusted dates.
+     */
+    public int[] adjust(final int[] serials, final int convention) {
+        final int[] result = new int[serials.length];
+        adjust(serials, convention, result);
+        return result;
+    }
+
+    /**
+     * Adjusts an array of dates to business days, writing the results into
+     * <code>result</code> (which may be the same array as
+     * <code>serials</code>).
+     *
+     * @param serials  the dates (serial numbers).
+     * @param convention  the adjustment convention.
+     * @param result  the array for the results (same length as
+     *                <code>serials</code>).
+     */
+    public void adjust(final int[] serials, final int convention,
+                       final int[] result) {
+        if (result.length != serials.length) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar.adjust(): array lengths differ.");
+        }
+        switch (convention) {
+            case SerialDate.FOLLOWING:
+                for (int i = 0; i < serials.length; i++) {
+                    result[i] = check(this.next[index(serials[i])]);
+                }
+                break;
+            case SerialDate.PRECEDING:
+                for (int i = 0; i < serials.length; i++) {
+                    result[i] = check(this.previous[index(serials[i])]);
+                }
+                break;
+            default:
+                for (int i = 0; i < serials.length; i++) {
+                    result[i] = adjust(serials[i], convention);
+                }
+        }
+    }
+
+    /**
+     * Adds a number of business days to a date.  If the date is not a
+     * business day, it is first moved to the preceding business day (when
+     * adding) or the following business day (when subtracting), so that
+     * adding one business day to a Saturday gives the following Monday.
+     * Adding zero days gives the following business day.
+     *
+     * @param days  the number of business days (can be negative).
+     * @param serial  the base date (serial number).
+     *
+     * @return The new date (serial number).
+     */
+    public int addBusinessDays(final int days, final int serial) {
+        final int i = index(serial);
+        int r = this.rank[i] - 1;
+        if ((days <= 0) && (this.previous[i] != serial)) {
+            r++;
+        }
+        r += days;
+        if ((r < 0) || (r >= this.businessDays.length)) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar.addBusinessDays(): result is outside "
+                + "the range of the calendar.");
+        }
+        return this.businessDays[r];
+    }
+
+    /**
+     * Returns the number of business days after <code>start</code>, up to
+     * and including <code>end</code> (negative if <code>end</code> is before
+     * <code>start</code>).
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The number of business days.
+     */
+    public int businessDaysBetween(final int start, final int end) {
+        return this.rank[index(end)] - this.rank[index(start)];
+    }
+
+    /**
+     * Returns the number of business days in the range of the calendar up to
+     * and including the specified date.  This is a position that increases by
+     * one on each business day, so differences between ranks count business
+     * days.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The rank.
+     */
+    public int rank(final int serial) {
+        return this.rank[index(serial)];
+    }
+
+    /**
+     * Returns the number of business days in the range of the calendar.
+     *
+     * @return The number of business days.
+     */
+    public int getBusinessDayCount() {
+        return this.businessDays.length;
+    }
+
+    /**
+     * Returns the business day with a given rank, so that
+     * <code>getBusinessDay(rank(d)) == d</code> for any business day d.
+     *
+     * @param rank  the rank (1 for the first business day in the range).
+     *
+     * @return The business day (serial number).
+     */
+    public int getBusinessDay(final int rank) {
+        if ((rank < 1) || (rank > this.businessDays.length)) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar.getBusinessDay(): rank out of range.");
+        }
+        return this.businessDays[rank - 1];
+    }
+
+    /**
+     * Returns the index of a date in the lookup tables.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The index.
+     */
+    private int index(final int serial) {
+        if ((serial < this.first) || (serial > this.last)) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar: date is outside the range of the "
+                + "calendar.");
+        }
+        return serial - this.first;
+    }
+
+    /**
+     * Checks a value read from the lookup tables.
+     *
+     * @param serial  the value.
+     *
+     * @return The value.
+     */
+    private static int check(final int serial) {
+        if (serial == NONE) {
+            throw new IllegalArgumentException(
+                "BusinessDayCalendar: no business day in the range of the "
+                + "calendar.");
+        }
+        return serial;
+    }
+
+    /**
+     * Returns <code>true</code> if a date is a business day.
+     *
+     * @param serial  the date (serial number).
+     * @param weekendMask  the weekend mask.
+     * @param holidays  the holidays (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isBusinessDay(final int serial,
+                                         final int weekendMask,
+                                         final BitSet holidays) {
+        final int dow = SerialDateArithmetic.getDayOfWeek(serial);
+        if ((weekendMask & (1 << dow)) != 0) {
+            return false;
+        }
+        return (holidays == null) || !holidays.get(serial);
+    }
+
+}
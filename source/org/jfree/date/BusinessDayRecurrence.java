@@ -0,0 +1,158 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * BusinessDayRecurrence.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A recurrence on every nth business day of a {@link BusinessDayCalendar},
+ * counted from an anchor date (for example every fifth business day).
+ * <P>
+ * The occurrences are found from the calendar's business day ranks, so each
+ * query takes constant time.  The rule has no occurrences outside the range
+ * of the calendar.
+ */
+public class BusinessDayRecurrence extends RecurrenceRule {
+
+    /** The calendar. */
+    private final BusinessDayCalendar calendar;
+
+    /** The number of business days between occurrences. */
+    private final int interval;
+
+    /** The rank of the anchor business day. */
+    private final int anchorRank;
+
+    /** The first date covered by the calendar. */
+    private final int first;
+
+    /** The last date covered by the calendar. */
+    private final int last;
+
+    /**
+     * Creates a new recurrence.
+     *
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     * @param interval  the number of business days between occurrences.
+     * @param anchor  a date within the calendar; the first business day on
+     *                or after it is an occurrence (serial number).
+     */
+    public BusinessDayRecurrence(final BusinessDayCalendar calendar,
+                                 final int interval, final int anchor) {
+        if (calendar == null) {
+            throw new IllegalArgumentException(
+                "BusinessDayRecurrence(): null 'calendar' argument.");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException(
+                "BusinessDayRecurrence(): interval must be at least 1.");
+        }
+        this.calendar = calendar;
+        this.interval = interval;
+        this.anchorRank = calendar.rank(calendar.following(anchor));
+        this.first = SerialDateArithmetic.yearStart(calendar.getFirstYear());
+        this.last = SerialDateArithmetic.yearStart(calendar.getLastYear() + 1)
+                    - 1;
+    }
+
+    /**
+     * Returns the calendar.
+     *
+     * @return The calendar.
+     */
+    public BusinessDayCalendar getCalendar() {
+        return this.calendar;
+    }
+
+    /**
+     * Returns the number of business days between occurrences.
+     *
+     * @return The interval.
+     */
+    public int getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence, or {@link #NONE}.
+     */
+    public int nextOccurrence(final int after) {
+        if (after >= this.last) {
+            return NONE;
+        }
+        // the number of business days on or before the date...
+        final int r = (after < this.first) ? 0 : this.calendar.rank(after);
+        final int target = r + 1
+                + Math.floorMod(this.anchorRank - r - 1, this.interval);
+        if (target > this.calendar.getBusinessDayCount()) {
+            return NONE;
+        }
+        return this.calendar.getBusinessDay(target);
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence, or {@link #NONE}.
+     */
+    public int previousOccurrence(final int before) {
+        if (before <= this.first) {
+            return NONE;
+        }
+        // the number of business days strictly before the date...
+        final int r = (before > this.last)
+                ? this.calendar.getBusinessDayCount()
+                : this.calendar.rank(before - 1);
+        final int target = r - Math.floorMod(r - this.anchorRank,
+                this.interval);
+        if (target < 1) {
+            return NONE;
+        }
+        return this.calendar.getBusinessDay(target);
+    }
+
+}
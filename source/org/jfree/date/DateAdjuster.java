@@ -0,0 +1,662 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * DateAdjuster.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added applyParallel();
+ * 19-Oct-2026 : Cache adjusters by expression only, binding the calendar
+ *               after the lookup;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A compiled date adjustment, such as "3M", "1Y2M", "EOM" or "+2BD MF",
+ * that works directly on serial numbers.
+ * <P>
+ * An expression is a sequence of steps separated by white space, applied
+ * from left to right:
+ * <ul>
+ * <li>a tenor, made up of one or more amounts with the units
+ *     <code>D</code> (days), <code>W</code> (weeks), <code>M</code> (months)
+ *     and <code>Y</code> (years), optionally preceded by a sign that applies
+ *     to the whole tenor (for example <code>3M</code>, <code>1Y2M</code> or
+ *     <code>-1W</code>).  The years and months are added in one step with
+ *     the day-clamping rule of {@link SerialDate#addMonths(int, SerialDate)},
+ *     then the days are added;</li>
+ * <li><code>EOM</code> - moves to the last day of the month;</li>
+ * <li>an amount of business days (for example <code>+2BD</code> or
+ *     <code>-1BD</code>, see
+ *     {@link BusinessDayCalendar#addBusinessDays(int, int)});</li>
+ * <li>a business day adjustment: <code>F</code> (following),
+ *     <code>MF</code> (modified following), <code>P</code> (preceding),
+ *     <code>MP</code> (modified preceding) or <code>N</code> (nearest);</li>
+ * <li>a day of the week (<code>SUN</code> to <code>SAT</code>) preceded by
+ *     <code>+</code> for the first such day on or after the date,
+ *     <code>-</code> for the last such day on or before the date, or
+ *     <code>~</code> for the nearest such day.</li>
+ * </ul>
+ * The business day steps need a {@link BusinessDayCalendar}.
+ * <P>
+ * An adjuster is an immutable program of integer operations, so it is
+ * thread-safe and applying it creates no objects.  The {@link #compile}
+ * methods keep recently used adjusters in a bounded cache (see
+ * {@link DateMetrics#ADJUSTER_CACHE}).  Adjusters can also be assembled
+ * step by step with a {@link DateAdjusterBuilder}.
+ */
+public final class DateAdjuster {
+
+    /** The maximum number of adjusters in the cache. */
+    public static final int CACHE_SIZE = 256;
+
+    /**
+     * The number of dates below which {@link #applyParallel(int[], int[])}
+     * does not split the work any further.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Operation code: add months. */
+    static final int ADD_MONTHS = 0;
+
+    /** Operation code: add days. */
+    static final int ADD_DAYS = 1;
+
+    /** Operation code: move to the end of the month. */
+    static final int END_OF_MONTH = 2;
+
+    /** Operation code: add business days. */
+    static final int ADD_BUSINESS_DAYS = 3;
+
+    /** Operation code: business day adjustment. */
+    static final int ADJUST = 4;
+
+    /** Operation code: the day of the week on or after the date. */
+    static final int NEXT_WEEKDAY = 5;
+
+    /** Operation code: the day of the week on or before the date. */
+    static final int PREVIOUS_WEEKDAY = 6;
+
+    /** Operation code: the nearest day of the week. */
+    static final int NEAREST_WEEKDAY = 7;
+
+    /** Day-of-the-week names, indexed by day code - 1. */
+    static final String[] WEEKDAYS = {"SUN", "MON", "TUE", "WED",
+        "THU", "FRI", "SAT"};
+
+    /**
+     * The cache of compiled adjusters without calendars, keyed by
+     * expression, in access order.
+     */
+    private static final Map<String, DateAdjuster> CACHE
+        = new LinkedHashMap<String, DateAdjuster>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(
+                final Map.Entry<String, DateAdjuster> eldest) {
+            if (size() > CACHE_SIZE) {
+                DateMetrics.cacheEviction(DateMetrics.ADJUSTER_CACHE);
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /** The expression (or a description of the steps). */
+    private final String expression;
+
+    /** The operation codes. */
+    private final int[] ops;
+
+    /** The argument for each operation. */
+    private final int[] args;
+
+    /** The calendar for each operation (<code>null</code> if not needed). */
+    private final BusinessDayCalendar[] calendars;
+
+    /**
+     * Creates a new adjuster.  The arrays are not copied.
+     *
+     * @param expression  the expression.
+     * @param ops  the operation codes.
+     * @param args  the arguments.
+     * @param calendars  the calendars.
+     */
+    DateAdjuster(final String expression, final int[] ops, final int[] args,
+                 final BusinessDayCalendar[] calendars) {
+        this.expression = expression;
+        this.ops = ops;
+        this.args = args;
+        this.calendars = calendars;
+    }
+
+    /**
+     * Returns the adjuster for an expression that does not use business
+     * days.
+     *
+     * @param expression  the expression (<code>null</code> not permitted).
+     *
+     * @return The adjuster.
+     */
+    public static DateAdjuster compile(final String expression) {
+        return compile(expression, null);
+    }
+
+    /**
+     * Returns the adjuster for an expression, taking it from the cache if
+     * it has been compiled recently.  The cache holds the adjusters without
+     * their calendars, so it does not keep calendars alive; the calendar is
+     * bound to the cached adjuster on each call.
+     *
+     * @param expression  the expression (<code>null</code> not permitted).
+     * @param calendar  the calendar for the business day steps
+     *                  (<code>null</code> permitted if there are none).
+     *
+     * @return The adjuster.
+     */
+    public static DateAdjuster compile(final String expression,
+                                       final BusinessDayCalendar calendar) {
+        if (expression == null) {
+            throw new IllegalArgumentException(
+                "DateAdjuster.compile(): null expression.");
+        }
+        DateAdjuster result;
+        synchronized (CACHE) {
+            result = CACHE.get(expression);
+        }
+        if (result != null) {
+            DateMetrics.cacheHit(DateMetrics.ADJUSTER_CACHE);
+        }
+        else {
+            DateMetrics.cacheMiss(DateMetrics.ADJUSTER_CACHE);
+            result = parse(expression);
+            synchronized (CACHE) {
+                if (CACHE.put(expression, result) == null) {
+                    DateMetrics.cacheAddition(DateMetrics.ADJUSTER_CACHE);
+                }
+            }
+        }
+        return result.bind(calendar);
+    }
+
+    /**
+     * Returns this adjuster with a calendar for each business day step.
+     * This adjuster is returned as it is if it has no such steps.
+     *
+     * @param calendar  the calendar (<code>null</code> permitted if there
+     *                  are no business day steps).
+     *
+     * @return The adjuster.
+     */
+    private DateAdjuster bind(final BusinessDayCalendar calendar) {
+        BusinessDayCalendar[] bound = null;
+        for (int i = 0; i < this.ops.length; i++) {
+            if ((this.ops[i] == ADD_BUSINESS_DAYS)
+                || (this.ops[i] == ADJUST)) {
+                if (calendar == null) {
+                    throw new IllegalArgumentException(
+                        "DateAdjuster.compile(): business day step needs a "
+                        + "calendar: " + this.expression);
+                }
+                if (bound == null) {
+                    bound = new BusinessDayCalendar[this.ops.length];
+                }
+                bound[i] = calendar;
+            }
+        }
+        if (bound == null) {
+            return this;
+        }
+        return new DateAdjuster(this.expression, this.ops, this.args, bound);
+    }
+
+    /**
+     * Returns the expression for this adjuster.
+     *
+     * @return The expression.
+     */
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /**
+     * Applies the adjustment to a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The adjusted date (serial number).
+     */
+    public int apply(final int serial) {
+        int s = serial;
+        for (int i = 0; i < this.ops.length; i++) {
+            s = step(this.ops[i], this.args[i], this.calendars[i], s);
+        }
+        return s;
+    }
+
+    /**
+     * Applies the adjustment to a date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return The adjusted date.
+     */
+    public SerialDate apply(final SerialDate date) {
+        return SerialDate.createInstance(apply(date.toSerial()));
+    }
+
+    /**
+     * Applies the adjustment to an array of dates.
+     *
+     * @param serials  the dates (serial numbers).
+     *
+     * @return The adjusted dates.
+     */
+    public int[] apply(final int[] serials) {
+        final int[] result = new int[serials.length];
+        apply(serials, result);
+        return result;
+    }
+
+    /**
+     * Applies the adjustment to an array of dates, writing the results into
+     * <code>result</code> (which may be the same array as
+     * <code>serials</code>).
+     *
+     * @param serials  the dates (serial numbers).
+     * @param result  the array for the results (same length as
+     *                <code>serials</code>).
+     */
+    public void apply(final int[] serials, final int[] result) {
+        if (result.length != serials.length) {
+            throw new IllegalArgumentException(
+                "DateAdjuster.apply(): array lengths differ.");
+        }
+        apply(serials, result, 0, serials.length);
+    }
+
+    /**
+     * Applies the adjustment to an array of dates, splitting the array into
+     * chunks that are processed in parallel in the common
+     * <code>ForkJoinPool</code>.  This is worthwhile for arrays of millions
+     * of dates; small arrays are processed in the calling thread.
+     *
+     * @param serials  the dates (serial numbers).
+     * @param result  the array for the results (same length as
+     *                <code>serials</code>, and may be the same array).
+     */
+    public void applyParallel(final int[] serials, final int[] result) {
+        if (result.length != serials.length) {
+            throw new IllegalArgumentException(
+                "DateAdjuster.applyParallel(): array lengths differ.");
+        }
+        if (serials.length <= PARALLEL_THRESHOLD) {
+            apply(serials, result, 0, serials.length);
+        }
+        else {
+            ForkJoinPool.commonPool().invoke(
+                new ApplyTask(this, serials, result, 0, serials.length));
+        }
+    }
+
+    /**
+     * Applies the adjustment to part of an array of dates.
+     *
+     * @param serials  the dates (serial numbers).
+     * @param result  the array for the results.
+     * @param from  the first index (inclusive).
+     * @param to  the last index (exclusive).
+     */
+    void apply(final int[] serials, final int[] result, final int from,
+               final int to) {
+        for (int j = from; j < to; j++) {
+            int s = serials[j];
+            for (int i = 0; i < this.ops.length; i++) {
+                s = step(this.ops[i], this.args[i], this.calendars[i], s);
+            }
+            result[j] = s;
+        }
+    }
+
+    /**
+     * Passes the operations of this adjuster to a builder.
+     *
+     * @param builder  the builder.
+     */
+    void appendTo(final DateAdjusterBuilder builder) {
+        for (int i = 0; i < this.ops.length; i++) {
+            builder.add(this.ops[i], this.args[i], this.calendars[i]);
+        }
+    }
+
+    /**
+     * Returns a string representing the adjuster.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        return this.expression;
+    }
+
+    /**
+     * Performs one operation.
+     *
+     * @param op  the operation code.
+     * @param arg  the argument.
+     * @param calendar  the calendar (<code>null</code> permitted for
+     *                  operations that do not need one).
+     * @param s  the date (serial number).
+     *
+     * @return The new date (serial number).
+     */
+    static int step(final int op, final int arg,
+                    final BusinessDayCalendar calendar, final int s) {
+        switch (op) {
+            case ADD_MONTHS:
+                return SerialDateArithmetic.addMonths(arg, s);
+            case ADD_DAYS:
+                return s + arg;
+            case END_OF_MONTH:
+                return SerialDateArithmetic.endOfMonth(s);
+            case ADD_BUSINESS_DAYS:
+                return calendar.addBusinessDays(arg, s);
+            case ADJUST:
+                return calendar.adjust(s, arg);
+            case NEXT_WEEKDAY:
+                return s + (arg - SerialDateArithmetic.getDayOfWeek(s) + 7)
+                       % 7;
+            case PREVIOUS_WEEKDAY:
+                return s - (SerialDateArithmetic.getDayOfWeek(s) - arg + 7)
+                       % 7;
+            case NEAREST_WEEKDAY: {
+                int d = (arg - SerialDateArithmetic.getDayOfWeek(s) + 7) % 7;
+                if (d > 3) {
+                    d = d - 7;
+                }
+                return s + d;
+            }
+            default:
+                throw new IllegalStateException(
+                    "DateAdjuster: unknown operation.");
+        }
+    }
+
+    /**
+     * Parses an expression.  The adjuster has no calendars (see
+     * {@link #bind(BusinessDayCalendar)}).
+     *
+     * @param expression  the expression.
+     *
+     * @return The adjuster.
+     */
+    private static DateAdjuster parse(final String expression) {
+        final List<int[]> ops = new ArrayList<int[]>();
+        final StringTokenizer tokens = new StringTokenizer(expression);
+        while (tokens.hasMoreTokens()) {
+            final String token = tokens.nextToken().toUpperCase(Locale.ROOT);
+            if (token.equals("EOM")) {
+                ops.add(new int[] {END_OF_MONTH, 0});
+            }
+            else if (token.equals("F")) {
+                ops.add(new int[] {ADJUST, SerialDate.FOLLOWING});
+            }
+            else if (token.equals("MF")) {
+                ops.add(new int[] {ADJUST,
+                    BusinessDayCalendar.MODIFIED_FOLLOWING});
+            }
+            else if (token.equals("P")) {
+                ops.add(new int[] {ADJUST, SerialDate.PRECEDING});
+            }
+            else if (token.equals("MP")) {
+                ops.add(new int[] {ADJUST,
+                    BusinessDayCalendar.MODIFIED_PRECEDING});
+            }
+            else if (token.equals("N")) {
+                ops.add(new int[] {ADJUST, SerialDate.NEAREST});
+            }
+            else if (token.endsWith("BD")) {
+                ops.add(new int[] {ADD_BUSINESS_DAYS, parseAmount(
+                        token.substring(0, token.length() - 2), expression)});
+            }
+            else if ((token.length() == 4) && (weekday(token) > 0)) {
+                final int code = weekday(token);
+                switch (token.charAt(0)) {
+                    case '+':
+                        ops.add(new int[] {NEXT_WEEKDAY, code});
+                        break;
+                    case '-':
+                        ops.add(new int[] {PREVIOUS_WEEKDAY, code});
+                        break;
+                    default:
+                        ops.add(new int[] {NEAREST_WEEKDAY, code});
+                }
+            }
+            else {
+                parseTenor(token, expression, ops);
+            }
+        }
+
+        final int n = ops.size();
+        final int[] codes = new int[n];
+        final int[] args = new int[n];
+        for (int i = 0; i < n; i++) {
+            final int[] op = ops.get(i);
+            codes[i] = op[0];
+            args[i] = op[1];
+        }
+        return new DateAdjuster(expression, codes, args,
+                new BusinessDayCalendar[n]);
+    }
+
+    /**
+     * Returns the day code for a token such as "+MON", or zero if the token
+     * is not a day of the week with a valid prefix.
+     *
+     * @param token  the token (four characters, upper case).
+     *
+     * @return The day code, or zero.
+     */
+    private static int weekday(final String token) {
+        final char prefix = token.charAt(0);
+        if ((prefix != '+') && (prefix != '-') && (prefix != '~')) {
+            return 0;
+        }
+        final String name = token.substring(1);
+        for (int i = 0; i < WEEKDAYS.length; i++) {
+            if (WEEKDAYS[i].equals(name)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Parses a tenor such as "1Y2M" or "-3W" and adds the operations for it.
+     *
+     * @param token  the token (upper case).
+     * @param expression  the expression (for error messages).
+     * @param ops  the list of operations.
+     */
+    private static void parseTenor(final String token, final String expression,
+                                   final List<int[]> ops) {
+        int i = 0;
+        int sign = 1;
+        if ((token.charAt(0) == '+') || (token.charAt(0) == '-')) {
+            sign = (token.charAt(0) == '-') ? -1 : 1;
+            i++;
+        }
+        if (i == token.length()) {
+            throw invalid(expression);
+        }
+        int months = 0;
+        int days = 0;
+        while (i < token.length()) {
+            final int start = i;
+            while ((i < token.length()) && Character.isDigit(token.charAt(i))) {
+                i++;
+            }
+            if ((i == start) || (i == token.length())) {
+                throw invalid(expression);
+            }
+            final int amount = parseAmount(token.substring(start, i),
+                    expression);
+            switch (token.charAt(i)) {
+                case 'D':
+                    days += amount;
+                    break;
+                case 'W':
+                    days += 7 * amount;
+                    break;
+                case 'M':
+                    months += amount;
+                    break;
+                case 'Y':
+                    months += 12 * amount;
+                    break;
+                default:
+                    throw invalid(expression);
+            }
+            i++;
+        }
+        if (months != 0) {
+            ops.add(new int[] {ADD_MONTHS, sign * months});
+        }
+        if (days != 0) {
+            ops.add(new int[] {ADD_DAYS, sign * days});
+        }
+    }
+
+    /**
+     * Parses a (possibly signed) integer amount.
+     *
+     * @param text  the text.
+     * @param expression  the expression (for error messages).
+     *
+     * @return The amount.
+     */
+    private static int parseAmount(final String text,
+                                   final String expression) {
+        try {
+            return Integer.parseInt(text.startsWith("+")
+                                    ? text.substring(1) : text);
+        }
+        catch (NumberFormatException e) {
+            throw invalid(expression);
+        }
+    }
+
+    /**
+     * Returns an exception for an invalid expression.
+     *
+     * @param expression  the expression.
+     *
+     * @return The exception.
+     */
+    private static IllegalArgumentException invalid(final String expression) {
+        return new IllegalArgumentException(
+            "DateAdjuster.compile(): invalid expression: " + expression);
+    }
+
+    /**
+     * A task that applies an adjuster to a range of an array, splitting the
+     * range in two until it is below the threshold.
+     */
+    private static final class ApplyTask extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -3409717284357146517L;
+
+        /** The adjuster. */
+        private final DateAdjuster adjuster;
+
+        /** The dates. */
+        private final int[] serials;
+
+        /** The array for the results. */
+        private final int[] result;
+
+        /** The first index (inclusive). */
+        private final int from;
+
+        /** The last index (exclusive). */
+        private final int to;
+
+        /**
+         * Creates a new task.
+         *
+         * @param adjuster  the adjuster.
+         * @param serials  the dates.
+         * @param result  the array for the results.
+         * @param from  the first index (inclusive).
+         * @param to  the last index (exclusive).
+         */
+        ApplyTask(final DateAdjuster adjuster, final int[] serials,
+                  final int[] result, final int from, final int to) {
+            this.adjuster = adjuster;
+            this.serials = serials;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Applies the adjuster, or splits the range.
+         */
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_THRESHOLD) {
+                this.adjuster.apply(this.serials, this.result, this.from,
+                        this.to);
+            }
+            else {
+                final int mid = (this.from + this.to) >>> 1;
+                invokeAll(new ApplyTask(this.adjuster, this.serials,
+                        this.result, this.from, mid),
+                    new ApplyTask(this.adjuster, this.serials, this.result,
+                        mid, this.to));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,374 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * DateAlignment.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Removed redundant casts;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+
+/**
+ * Aligns several date series on a common index of dates, recording for
+ * each series and each date the slot that holds the series value (see
+ * {@link AbstractDateSeries#slots()}), so that the values themselves are
+ * never copied.  A slot of -1 means the series has no value for the date.
+ * <P>
+ * {@link #union} and {@link #intersection} build the index with a k-way
+ * merge of the sorted dates of the series, using a heap, so the cost is
+ * O(n log k) for n dates in k series rather than a lookup of every date in
+ * every series.  {@link #asOf} aligns the series on a given index, carrying
+ * the latest earlier value forward (optionally only for a limited number of
+ * calendar days or business days); each series is aligned in a single
+ * forward pass.
+ * <P>
+ * The slots are valid until the series are next modified.
+ */
+public final class DateAlignment {
+
+    /** A staleness limit meaning that values are carried forward forever. */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    /** The dates in the index (ascending). */
+    private final int[] serials;
+
+    /** The slots for each series, indexed by series then date. */
+    private final int[][] slots;
+
+    /**
+     * Creates a new alignment.
+     *
+     * @param serials  the dates (not copied).
+     * @param slots  the slots (not copied).
+     */
+    private DateAlignment(final int[] serials, final int[][] slots) {
+        this.serials = serials;
+        this.slots = slots;
+    }
+
+    /**
+     * Aligns series on the dates where any series has a value.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The alignment.
+     */
+    public static DateAlignment union(final AbstractDateSeries[] series) {
+        return merge(series, false);
+    }
+
+    /**
+     * Aligns series on the dates where every series has a value.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The alignment.
+     */
+    public static DateAlignment intersection(
+            final AbstractDateSeries[] series) {
+        return merge(series, true);
+    }
+
+    /**
+     * Aligns series on an index of dates, using for each date the value on
+     * that date or, failing that, the latest earlier value.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param index  the dates (ascending serial numbers, <code>null</code>
+     *               not permitted).
+     *
+     * @return The alignment.
+     */
+    public static DateAlignment asOf(final AbstractDateSeries[] series,
+                                     final int[] index) {
+        return asOf(series, index, NO_LIMIT);
+    }
+
+    /**
+     * Aligns series on an index of dates, using for each date the value on
+     * that date or, failing that, the latest earlier value no more than
+     * <code>maxDays</code> calendar days old.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param index  the dates (ascending serial numbers, <code>null</code>
+     *               not permitted).
+     * @param maxDays  the staleness limit in days ({@link #NO_LIMIT} for
+     *                 none).
+     *
+     * @return The alignment.
+     */
+    public static DateAlignment asOf(final AbstractDateSeries[] series,
+                                     final int[] index, final int maxDays) {
+        return asOf(series, index, null, maxDays);
+    }
+
+    /**
+     * Aligns series on an index of dates, using for each date the value on
+     * that date or, failing that, the latest earlier value no more than
+     * <code>maxDays</code> business days old.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param index  the dates (ascending serial numbers, <code>null</code>
+     *               not permitted).
+     * @param calendar  the calendar that defines business days
+     *                  (<code>null</code> not permitted).
+     * @param maxDays  the staleness limit in business days.
+     *
+     * @return The alignment.
+     */
+    public static DateAlignment asOf(final AbstractDateSeries[] series,
+                                     final int[] index,
+                                     final BusinessDayCalendar calendar,
+                                     final int maxDays) {
+        if (maxDays < 0) {
+            throw new IllegalArgumentException(
+                "DateAlignment.asOf(): negative staleness limit.");
+        }
+        for (int i = 1; i < index.length; i++) {
+            if (index[i] <= index[i - 1]) {
+                throw new IllegalArgumentException(
+                    "DateAlignment.asOf(): index not strictly ascending.");
+            }
+        }
+        final int[][] slots = new int[series.length][];
+        for (int k = 0; k < series.length; k++) {
+            final int[] keys = series[k].serials();
+            final int[] from = series[k].slots();
+            final int[] to = new int[index.length];
+            int j = 0;
+            for (int i = 0; i < index.length; i++) {
+                while ((j < keys.length) && (keys[j] <= index[i])) {
+                    j++;
+                }
+                to[i] = -1;
+                if (j > 0) {
+                    final int age = (calendar == null)
+                            ? index[i] - keys[j - 1]
+                            : calendar.businessDaysBetween(keys[j - 1],
+                                    index[i]);
+                    if (age <= maxDays) {
+                        to[i] = from[j - 1];
+                    }
+                }
+            }
+            slots[k] = to;
+        }
+        return new DateAlignment(index.clone(), slots);
+    }
+
+    /**
+     * Merges the dates of several series.
+     *
+     * @param series  the series.
+     * @param all  only keep the dates where every series has a value?
+     *
+     * @return The alignment.
+     */
+    private static DateAlignment merge(final AbstractDateSeries[] series,
+                                       final boolean all) {
+        final int k = series.length;
+        final int[][] keys = new int[k][];
+        final int[][] from = new int[k][];
+        final int[] cursor = new int[k];
+        int bound = all ? Integer.MAX_VALUE : 0;
+        for (int s = 0; s < k; s++) {
+            keys[s] = series[s].serials();
+            from[s] = series[s].slots();
+            bound = all ? Math.min(bound, keys[s].length)
+                        : bound + keys[s].length;
+        }
+        if (k == 0) {
+            bound = 0;
+        }
+
+        // a heap of the series, ordered by the date at their cursor...
+        final int[] heap = new int[k];
+        int heapSize = 0;
+        for (int s = 0; s < k; s++) {
+            if (keys[s].length > 0) {
+                heap[heapSize++] = s;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, keys, cursor);
+        }
+
+        final int[] serials = new int[bound];
+        final int[][] slots = new int[k][bound];
+        final int[] matched = new int[k];
+        int n = 0;
+        while ((heapSize > 0) && (!all || (heapSize == k))) {
+            final int serial = head(heap[0], keys, cursor);
+            int m = 0;
+            while ((heapSize > 0)
+                    && (head(heap[0], keys, cursor) == serial)) {
+                final int s = heap[0];
+                matched[m++] = s;
+                if (++cursor[s] == keys[s].length) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, keys, cursor);
+            }
+            if (!all || (m == k)) {
+                for (int s = 0; s < k; s++) {
+                    slots[s][n] = -1;
+                }
+                for (int i = 0; i < m; i++) {
+                    final int s = matched[i];
+                    slots[s][n] = from[s][cursor[s] - 1];
+                }
+                serials[n++] = serial;
+            }
+        }
+        for (int s = 0; s < k; s++) {
+            slots[s] = Arrays.copyOf(slots[s], n);
+        }
+        return new DateAlignment(Arrays.copyOf(serials, n), slots);
+    }
+
+    /**
+     * Restores the heap order below a position.
+     *
+     * @param heap  the heap of series indices.
+     * @param size  the heap size.
+     * @param position  the position.
+     * @param keys  the dates of each series.
+     * @param cursor  the current position in each series.
+     */
+    private static void siftDown(final int[] heap, final int size,
+                                 final int position, final int[][] keys,
+                                 final int[] cursor) {
+        if (size == 0) {
+            return;
+        }
+        final int s = heap[position];
+        final int key = keys[s][cursor[s]];
+        int i = position;
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if ((child + 1 < size) && (head(heap[child + 1], keys, cursor)
+                    < head(heap[child], keys, cursor))) {
+                child++;
+            }
+            if (head(heap[child], keys, cursor) >= key) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = s;
+    }
+
+    /**
+     * Returns the date at the cursor of a series.
+     *
+     * @param s  the series index.
+     * @param keys  the dates of each series.
+     * @param cursor  the current position in each series.
+     *
+     * @return The date (serial number).
+     */
+    private static int head(final int s, final int[][] keys,
+                            final int[] cursor) {
+        return keys[s][cursor[s]];
+    }
+
+    /**
+     * Returns the number of dates in the index.
+     *
+     * @return The number of dates.
+     */
+    public int size() {
+        return this.serials.length;
+    }
+
+    /**
+     * Returns the number of series.
+     *
+     * @return The number of series.
+     */
+    public int getSeriesCount() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns a date in the index.
+     *
+     * @param i  the position in the index.
+     *
+     * @return The date (serial number).
+     */
+    public int getSerial(final int i) {
+        return this.serials[i];
+    }
+
+    /**
+     * Returns a copy of the dates in the index.
+     *
+     * @return The dates (serial numbers, ascending).
+     */
+    public int[] getSerials() {
+        return this.serials.clone();
+    }
+
+    /**
+     * Returns the slot holding a series value for a date in the index.
+     *
+     * @param series  the series index.
+     * @param i  the position in the index.
+     *
+     * @return The slot, or -1 if the series has no value.
+     */
+    public int getSlot(final int series, final int i) {
+        return this.slots[series][i];
+    }
+
+    /**
+     * Returns a copy of the slots for one series.
+     *
+     * @param series  the series index.
+     *
+     * @return The slots (-1 where the series has no value).
+     */
+    public int[] getSlots(final int series) {
+        return this.slots[series].clone();
+    }
+
+}
@@ -0,0 +1,487 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DateDimensionTable.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A date dimension table (year, month, day, weekday, quarter, ISO week,
+ * leap year, month end and business day for each date) stored in a file as
+ * columns, and read through a memory mapping.
+ * <P>
+ * {@link #write} generates the table once for a range of years, stepping
+ * through the dates without creating a {@link SerialDate} for each.
+ * {@link #open} maps the file read-only, so lookups are O(1) reads at an
+ * offset calculated from the serial number, and every process that opens
+ * the same file shares one copy in the operating system's page cache.
+ * <P>
+ * The file holds a header (the magic number, format version, first serial
+ * number and number of dates, as big-endian ints) followed by one column
+ * after another: year (short), month, day of month, day of week, quarter,
+ * ISO week (bytes), ISO week-based year (short) and flags (byte).
+ */
+public final class DateDimensionTable {
+
+    /** The magic number at the start of the file. */
+    public static final int MAGIC = 0x4A434444;
+
+    /** The file format version. */
+    public static final int VERSION = 1;
+
+    /** The size of the header in bytes. */
+    private static final int HEADER_SIZE = 16;
+
+    /** The number of bytes per date (over all columns). */
+    private static final int ROW_SIZE = 10;
+
+    /** Flag bit for a leap year. */
+    private static final int LEAP_YEAR = 1;
+
+    /** Flag bit for the last day of a month. */
+    private static final int MONTH_END = 2;
+
+    /** Flag bit for a business day. */
+    private static final int BUSINESS_DAY = 4;
+
+    /** The mapped file. */
+    private final MappedByteBuffer buffer;
+
+    /** The first date in the table (serial number). */
+    private final int first;
+
+    /** The number of dates in the table. */
+    private final int count;
+
+    /** The offset of the month column. */
+    private final int monthOffset;
+
+    /** The offset of the day of month column. */
+    private final int dayOffset;
+
+    /** The offset of the day of week column. */
+    private final int weekdayOffset;
+
+    /** The offset of the quarter column. */
+    private final int quarterOffset;
+
+    /** The offset of the ISO week column. */
+    private final int isoWeekOffset;
+
+    /** The offset of the ISO week-based year column. */
+    private final int isoYearOffset;
+
+    /** The offset of the flags column. */
+    private final int flagsOffset;
+
+    /**
+     * Creates a reader for a mapped file.
+     *
+     * @param buffer  the mapped file.
+     * @param first  the first date in the table.
+     * @param count  the number of dates.
+     */
+    private DateDimensionTable(final MappedByteBuffer buffer, final int first,
+                               final int count) {
+        this.buffer = buffer;
+        this.first = first;
+        this.count = count;
+        this.monthOffset = HEADER_SIZE + 2 * count;
+        this.dayOffset = this.monthOffset + count;
+        this.weekdayOffset = this.dayOffset + count;
+        this.quarterOffset = this.weekdayOffset + count;
+        this.isoWeekOffset = this.quarterOffset + count;
+        this.isoYearOffset = this.isoWeekOffset + count;
+        this.flagsOffset = this.isoYearOffset + 2 * count;
+    }
+
+    /**
+     * Writes a table for a range of years, with Saturday and Sunday as the
+     * only non-business days.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param firstYear  the first year (1900 or later).
+     * @param lastYear  the last year (9999 or earlier).
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(final File file, final int firstYear,
+                             final int lastYear) throws IOException {
+        write(file, firstYear, lastYear, null);
+    }
+
+    /**
+     * Writes a table for a range of years.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param firstYear  the first year (1900 or later).
+     * @param lastYear  the last year (9999 or earlier).
+     * @param calendar  the calendar that defines business days, covering
+     *                  the range of years (<code>null</code> for Monday to
+     *                  Friday).
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(final File file, final int firstYear,
+                             final int lastYear,
+                             final BusinessDayCalendar calendar)
+            throws IOException {
+        if ((firstYear < SerialDate.MINIMUM_YEAR_SUPPORTED)
+                || (lastYear > SerialDate.MAXIMUM_YEAR_SUPPORTED)
+                || (firstYear > lastYear)) {
+            throw new IllegalArgumentException(
+                "DateDimensionTable.write(): invalid range of years.");
+        }
+        if ((calendar != null) && ((calendar.getFirstYear() > firstYear)
+                || (calendar.getLastYear() < lastYear))) {
+            throw new IllegalArgumentException(
+                "DateDimensionTable.write(): calendar does not cover the "
+                + "range of years.");
+        }
+        final int first = SerialDateArithmetic.yearStart(firstYear);
+        final int n = SerialDateArithmetic.yearStart(lastYear + 1) - first;
+        final short[] years = new short[n];
+        final byte[] months = new byte[n];
+        final byte[] days = new byte[n];
+        final byte[] weekdays = new byte[n];
+        final byte[] quarters = new byte[n];
+        final byte[] isoWeeks = new byte[n];
+        final short[] isoYears = new short[n];
+        final byte[] flags = new byte[n];
+
+        // step through the dates, carrying the day, month and year...
+        int i = 0;
+        int weekday = SerialDateArithmetic.getDayOfWeek(first);
+        int isoYear = firstYear;
+        int week1 = isoWeek1(firstYear);
+        int nextWeek1 = isoWeek1(firstYear + 1);
+        for (int y = firstYear; y <= lastYear; y++) {
+            final boolean leap = SerialDate.isLeapYear(y);
+            for (int m = MonthConstants.JANUARY; m <= MonthConstants.DECEMBER;
+                    m++) {
+                final int last = SerialDate.lastDayOfMonth(m, y);
+                for (int d = 1; d <= last; d++) {
+                    final int serial = first + i;
+                    if (serial >= nextWeek1) {
+                        isoYear++;
+                        week1 = nextWeek1;
+                        nextWeek1 = isoWeek1(isoYear + 1);
+                    }
+                    else if (serial < week1) {
+                        // only possible for the first few dates...
+                        isoYear--;
+                        nextWeek1 = week1;
+                        week1 = isoWeek1(isoYear);
+                    }
+                    years[i] = (short) y;
+                    months[i] = (byte) m;
+                    days[i] = (byte) d;
+                    weekdays[i] = (byte) weekday;
+                    quarters[i] = (byte) SerialDate.monthCodeToQuarter(m);
+                    isoWeeks[i] = (byte) ((serial - week1) / 7 + 1);
+                    isoYears[i] = (short) isoYear;
+                    final boolean business = (calendar != null)
+                            ? calendar.isBusinessDay(serial)
+                            : (weekday != SerialDate.SATURDAY)
+                              && (weekday != SerialDate.SUNDAY);
+                    flags[i] = (byte) ((leap ? LEAP_YEAR : 0)
+                            | ((d == last) ? MONTH_END : 0)
+                            | (business ? BUSINESS_DAY : 0));
+                    weekday = (weekday == SerialDate.SATURDAY)
+                              ? SerialDate.SUNDAY : weekday + 1;
+                    i++;
+                }
+            }
+        }
+
+        final DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(first);
+            out.writeInt(n);
+            for (int j = 0; j < n; j++) {
+                out.writeShort(years[j]);
+            }
+            out.write(months);
+            out.write(days);
+            out.write(weekdays);
+            out.write(quarters);
+            out.write(isoWeeks);
+            for (int j = 0; j < n; j++) {
+                out.writeShort(isoYears[j]);
+            }
+            out.write(flags);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Returns the first day of week 1 of an ISO week-based year (the Monday
+     * of the week containing 4 January).
+     *
+     * @param yyyy  the year.
+     *
+     * @return The date (serial number).
+     */
+    private static int isoWeek1(final int yyyy) {
+        final int jan4 = SerialDateArithmetic.yearStart(yyyy) + 3;
+        return jan4 - (SerialDateArithmetic.getDayOfWeek(jan4) + 5) % 7;
+    }
+
+    /**
+     * Opens a table written by {@link #write}.  The file is mapped
+     * read-only; the mapping remains valid after this method returns.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The table.
+     *
+     * @throws IOException if the file cannot be read or is not a table.
+     */
+    public static DateDimensionTable open(final File file)
+            throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            final MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if ((buffer.capacity() < HEADER_SIZE)
+                    || (buffer.getInt(0) != MAGIC)) {
+                throw new IOException(
+                    "DateDimensionTable.open(): not a date dimension table.");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(
+                    "DateDimensionTable.open(): unsupported version.");
+            }
+            final int first = buffer.getInt(8);
+            final int count = buffer.getInt(12);
+            if ((count < 0) || ((long) HEADER_SIZE
+                    + (long) ROW_SIZE * count != buffer.capacity())) {
+                throw new IOException(
+                    "DateDimensionTable.open(): file is truncated.");
+            }
+            return new DateDimensionTable(buffer, first, count);
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Returns the first date in the table.
+     *
+     * @return The date (serial number).
+     */
+    public int getFirstSerial() {
+        return this.first;
+    }
+
+    /**
+     * Returns the last date in the table.
+     *
+     * @return The date (serial number).
+     */
+    public int getLastSerial() {
+        return this.first + this.count - 1;
+    }
+
+    /**
+     * Returns <code>true</code> if the table has a row for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean covers(final int serial) {
+        return (serial >= this.first) && (serial - this.first < this.count);
+    }
+
+    /**
+     * Returns the year.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The year.
+     */
+    public int getYYYY(final int serial) {
+        return this.buffer.getShort(HEADER_SIZE + 2 * row(serial));
+    }
+
+    /**
+     * Returns the month.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The month (1-12).
+     */
+    public int getMonth(final int serial) {
+        return this.buffer.get(this.monthOffset + row(serial));
+    }
+
+    /**
+     * Returns the day of the month.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The day (1-31).
+     */
+    public int getDayOfMonth(final int serial) {
+        return this.buffer.get(this.dayOffset + row(serial));
+    }
+
+    /**
+     * Returns the day of the week.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The day code (<code>SerialDate.SUNDAY</code> etc.).
+     */
+    public int getDayOfWeek(final int serial) {
+        return this.buffer.get(this.weekdayOffset + row(serial));
+    }
+
+    /**
+     * Returns the calendar quarter.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The quarter (1-4).
+     */
+    public int getQuarter(final int serial) {
+        return this.buffer.get(this.quarterOffset + row(serial));
+    }
+
+    /**
+     * Returns the ISO week number.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The week (1-53).
+     */
+    public int getIsoWeek(final int serial) {
+        return this.buffer.get(this.isoWeekOffset + row(serial));
+    }
+
+    /**
+     * Returns the ISO week-based year, which differs from the calendar year
+     * for a few days around 1 January.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The year.
+     */
+    public int getIsoYear(final int serial) {
+        return this.buffer.getShort(this.isoYearOffset + 2 * row(serial));
+    }
+
+    /**
+     * Returns <code>true</code> if the date is in a leap year.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean isLeapYear(final int serial) {
+        return (flags(serial) & LEAP_YEAR) != 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the date is the last day of a month.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean isEndOfMonth(final int serial) {
+        return (flags(serial) & MONTH_END) != 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the date is a business day.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean isBusinessDay(final int serial) {
+        return (flags(serial) & BUSINESS_DAY) != 0;
+    }
+
+    /**
+     * Returns the flags for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The flags.
+     */
+    private int flags(final int serial) {
+        return this.buffer.get(this.flagsOffset + row(serial));
+    }
+
+    /**
+     * Returns the row for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The row.
+     */
+    private int row(final int serial) {
+        if (!covers(serial)) {
+            throw new IllegalArgumentException(
+                "DateDimensionTable: date is outside the table: " + serial);
+        }
+        return serial - this.first;
+    }
+
+}
@@ -0,0 +1,412 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * DateEventQueue.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Use generics and Integer.valueOf();
+ * 19-Oct-2026 : Skip empty buckets with a bitmap;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A queue of events scheduled for dates, for example the future actions of
+ * a workflow engine, that can be drained of everything due on or before a
+ * date.
+ * <P>
+ * The queue is a calendar queue with one bucket per day.  Events for the
+ * next {@link #WHEEL_SIZE} days (from the consumer's current date) are held
+ * in a ring of bucket lists, with a bitmap of the buckets that are not
+ * empty.  Adding an event for one of these days takes O(1) time, and
+ * draining takes O(1) time per event plus a bit scan of at most
+ * <code>WHEEL_SIZE / 64</code> words to find the next non-empty bucket, so
+ * days with no events cost nothing.
+ * <P>
+ * Later events wait in a sorted overflow map with one entry per distinct
+ * date, which keeps sparse far-future dates cheap in memory.  Adding the
+ * first event for such a date, and moving a date into the ring as the
+ * current date advances, take O(log m) time, where m is the number of
+ * distinct dates in the overflow map; further events for the same date
+ * are appended in O(1) time.  Each event passes through the map at most
+ * once.
+ * <P>
+ * Any number of threads can call {@link #add(int, Object)}: new events are
+ * pushed onto a lock-free list and only sorted into buckets by the consumer.
+ * The other methods must only be called from a single consumer thread.
+ * Events due on the same date are drained in the order they were added by
+ * each producer.
+ */
+public final class DateEventQueue {
+
+    /** The number of days held in the ring of buckets (a power of two). */
+    public static final int WHEEL_SIZE = 1024;
+
+    /** The mask for a bucket index. */
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    /** The number of words in the bitmap of non-empty buckets. */
+    private static final int WORDS = WHEEL_SIZE / 64;
+
+    /** Events added but not yet sorted into buckets (newest first). */
+    private final AtomicReference<Node> inbox;
+
+    /** The number of events in the queue. */
+    private final AtomicInteger size;
+
+    /** The first event in each bucket. */
+    private final Node[] heads;
+
+    /** The last event in each bucket. */
+    private final Node[] tails;
+
+    /** One bit for each bucket that holds events. */
+    private final long[] occupied;
+
+    /** The number of events in the buckets. */
+    private int wheelCount;
+
+    /** The current date: every earlier event has been drained. */
+    private int current;
+
+    /**
+     * Events after the ring, as Integer serial to a two-element array of
+     * the first and last node for that date.
+     */
+    private final SortedMap<Integer, Node[]> overflow;
+
+    /**
+     * Creates a new, empty queue.
+     */
+    public DateEventQueue() {
+        this(SerialDate.SERIAL_LOWER_BOUND);
+    }
+
+    /**
+     * Creates a new, empty queue.
+     *
+     * @param start  the first date to drain (serial number).  Events added
+     *               for earlier dates are due immediately.
+     */
+    public DateEventQueue(final int start) {
+        this.inbox = new AtomicReference<Node>();
+        this.size = new AtomicInteger();
+        this.heads = new Node[WHEEL_SIZE];
+        this.tails = new Node[WHEEL_SIZE];
+        this.occupied = new long[WORDS];
+        this.overflow = new TreeMap<Integer, Node[]>();
+        this.current = start;
+    }
+
+    /**
+     * Adds an event to the queue.  This method can be called from any
+     * thread.
+     *
+     * @param serial  the date the event is due (serial number).
+     * @param event  the event (<code>null</code> permitted).
+     */
+    public void add(final int serial, final Object event) {
+        final Node node = new Node(serial, event);
+        Node head;
+        do {
+            head = this.inbox.get();
+            node.next = head;
+        } while (!this.inbox.compareAndSet(head, node));
+        this.size.incrementAndGet();
+    }
+
+    /**
+     * Adds an event to the queue.  This method can be called from any
+     * thread.
+     *
+     * @param date  the date the event is due (<code>null</code> not
+     *              permitted).
+     * @param event  the event (<code>null</code> permitted).
+     */
+    public void add(final SerialDate date, final Object event) {
+        add(date.toSerial(), event);
+    }
+
+    /**
+     * Returns the number of events in the queue.
+     *
+     * @return The number of events.
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * Returns <code>true</code> if the queue is empty.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return this.size.get() == 0;
+    }
+
+    /**
+     * Returns the date up to which the queue has been drained.
+     *
+     * @return The first date that has not been drained (serial number).
+     */
+    public int getCurrentSerial() {
+        return this.current;
+    }
+
+    /**
+     * Removes the events due on or before a date, passing each one (with
+     * the date it was scheduled for) to a consumer in date order.
+     *
+     * @param serial  the date (serial number).
+     * @param consumer  the consumer (<code>null</code> not permitted).
+     *
+     * @return The number of events drained.
+     */
+    public int drain(final int serial,
+                     final ObjIntConsumer<Object> consumer) {
+        transferInbox();
+        int result = 0;
+        while (this.current <= serial) {
+            if (this.wheelCount == 0) {
+                // nothing in the ring, so skip to the next date in the
+                // overflow map (or past the date requested)...
+                int next = serial + 1;
+                if (!this.overflow.isEmpty()) {
+                    next = Math.min(next,
+                            this.overflow.firstKey().intValue());
+                }
+                this.current = Math.max(this.current, next);
+                refill();
+                continue;
+            }
+            // jump to the next bucket with events, if it is due...
+            final int due = this.current + nextOccupied();
+            if (due > serial) {
+                this.current = serial + 1;
+                refill();
+                break;
+            }
+            this.current = due;
+            final int b = due & MASK;
+            Node node = this.heads[b];
+            this.heads[b] = null;
+            this.tails[b] = null;
+            this.occupied[b >>> 6] &= ~(1L << b);
+            while (node != null) {
+                final Node next = node.next;
+                consumer.accept(node.event, node.serial);
+                this.wheelCount--;
+                result++;
+                node = next;
+            }
+            this.current++;
+            refill();
+        }
+        this.size.addAndGet(-result);
+        return result;
+    }
+
+    /**
+     * Removes the events due on or before a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The events, in date order.
+     */
+    public List<Object> drain(final int serial) {
+        final List<Object> result = new ArrayList<Object>();
+        drain(serial, new ObjIntConsumer<Object>() {
+            public void accept(final Object event, final int date) {
+                result.add(event);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the earliest date on which an event in the queue is due (an
+     * event added for a date that has already been drained is due on the
+     * current date).
+     *
+     * @return The date (serial number), or -1 if the queue is empty.
+     */
+    public int getNextSerial() {
+        transferInbox();
+        if (this.wheelCount > 0) {
+            return this.current + nextOccupied();
+        }
+        if (!this.overflow.isEmpty()) {
+            return this.overflow.firstKey().intValue();
+        }
+        return -1;
+    }
+
+    /**
+     * Sorts the events in the inbox into buckets.
+     */
+    private void transferInbox() {
+        Node node = this.inbox.getAndSet(null);
+
+        // reverse the list so that events are placed in the order added...
+        Node reversed = null;
+        while (node != null) {
+            final Node next = node.next;
+            node.next = reversed;
+            reversed = node;
+            node = next;
+        }
+        while (reversed != null) {
+            final Node next = reversed.next;
+            reversed.next = null;
+            place(reversed);
+            reversed = next;
+        }
+    }
+
+    /**
+     * Places an event in its bucket, or in the overflow map.
+     *
+     * @param node  the event.
+     */
+    private void place(final Node node) {
+        if ((long) node.serial - this.current >= WHEEL_SIZE) {
+            final Integer key = Integer.valueOf(node.serial);
+            final Node[] chain = this.overflow.get(key);
+            if (chain == null) {
+                this.overflow.put(key, new Node[] {node, node});
+            }
+            else {
+                chain[1].next = node;
+                chain[1] = node;
+            }
+            return;
+        }
+        // events that are already due go in the current bucket...
+        final int b = Math.max(node.serial, this.current) & MASK;
+        if (this.tails[b] == null) {
+            this.heads[b] = node;
+        }
+        else {
+            this.tails[b].next = node;
+        }
+        this.tails[b] = node;
+        this.occupied[b >>> 6] |= 1L << b;
+        this.wheelCount++;
+    }
+
+    /**
+     * Returns the number of days from the current date to the first bucket
+     * that holds events, scanning the bitmap a word at a time.  The ring
+     * must not be empty.
+     *
+     * @return The number of days (0 to <code>WHEEL_SIZE - 1</code>).
+     */
+    private int nextOccupied() {
+        final int start = this.current & MASK;
+        int word = start >>> 6;
+        // the first word is masked to the buckets from the current date, and
+        // is scanned again in full at the end for the buckets before it...
+        long bits = this.occupied[word] & (-1L << start);
+        for (int i = 0; i <= WORDS; i++) {
+            if (bits != 0L) {
+                final int b = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return (b - start) & MASK;
+            }
+            word = (word + 1) & (WORDS - 1);
+            bits = this.occupied[word];
+        }
+        throw new IllegalStateException(
+            "DateEventQueue: no bucket holds events.");
+    }
+
+    /**
+     * Moves events from the overflow map into the ring when their dates come
+     * within range.
+     */
+    private void refill() {
+        while (!this.overflow.isEmpty()) {
+            final Integer key = this.overflow.firstKey();
+            if ((long) key.intValue() - this.current >= WHEEL_SIZE) {
+                return;
+            }
+            Node node = this.overflow.remove(key)[0];
+            while (node != null) {
+                final Node next = node.next;
+                node.next = null;
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * An event in the queue.
+     */
+    private static final class Node {
+
+        /** The date the event is due. */
+        private final int serial;
+
+        /** The event. */
+        private final Object event;
+
+        /** The next event in the list. */
+        private Node next;
+
+        /**
+         * Creates a node.
+         *
+         * @param serial  the date.
+         * @param event  the event.
+         */
+        private Node(final int serial, final Object event) {
+            this.serial = serial;
+            this.event = event;
+        }
+
+    }
+
+}
@@ -0,0 +1,231 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DateFlightRecorder.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Time events with begin() and end(), and report the number
+ *               of month names compared;
+ *
+ */
+
+package org.jfree.date;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for the slow paths in the
+ * <code>org.jfree.date</code> package.
+ * <P>
+ * Events are only emitted if the system property
+ * <code>org.jfree.date.jfr</code> is <code>true</code> when this class is
+ * initialised.  Callers test the static final {@link #ENABLED} flag before
+ * creating an event, so when events are off the instrumentation is removed
+ * by the JIT compiler and no event objects are created.  When they are on,
+ * each event is timed with <code>begin()</code> and <code>end()</code>, so
+ * its duration is the one reported by the recording, and nothing is read
+ * from the clock unless the event is enabled in a running recording.  Each
+ * event records a stack trace, so that recordings show which callers are
+ * reaching the slow path.
+ */
+final class DateFlightRecorder {
+
+    /** The system property that switches the events on. */
+    static final String ENABLED_PROPERTY = "org.jfree.date.jfr";
+
+    /** A flag that controls whether or not events are emitted. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Private constructor to prevent object creation.
+     */
+    private DateFlightRecorder() {
+    }
+
+    /**
+     * Starts timing the decoding of a serial number with the year-search
+     * loop in {@link SpreadsheetDate}.
+     *
+     * @return The event, to be passed to
+     *     {@link #serialDecodeFallback(Event, int, int)}.
+     */
+    static Event beginSerialDecode() {
+        final Event event = new SerialDecodeFallbackEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and emits an event for a serial number that needed the
+     * year-search loop in {@link SpreadsheetDate}.
+     *
+     * @param event  the event from {@link #beginSerialDecode()}.
+     * @param serial  the serial number.
+     * @param iterations  the number of loop iterations.
+     */
+    static void serialDecodeFallback(final Event event, final int serial,
+                                     final int iterations) {
+        event.end();
+        if (event.shouldCommit()) {
+            final SerialDecodeFallbackEvent e
+                = (SerialDecodeFallbackEvent) event;
+            e.serial = serial;
+            e.iterations = iterations;
+            e.commit();
+        }
+    }
+
+    /**
+     * Starts timing the parsing of a month string.
+     *
+     * @return The event, to be passed to
+     *     {@link #monthParseFailure(Event, String, int)}.
+     */
+    static Event beginMonthParse() {
+        final Event event = new MonthParseFailureEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and emits an event for a month string that was not an integer,
+     * and so was parsed by catching a <code>NumberFormatException</code>.
+     *
+     * @param event  the event from {@link #beginMonthParse()}.
+     * @param text  the string.
+     * @param comparisons  the number of month names compared.
+     */
+    static void monthParseFailure(final Event event, final String text,
+                                  final int comparisons) {
+        event.end();
+        if (event.shouldCommit()) {
+            final MonthParseFailureEvent e = (MonthParseFailureEvent) event;
+            e.text = text;
+            e.comparisons = comparisons;
+            e.commit();
+        }
+    }
+
+    /**
+     * Starts timing a wait on the {@link DateUtilities} lock.
+     *
+     * @return The event, to be passed to {@link #lockWait(Event, String)}.
+     */
+    static Event beginLockWait() {
+        final Event event = new LockWaitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and emits an event for a wait on the {@link DateUtilities} lock.
+     * Waits shorter than the event threshold (10 microseconds unless the
+     * recording sets another) are not recorded.
+     *
+     * @param event  the event from {@link #beginLockWait()}.
+     * @param method  the method that waited.
+     */
+    static void lockWait(final Event event, final String method) {
+        event.end();
+        if (event.shouldCommit()) {
+            ((LockWaitEvent) event).method = method;
+            event.commit();
+        }
+    }
+
+    /**
+     * An event for a serial number decoded with the year-search loop.
+     */
+    @Name("org.jfree.date.SerialDecodeFallback")
+    @Label("Serial Decode Fallback")
+    @Category({"JCommon", "Date"})
+    @Description("A serial number needed the year-search loop to find its "
+        + "day, month and year")
+    static final class SerialDecodeFallbackEvent extends Event {
+
+        /** The serial number. */
+        @Label("Serial")
+        int serial;
+
+        /** The number of loop iterations. */
+        @Label("Iterations")
+        int iterations;
+
+    }
+
+    /**
+     * An event for a month string parsed by catching an exception.
+     */
+    @Name("org.jfree.date.MonthParseFailure")
+    @Label("Month Parse Failure")
+    @Category({"JCommon", "Date"})
+    @Description("A month string was not an integer, so the "
+        + "NumberFormatException path and the month name search were used")
+    static final class MonthParseFailureEvent extends Event {
+
+        /** The string. */
+        @Label("Text")
+        String text;
+
+        /** The number of month names compared. */
+        @Label("Comparisons")
+        int comparisons;
+
+    }
+
+    /**
+     * An event for a wait on the DateUtilities lock.
+     */
+    @Name("org.jfree.date.LockWait")
+    @Label("DateUtilities Lock Wait")
+    @Category({"JCommon", "Date"})
+    @Description("A thread waited for the lock that guards the shared "
+        + "calendar in DateUtilities")
+    @Threshold("10 us")
+    static final class LockWaitEvent extends Event {
+
+        /** The method that waited. */
+        @Label("Method")
+        String method;
+
+    }
+
+}
@@ -0,0 +1,210 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * DateIntSeries.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added getAt();
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A series of <code>int</code> values indexed by date, for example daily
+ * counts.  See {@link AbstractDateSeries} for the layouts.
+ */
+public class DateIntSeries extends AbstractDateSeries {
+
+    /** The values, by slot. */
+    private int[] values;
+
+    /**
+     * Creates a new, empty series with the dense layout.
+     */
+    public DateIntSeries() {
+        this(DENSE);
+    }
+
+    /**
+     * Creates a new, empty series.
+     *
+     * @param layout  the layout ({@link #DENSE} or {@link #SPARSE}).
+     */
+    public DateIntSeries(final int layout) {
+        super(layout);
+        this.values = new int[0];
+    }
+
+    /**
+     * Sets the value for a date.
+     *
+     * @param serial  the date (serial number).
+     * @param value  the value.
+     */
+    public void put(final int serial, final int value) {
+        // slotFor() may replace the value array, so call it first...
+        final int slot = slotFor(serial);
+        this.values[slot] = value;
+    }
+
+    /**
+     * Sets the value for a date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     * @param value  the value.
+     */
+    public void put(final SerialDate date, final int value) {
+        put(date.toSerial(), value);
+    }
+
+    /**
+     * Returns the value for a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The value.
+     *
+     * @throws IllegalArgumentException if the series has no value for the
+     *     date.
+     */
+    public int get(final int serial) {
+        final int slot = slotOf(serial);
+        if (slot < 0) {
+            throw new IllegalArgumentException(
+                "DateIntSeries.get(): no value for " + serial);
+        }
+        return this.values[slot];
+    }
+
+    /**
+     * Returns the value for a date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return The value.
+     */
+    public int get(final SerialDate date) {
+        return get(date.toSerial());
+    }
+
+    /**
+     * Returns the value for a date, or a default value if the series has no
+     * value for the date.
+     *
+     * @param serial  the date (serial number).
+     * @param defaultValue  the default value.
+     *
+     * @return The value.
+     */
+    public int get(final int serial, final int defaultValue) {
+        final int slot = slotOf(serial);
+        return (slot >= 0) ? this.values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns the value in a slot.
+     *
+     * @param slot  the slot (see {@link #slots()} and {@link #slotOf(int)}).
+     *
+     * @return The value.
+     */
+    public int getAt(final int slot) {
+        return this.values[slot];
+    }
+
+    /**
+     * Returns the values, in the same order as {@link #serials()}.
+     *
+     * @return The values.
+     */
+    public int[] values() {
+        final int[] slots = slots();
+        final int[] result = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            result[i] = this.values[slots[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new series holding the values for the dates in a range.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The new series (with the same layout).
+     */
+    public DateIntSeries slice(final SerialDateRange range) {
+        return (DateIntSeries) sliceInto(new DateIntSeries(getLayout()),
+                range);
+    }
+
+    /**
+     * Moves values within the value array.
+     *
+     * @param capacity  the required length of the value array.
+     * @param from  the first slot to move.
+     * @param to  the destination of the first slot.
+     * @param length  the number of slots to move.
+     */
+    protected void moveValues(final int capacity, final int from,
+                              final int to, final int length) {
+        if (capacity != this.values.length) {
+            final int[] moved = new int[capacity];
+            System.arraycopy(this.values, from, moved, to, length);
+            this.values = moved;
+        }
+        else {
+            System.arraycopy(this.values, from, this.values, to, length);
+        }
+    }
+
+    /**
+     * Copies values into another series.
+     *
+     * @param target  the target series (a <code>DateIntSeries</code>).
+     * @param from  the first slot in this series.
+     * @param to  the first slot in the target series.
+     * @param length  the number of slots to copy.
+     */
+    protected void copyValues(final AbstractDateSeries target,
+                              final int from, final int to,
+                              final int length) {
+        final DateIntSeries that = (DateIntSeries) target;
+        System.arraycopy(this.values, from, that.values, to, length);
+    }
+
+}
@@ -0,0 +1,366 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * DateMetrics.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added ADJUSTER_CACHE;
+ * 19-Oct-2026 : Removed the counters for caches that do not exist;
+ *
+ */
+
+package org.jfree.date;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters for the expensive paths and the caches in the
+ * <code>org.jfree.date</code> package.
+ * <P>
+ * Recording is switched off unless the system property
+ * <code>org.jfree.date.metrics</code> is <code>true</code> when this class is
+ * initialised.  The flag is a static final field, so when recording is off
+ * the JIT compiler removes the calls to the recording methods altogether.
+ * When it is on, each counter is a {@link LongAdder}, which stripes its
+ * updates across cells so that concurrent callers do not contend, and the
+ * counters are published through JMX (see {@link DateMetricsMBean}) and
+ * through {@link #snapshot()}.
+ */
+public final class DateMetrics implements DateMetricsMBean {
+
+    /** The system property that switches recording on. */
+    public static final String ENABLED_PROPERTY = "org.jfree.date.metrics";
+
+    /** The name under which the MBean is registered. */
+    public static final String OBJECT_NAME = "org.jfree.date:type=DateMetrics";
+
+    /** Conversions via <code>java.util.Calendar</code>. */
+    public static final int CALENDAR_CONVERSIONS = 0;
+
+    /** Month strings parsed by catching a NumberFormatException. */
+    public static final int MONTH_PARSE_FAILURES = 1;
+
+    /** Serial numbers decoded with the year-search loop. */
+    public static final int SERIAL_DECODE_FALLBACKS = 2;
+
+    /** The number of event counters. */
+    static final int EVENT_COUNT = 3;
+
+    /** The cache of compiled date adjusters. */
+    public static final int ADJUSTER_CACHE = 0;
+
+    /** The number of caches. */
+    static final int CACHE_COUNT = 1;
+
+    /** Offset of the hit counter within a cache's counters. */
+    static final int HITS = 0;
+
+    /** Offset of the miss counter within a cache's counters. */
+    static final int MISSES = 1;
+
+    /** Offset of the eviction counter within a cache's counters. */
+    static final int EVICTIONS = 2;
+
+    /** Offset of the size counter within a cache's counters. */
+    static final int SIZE = 3;
+
+    /** The number of counters per cache. */
+    static final int CACHE_STRIDE = 4;
+
+    /** A flag that controls whether or not anything is recorded. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** The counters (<code>null</code> when recording is off). */
+    private static final LongAdder[] COUNTERS = createCounters();
+
+    /** The single instance (used as the MBean). */
+    private static final DateMetrics INSTANCE = new DateMetrics();
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /**
+     * Private constructor prevents other instances.
+     */
+    private DateMetrics() {
+    }
+
+    /**
+     * Returns the single instance of this class.
+     *
+     * @return The instance.
+     */
+    public static DateMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns <code>true</code> if metrics are being recorded.
+     *
+     * @return A boolean.
+     */
+    public static boolean isRecording() {
+        return ENABLED;
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param event  the event ({@link #CALENDAR_CONVERSIONS} etc.).
+     */
+    static void record(final int event) {
+        if (ENABLED) {
+            COUNTERS[event].increment();
+        }
+    }
+
+    /**
+     * Records a cache hit.
+     *
+     * @param cache  the cache ({@link #ADJUSTER_CACHE}).
+     */
+    public static void cacheHit(final int cache) {
+        if (ENABLED) {
+            COUNTERS[slot(cache, HITS)].increment();
+        }
+    }
+
+    /**
+     * Records a cache miss.
+     *
+     * @param cache  the cache ({@link #ADJUSTER_CACHE}).
+     */
+    public static void cacheMiss(final int cache) {
+        if (ENABLED) {
+            COUNTERS[slot(cache, MISSES)].increment();
+        }
+    }
+
+    /**
+     * Records the eviction of an entry from a cache.  The size of the cache
+     * is reduced by one.
+     *
+     * @param cache  the cache ({@link #ADJUSTER_CACHE}).
+     */
+    public static void cacheEviction(final int cache) {
+        if (ENABLED) {
+            COUNTERS[slot(cache, EVICTIONS)].increment();
+            COUNTERS[slot(cache, SIZE)].decrement();
+        }
+    }
+
+    /**
+     * Records the addition of an entry to a cache.
+     *
+     * @param cache  the cache ({@link #ADJUSTER_CACHE}).
+     */
+    public static void cacheAddition(final int cache) {
+        if (ENABLED) {
+            COUNTERS[slot(cache, SIZE)].increment();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current counter values.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    public static DateMetricsSnapshot snapshot() {
+        final long[] values
+            = new long[EVENT_COUNT + CACHE_COUNT * CACHE_STRIDE];
+        if (ENABLED) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = COUNTERS[i].sum();
+            }
+        }
+        return new DateMetricsSnapshot(values);
+    }
+
+    /**
+     * Registers the MBean with the platform MBean server, if it is not
+     * already registered.  This happens automatically when recording is
+     * switched on.
+     */
+    public static synchronized void register() {
+        try {
+            final MBeanServer server
+                = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        }
+        catch (JMException e) {
+            // suppress - the counters are still available from snapshot()
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if metrics are being recorded.
+     *
+     * @return A boolean.
+     */
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the number of conversions that went through a
+     * <code>java.util.Calendar</code>.
+     *
+     * @return The count.
+     */
+    public long getCalendarConversions() {
+        return sum(CALENDAR_CONVERSIONS);
+    }
+
+    /**
+     * Returns the number of month strings that were not integers.
+     *
+     * @return The count.
+     */
+    public long getMonthParseFailures() {
+        return sum(MONTH_PARSE_FAILURES);
+    }
+
+    /**
+     * Returns the number of serial numbers that needed the year-search loop.
+     *
+     * @return The count.
+     */
+    public long getSerialDecodeFallbacks() {
+        return sum(SERIAL_DECODE_FALLBACKS);
+    }
+
+    /**
+     * Returns the number of hits in the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheHits() {
+        return sum(slot(ADJUSTER_CACHE, HITS));
+    }
+
+    /**
+     * Returns the number of misses in the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheMisses() {
+        return sum(slot(ADJUSTER_CACHE, MISSES));
+    }
+
+    /**
+     * Returns the number of evictions from the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheEvictions() {
+        return sum(slot(ADJUSTER_CACHE, EVICTIONS));
+    }
+
+    /**
+     * Returns the number of entries in the date adjuster cache.
+     *
+     * @return The size.
+     */
+    public long getAdjusterCacheSize() {
+        return sum(slot(ADJUSTER_CACHE, SIZE));
+    }
+
+    /**
+     * Resets all the counters (cache sizes are not reset).
+     */
+    public void reset() {
+        if (ENABLED) {
+            for (int i = 0; i < COUNTERS.length; i++) {
+                if ((i < EVENT_COUNT)
+                        || ((i - EVENT_COUNT) % CACHE_STRIDE != SIZE)) {
+                    COUNTERS[i].reset();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a cache counter.
+     *
+     * @param cache  the cache.
+     * @param offset  the counter offset ({@link #HITS} etc.).
+     *
+     * @return The index.
+     */
+    static int slot(final int cache, final int offset) {
+        return EVENT_COUNT + cache * CACHE_STRIDE + offset;
+    }
+
+    /**
+     * Returns the current value of a counter.
+     *
+     * @param index  the counter index.
+     *
+     * @return The value (zero if recording is off).
+     */
+    private static long sum(final int index) {
+        return ENABLED ? COUNTERS[index].sum() : 0L;
+    }
+
+    /**
+     * Creates the counters, if recording is switched on.
+     *
+     * @return The counters (possibly <code>null</code>).
+     */
+    private static LongAdder[] createCounters() {
+        if (!ENABLED) {
+            return null;
+        }
+        final LongAdder[] result
+            = new LongAdder[EVENT_COUNT + CACHE_COUNT * CACHE_STRIDE];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+}
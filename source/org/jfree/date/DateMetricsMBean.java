@@ -0,0 +1,118 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * DateMetricsMBean.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added the date adjuster cache counters;
+ * 19-Oct-2026 : Removed the counters for caches that do not exist;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * The management interface for {@link DateMetrics}.  When metrics are
+ * enabled the bean is registered with the platform MBean server under the
+ * name {@link DateMetrics#OBJECT_NAME}.
+ */
+public interface DateMetricsMBean {
+
+    /**
+     * Returns <code>true</code> if metrics are being recorded.
+     *
+     * @return A boolean.
+     */
+    public boolean isEnabled();
+
+    /**
+     * Returns the number of conversions that went through a
+     * <code>java.util.Calendar</code>.
+     *
+     * @return The count.
+     */
+    public long getCalendarConversions();
+
+    /**
+     * Returns the number of month strings that were not integers, and so
+     * were parsed by catching a <code>NumberFormatException</code>.
+     *
+     * @return The count.
+     */
+    public long getMonthParseFailures();
+
+    /**
+     * Returns the number of serial numbers that needed the year-search loop
+     * to find their day, month and year.
+     *
+     * @return The count.
+     */
+    public long getSerialDecodeFallbacks();
+
+    /**
+     * Returns the number of hits in the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheHits();
+
+    /**
+     * Returns the number of misses in the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheMisses();
+
+    /**
+     * Returns the number of evictions from the date adjuster cache.
+     *
+     * @return The count.
+     */
+    public long getAdjusterCacheEvictions();
+
+    /**
+     * Returns the number of entries in the date adjuster cache.
+     *
+     * @return The size.
+     */
+    public long getAdjusterCacheSize();
+
+    /**
+     * Resets all the counters (cache sizes are not reset).
+     */
+    public void reset();
+
+}
@@ -0,0 +1,182 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * DateMetricsSnapshot.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.io.Serializable;
+
+/**
+ * An immutable copy of the {@link DateMetrics} counters, taken at one point
+ * in time.  Two snapshots can be subtracted to find the activity in an
+ * interval.
+ */
+public final class DateMetricsSnapshot implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4712395530416283174L;
+
+    /** The counter values, laid out as in {@link DateMetrics}. */
+    private final long[] values;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param values  the counter values (not copied).
+     */
+    DateMetricsSnapshot(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the value of an event counter.
+     *
+     * @param event  the event ({@link DateMetrics#CALENDAR_CONVERSIONS},
+     *               {@link DateMetrics#MONTH_PARSE_FAILURES} or
+     *               {@link DateMetrics#SERIAL_DECODE_FALLBACKS}).
+     *
+     * @return The count.
+     */
+    public long getEventCount(final int event) {
+        if ((event < 0) || (event >= DateMetrics.EVENT_COUNT)) {
+            throw new IllegalArgumentException(
+                "DateMetricsSnapshot.getEventCount(): invalid event code.");
+        }
+        return this.values[event];
+    }
+
+    /**
+     * Returns the number of hits for a cache.
+     *
+     * @param cache  the cache ({@link DateMetrics#ADJUSTER_CACHE}).
+     *
+     * @return The count.
+     */
+    public long getCacheHits(final int cache) {
+        return cacheValue(cache, DateMetrics.HITS);
+    }
+
+    /**
+     * Returns the number of misses for a cache.
+     *
+     * @param cache  the cache ({@link DateMetrics#ADJUSTER_CACHE}).
+     *
+     * @return The count.
+     */
+    public long getCacheMisses(final int cache) {
+        return cacheValue(cache, DateMetrics.MISSES);
+    }
+
+    /**
+     * Returns the number of evictions for a cache.
+     *
+     * @param cache  the cache ({@link DateMetrics#ADJUSTER_CACHE}).
+     *
+     * @return The count.
+     */
+    public long getCacheEvictions(final int cache) {
+        return cacheValue(cache, DateMetrics.EVICTIONS);
+    }
+
+    /**
+     * Returns the number of entries in a cache.
+     *
+     * @param cache  the cache ({@link DateMetrics#ADJUSTER_CACHE}).
+     *
+     * @return The size.
+     */
+    public long getCacheSize(final int cache) {
+        return cacheValue(cache, DateMetrics.SIZE);
+    }
+
+    /**
+     * Returns the hit rate for a cache, in the range 0.0 to 1.0 (or
+     * <code>Double.NaN</code> if the cache has not been used).
+     *
+     * @param cache  the cache ({@link DateMetrics#ADJUSTER_CACHE}).
+     *
+     * @return The hit rate.
+     */
+    public double getCacheHitRate(final int cache) {
+        final long hits = getCacheHits(cache);
+        final long total = hits + getCacheMisses(cache);
+        return (total == 0L) ? Double.NaN : (double) hits / total;
+    }
+
+    /**
+     * Returns the difference between this snapshot and an earlier one.  Cache
+     * sizes are taken from this snapshot.
+     *
+     * @param earlier  the earlier snapshot (<code>null</code> not permitted).
+     *
+     * @return A new snapshot.
+     */
+    public DateMetricsSnapshot since(final DateMetricsSnapshot earlier) {
+        final long[] result = new long[this.values.length];
+        for (int i = 0; i < result.length; i++) {
+            if (i >= DateMetrics.EVENT_COUNT && (i - DateMetrics.EVENT_COUNT)
+                    % DateMetrics.CACHE_STRIDE == DateMetrics.SIZE) {
+                result[i] = this.values[i];
+            }
+            else {
+                result[i] = this.values[i] - earlier.values[i];
+            }
+        }
+        return new DateMetricsSnapshot(result);
+    }
+
+    /**
+     * Returns one of the counters for a cache.
+     *
+     * @param cache  the cache.
+     * @param offset  the counter offset.
+     *
+     * @return The value.
+     */
+    private long cacheValue(final int cache, final int offset) {
+        if ((cache < 0) || (cache >= DateMetrics.CACHE_COUNT)) {
+            throw new IllegalArgumentException(
+                "DateMetricsSnapshot: invalid cache code.");
+        }
+        return this.values[DateMetrics.slot(cache, offset)];
+    }
+
+}
@@ -0,0 +1,389 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * DateResampler.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+
+/**
+ * Aggregates daily values into weekly, monthly, quarterly or yearly
+ * buckets.
+ * <P>
+ * Rather than decoding each date into a day, month and year, the resampler
+ * builds a table (when it is created) giving the period number for every
+ * date in a range of years, so finding the bucket for a date is a single
+ * array lookup.  Weeks are ISO weeks (starting on Monday), and quarters and
+ * years can start in any month to follow a fiscal year.  The values are
+ * reduced in a single pass with one of the reducers {@link #SUM},
+ * {@link #MEAN}, {@link #FIRST}, {@link #LAST}, {@link #MIN} or
+ * {@link #MAX}, optionally using business days only.
+ */
+public final class DateResampler {
+
+    /** Frequency code for ISO weeks (Monday to Sunday). */
+    public static final int WEEKLY = 0;
+
+    /** Frequency code for months. */
+    public static final int MONTHLY = 1;
+
+    /** Frequency code for quarters. */
+    public static final int QUARTERLY = 2;
+
+    /** Frequency code for years. */
+    public static final int YEARLY = 3;
+
+    /** Reducer code for the sum of the values. */
+    public static final int SUM = 0;
+
+    /** Reducer code for the mean of the values. */
+    public static final int MEAN = 1;
+
+    /** Reducer code for the earliest value. */
+    public static final int FIRST = 2;
+
+    /** Reducer code for the latest value. */
+    public static final int LAST = 3;
+
+    /** Reducer code for the smallest value. */
+    public static final int MIN = 4;
+
+    /** Reducer code for the largest value. */
+    public static final int MAX = 5;
+
+    /** The frequency. */
+    private final int frequency;
+
+    /** The month in which quarters and years start. */
+    private final int fiscalStart;
+
+    /** The first year covered. */
+    private final int firstYear;
+
+    /** The last year covered. */
+    private final int lastYear;
+
+    /** The first date covered (serial number). */
+    private final int first;
+
+    /** The period number for each date, by serial number minus first. */
+    private final int[] periods;
+
+    /** The first date in each period (serial numbers). */
+    private final int[] starts;
+
+    /**
+     * Creates a resampler with quarters and years starting in January.
+     *
+     * @param frequency  the frequency ({@link #WEEKLY} etc.).
+     * @param firstYear  the first year covered (1900 or later).
+     * @param lastYear  the last year covered (9999 or earlier).
+     */
+    public DateResampler(final int frequency, final int firstYear,
+                         final int lastYear) {
+        this(frequency, MonthConstants.JANUARY, firstYear, lastYear);
+    }
+
+    /**
+     * Creates a resampler.
+     *
+     * @param frequency  the frequency ({@link #WEEKLY} etc.).
+     * @param fiscalStart  the month in which quarters and years start
+     *                     (1-12, ignored for weeks and months).
+     * @param firstYear  the first year covered (1900 or later).
+     * @param lastYear  the last year covered (9999 or earlier).
+     */
+    public DateResampler(final int frequency, final int fiscalStart,
+                         final int firstYear, final int lastYear) {
+        if ((frequency < WEEKLY) || (frequency > YEARLY)) {
+            throw new IllegalArgumentException(
+                "DateResampler(): invalid frequency code.");
+        }
+        if (!SerialDate.isValidMonthCode(fiscalStart)) {
+            throw new IllegalArgumentException(
+                "DateResampler(): invalid month code.");
+        }
+        if ((firstYear < SerialDate.MINIMUM_YEAR_SUPPORTED)
+                || (lastYear > SerialDate.MAXIMUM_YEAR_SUPPORTED)
+                || (firstYear > lastYear)) {
+            throw new IllegalArgumentException(
+                "DateResampler(): invalid range of years.");
+        }
+        this.frequency = frequency;
+        this.fiscalStart = fiscalStart;
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.first = SerialDateArithmetic.yearStart(firstYear);
+        final int end = SerialDateArithmetic.yearStart(lastYear + 1);
+
+        // find the start of each period, then fill in the table...
+        this.starts = boundaries(end);
+        this.periods = new int[end - this.first];
+        for (int p = 0; p < this.starts.length; p++) {
+            final int to = (p + 1 < this.starts.length) ? this.starts[p + 1]
+                                                        : end;
+            Arrays.fill(this.periods, this.starts[p] - this.first,
+                    to - this.first, p);
+        }
+    }
+
+    /**
+     * Returns the first date of each period from the first date covered up
+     * to (but excluding) <code>end</code>.  The first period starts on the
+     * first date covered, even if the whole period would start earlier.
+     *
+     * @param end  the end of the range (exclusive).
+     *
+     * @return The dates (serial numbers).
+     */
+    private int[] boundaries(final int end) {
+        final int[] result = new int[(end - this.first) / 7 + 2];
+        int n = 0;
+        result[n++] = this.first;
+        if (this.frequency == WEEKLY) {
+            final int dow = SerialDateArithmetic.getDayOfWeek(this.first);
+            // the Monday on or before the first date...
+            final int monday = this.first - (dow + 5) % 7;
+            for (int s = monday + 7; s < end; s += 7) {
+                result[n++] = s;
+            }
+            return Arrays.copyOf(result, n);
+        }
+        final int step = (this.frequency == MONTHLY) ? 1
+                : (this.frequency == QUARTERLY) ? 3 : 12;
+        for (int y = this.firstYear; y <= this.lastYear; y++) {
+            for (int m = MonthConstants.JANUARY; m <= MonthConstants.DECEMBER;
+                    m++) {
+                if ((m - this.fiscalStart + 12) % step == 0) {
+                    final int s = SerialDateArithmetic.toSerial(1, m, y);
+                    if (s > this.first) {
+                        result[n++] = s;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Returns the frequency.
+     *
+     * @return The frequency code.
+     */
+    public int getFrequency() {
+        return this.frequency;
+    }
+
+    /**
+     * Returns the month in which quarters and years start.
+     *
+     * @return The month code.
+     */
+    public int getFiscalStart() {
+        return this.fiscalStart;
+    }
+
+    /**
+     * Returns the number of periods covered.
+     *
+     * @return The number of periods.
+     */
+    public int getPeriodCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * Returns the number of the period containing a date.  Periods are
+     * numbered from zero, starting with the period containing 1 January of
+     * the first year covered.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The period number.
+     */
+    public int getPeriod(final int serial) {
+        final long i = (long) serial - this.first;
+        if ((i < 0) || (i >= this.periods.length)) {
+            throw new IllegalArgumentException(
+                "DateResampler.getPeriod(): date not covered: " + serial);
+        }
+        return this.periods[(int) i];
+    }
+
+    /**
+     * Returns the first date in a period (for the first period, this is the
+     * first date covered by the resampler, which may be part way through
+     * the period).
+     *
+     * @param period  the period number.
+     *
+     * @return The date (serial number).
+     */
+    public int getPeriodStart(final int period) {
+        return this.starts[period];
+    }
+
+    /**
+     * Aggregates a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param reducer  the reducer ({@link #SUM} etc.).
+     *
+     * @return A series with one value per period, dated at the start of the
+     *     period.
+     */
+    public DateDoubleSeries resample(final DateDoubleSeries series,
+                                     final int reducer) {
+        return resample(series.serials(), series.values(), reducer, null);
+    }
+
+    /**
+     * Aggregates the business days in a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param reducer  the reducer ({@link #SUM} etc.).
+     * @param calendar  the calendar that defines business days
+     *                  (<code>null</code> to use all days).
+     *
+     * @return A series with one value per period, dated at the start of the
+     *     period.
+     */
+    public DateDoubleSeries resample(final DateDoubleSeries series,
+                                     final int reducer,
+                                     final BusinessDayCalendar calendar) {
+        return resample(series.serials(), series.values(), reducer,
+                calendar);
+    }
+
+    /**
+     * Aggregates values.
+     *
+     * @param serials  the dates (ascending serial numbers,
+     *                 <code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param reducer  the reducer ({@link #SUM} etc.).
+     *
+     * @return A series with one value per period, dated at the start of the
+     *     period.
+     */
+    public DateDoubleSeries resample(final int[] serials,
+                                     final double[] values,
+                                     final int reducer) {
+        return resample(serials, values, reducer, null);
+    }
+
+    /**
+     * Aggregates the values for business days.
+     *
+     * @param serials  the dates (ascending serial numbers,
+     *                 <code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param reducer  the reducer ({@link #SUM} etc.).
+     * @param calendar  the calendar that defines business days
+     *                  (<code>null</code> to use all days).
+     *
+     * @return A series with one value per period, dated at the start of the
+     *     period.
+     */
+    public DateDoubleSeries resample(final int[] serials,
+                                     final double[] values,
+                                     final int reducer,
+                                     final BusinessDayCalendar calendar) {
+        if ((reducer < SUM) || (reducer > MAX)) {
+            throw new IllegalArgumentException(
+                "DateResampler.resample(): invalid reducer code.");
+        }
+        if (serials.length != values.length) {
+            throw new IllegalArgumentException(
+                "DateResampler.resample(): array lengths differ.");
+        }
+        final DateDoubleSeries result = new DateDoubleSeries(
+                AbstractDateSeries.SPARSE);
+        int current = -1;
+        int count = 0;
+        double acc = 0.0;
+        for (int i = 0; i < serials.length; i++) {
+            if ((i > 0) && (serials[i] < serials[i - 1])) {
+                throw new IllegalArgumentException(
+                    "DateResampler.resample(): dates not in order.");
+            }
+            if ((calendar != null) && !calendar.isBusinessDay(serials[i])) {
+                continue;
+            }
+            final int period = getPeriod(serials[i]);
+            final double v = values[i];
+            if (period != current) {
+                if (count > 0) {
+                    result.put(this.starts[current],
+                            (reducer == MEAN) ? acc / count : acc);
+                }
+                current = period;
+                count = 1;
+                acc = v;
+                continue;
+            }
+            count++;
+            switch (reducer) {
+                case SUM:
+                case MEAN:
+                    acc += v;
+                    break;
+                case LAST:
+                    acc = v;
+                    break;
+                case MIN:
+                    acc = Math.min(acc, v);
+                    break;
+                case MAX:
+                    acc = Math.max(acc, v);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (count > 0) {
+            result.put(this.starts[current],
+                    (reducer == MEAN) ? acc / count : acc);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,278 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * DateRollingWindow.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * Calculates rolling statistics (sum, mean, variance, standard deviation,
+ * minimum and maximum) over a window of the most recent calendar days or
+ * business days, for example "the standard deviation over the last 20
+ * business days".
+ * <P>
+ * Each observation is given a position: its serial number for a window in
+ * calendar days, or its {@link BusinessDayCalendar#rank(int)} for a window
+ * in business days.  The window for an observation at position p holds the
+ * observations with positions greater than p - length, so a window of one
+ * business day holds the observations since the previous business day.
+ * Because the observations are in date order, the window moves forward one
+ * observation at a time, and each statistic is updated (not recomputed)
+ * as observations enter and leave it: sums and variances with Welford's
+ * updates, and minima and maxima with a monotonic queue.  The cost is O(1)
+ * per observation (amortised for minima and maxima).
+ */
+public final class DateRollingWindow {
+
+    /** Statistic code for the sum. */
+    public static final int SUM = 0;
+
+    /** Statistic code for the mean. */
+    public static final int MEAN = 1;
+
+    /** Statistic code for the sample variance. */
+    public static final int VARIANCE = 2;
+
+    /** Statistic code for the sample standard deviation. */
+    public static final int STANDARD_DEVIATION = 3;
+
+    /** Statistic code for the minimum. */
+    public static final int MIN = 4;
+
+    /** Statistic code for the maximum. */
+    public static final int MAX = 5;
+
+    /** The window length (in calendar days or business days). */
+    private final int length;
+
+    /** The calendar (<code>null</code> for calendar days). */
+    private final BusinessDayCalendar calendar;
+
+    /**
+     * Creates a window measured in calendar days.
+     *
+     * @param length  the number of days (at least 1).
+     */
+    public DateRollingWindow(final int length) {
+        this(length, null);
+    }
+
+    /**
+     * Creates a window measured in business days.
+     *
+     * @param length  the number of business days (at least 1).
+     * @param calendar  the calendar that defines business days
+     *                  (<code>null</code> for calendar days).
+     */
+    public DateRollingWindow(final int length,
+                             final BusinessDayCalendar calendar) {
+        if (length < 1) {
+            throw new IllegalArgumentException(
+                "DateRollingWindow(): length must be at least 1.");
+        }
+        this.length = length;
+        this.calendar = calendar;
+    }
+
+    /**
+     * Returns the window length.
+     *
+     * @return The length (in calendar days or business days).
+     */
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * Returns the calendar.
+     *
+     * @return The calendar (<code>null</code> for calendar days).
+     */
+    public BusinessDayCalendar getCalendar() {
+        return this.calendar;
+    }
+
+    /**
+     * Calculates a rolling statistic for a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param statistic  the statistic ({@link #SUM} etc.).
+     *
+     * @return A series with the same dates and layout, holding the
+     *     statistic for the window ending at each date.
+     */
+    public DateDoubleSeries apply(final DateDoubleSeries series,
+                                  final int statistic) {
+        final int[] serials = series.serials();
+        final double[] result = apply(serials, series.values(), statistic);
+        final DateDoubleSeries rolled = new DateDoubleSeries(
+                series.getLayout());
+        for (int i = 0; i < serials.length; i++) {
+            rolled.put(serials[i], result[i]);
+        }
+        return rolled;
+    }
+
+    /**
+     * Calculates a rolling statistic.  The variance and standard deviation
+     * are <code>NaN</code> for a window holding a single observation.
+     *
+     * @param serials  the dates (ascending serial numbers,
+     *                 <code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param statistic  the statistic ({@link #SUM} etc.).
+     *
+     * @return The statistic for the window ending at each observation.
+     */
+    public double[] apply(final int[] serials, final double[] values,
+                          final int statistic) {
+        if ((statistic < SUM) || (statistic > MAX)) {
+            throw new IllegalArgumentException(
+                "DateRollingWindow.apply(): invalid statistic code.");
+        }
+        if (serials.length != values.length) {
+            throw new IllegalArgumentException(
+                "DateRollingWindow.apply(): array lengths differ.");
+        }
+        final int n = serials.length;
+        final int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            if ((i > 0) && (serials[i] < serials[i - 1])) {
+                throw new IllegalArgumentException(
+                    "DateRollingWindow.apply(): dates not in order.");
+            }
+            positions[i] = (this.calendar == null) ? serials[i]
+                    : this.calendar.rank(serials[i]);
+        }
+        final double[] result = new double[n];
+        if ((statistic == MIN) || (statistic == MAX)) {
+            extremes(positions, values, statistic == MIN, result);
+        }
+        else {
+            moments(positions, values, statistic, result);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates a rolling sum, mean, variance or standard deviation.
+     *
+     * @param positions  the position of each observation.
+     * @param values  the values.
+     * @param statistic  the statistic.
+     * @param result  receives the results.
+     */
+    private void moments(final int[] positions, final double[] values,
+                         final int statistic, final double[] result) {
+        int tail = 0;
+        int count = 0;
+        double sum = 0.0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        for (int i = 0; i < positions.length; i++) {
+            // add the new observation...
+            final double x = values[i];
+            count++;
+            sum += x;
+            double delta = x - mean;
+            mean += delta / count;
+            m2 += delta * (x - mean);
+
+            // ...and remove those that have left the window
+            while (positions[tail] <= positions[i] - this.length) {
+                final double old = values[tail++];
+                count--;
+                sum -= old;
+                if (count == 0) {
+                    mean = 0.0;
+                    m2 = 0.0;
+                }
+                else {
+                    delta = old - mean;
+                    mean -= delta / count;
+                    m2 -= delta * (old - mean);
+                }
+            }
+
+            if (statistic == SUM) {
+                result[i] = sum;
+            }
+            else if (statistic == MEAN) {
+                result[i] = mean;
+            }
+            else {
+                final double variance = (count > 1)
+                        ? Math.max(m2, 0.0) / (count - 1) : Double.NaN;
+                result[i] = (statistic == VARIANCE) ? variance
+                                                    : Math.sqrt(variance);
+            }
+        }
+    }
+
+    /**
+     * Calculates a rolling minimum or maximum.  A queue holds the indices
+     * of the observations in the window that could still become the
+     * extreme, with the current extreme at the head.
+     *
+     * @param positions  the position of each observation.
+     * @param values  the values.
+     * @param min  calculate the minimum (rather than the maximum)?
+     * @param result  receives the results.
+     */
+    private void extremes(final int[] positions, final double[] values,
+                          final boolean min, final double[] result) {
+        final int[] queue = new int[positions.length];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < positions.length; i++) {
+            final double x = values[i];
+            while ((tail > head) && (min ? values[queue[tail - 1]] >= x
+                                         : values[queue[tail - 1]] <= x)) {
+                tail--;
+            }
+            queue[tail++] = i;
+            while (positions[queue[head]] <= positions[i] - this.length) {
+                head++;
+            }
+            result[i] = values[queue[head]];
+        }
+    }
+
+}
@@ -38,6 +38,9 @@
  * -------
  * 11-Oct-2002 : Version 1 (DG);
  * 03-Apr-2003 : Added clear() method call (DG)
+ * 19-Oct-2026 : Record DateMetrics events.  Replaced the synchronized
+ *               methods with synchronized blocks on the same lock, so that
+ *               lock waits can be reported to the flight recorder;
  *
  */
 
@@ -46,6 +49,8 @@ package org.jfree.date;
 import java.util.Calendar;
 import java.util.Date;
 
+import jdk.jfr.Event;
+
 /**
  * Some useful date methods.
  *
@@ -71,10 +76,20 @@ public class DateUtilities {
      *
      * @return a date.
      */
-    public static synchronized Date createDate(final int yyyy, final int month, final int day) {
-        CALENDAR.clear();
-        CALENDAR.set(yyyy, month - 1, day);
-        return CALENDAR.getTime();
+    public static Date createDate(final int yyyy, final int month, final int day) {
+        DateMetrics.record(DateMetrics.CALENDAR_CONVERSIONS);
+        final Event event = DateFlightRecorder.ENABLED
+            ? DateFlightRecorder.beginLockWait() : null;
+        final Date result;
+        synchronized (DateUtilities.class) {
+            if (DateFlightRecorder.ENABLED) {
+                DateFlightRecorder.lockWait(event, "createDate");
+            }
+            CALENDAR.clear();
+            CALENDAR.set(yyyy, month - 1, day);
+            result = CALENDAR.getTime();
+        }
+        return result;
     }
 
     /**
@@ -88,11 +103,21 @@ public class DateUtilities {
      *
      * @return a date.
      */
-    public static synchronized Date createDate(final int yyyy, final int month, final int day, final int hour, final int min) {
+    public static Date createDate(final int yyyy, final int month, final int day, final int hour, final int min) {
 
-        CALENDAR.clear();
-        CALENDAR.set(yyyy, month - 1, day, hour, min);
-        return CALENDAR.getTime();
+        DateMetrics.record(DateMetrics.CALENDAR_CONVERSIONS);
+        final Event event = DateFlightRecorder.ENABLED
+            ? DateFlightRecorder.beginLockWait() : null;
+        final Date result;
+        synchronized (DateUtilities.class) {
+            if (DateFlightRecorder.ENABLED) {
+                DateFlightRecorder.lockWait(event, "createDate");
+            }
+            CALENDAR.clear();
+            CALENDAR.set(yyyy, month - 1, day, hour, min);
+            result = CALENDAR.getTime();
+        }
+        return result;
 
     }
 
@@ -0,0 +1,271 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DayCountConvention.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * Day-count conventions, which convert the period between two dates into a
+ * fraction of a year for accrual calculations.
+ * <P>
+ * The 30/360 conventions use the day counts in {@link SerialDateUtilities}
+ * divided by 360.  Each convention has scalar methods, for a single period,
+ * and batch methods that process parallel arrays of start and end serial
+ * numbers.  The batch methods select the convention once and then run a
+ * loop that calls a single static kernel, so the loop body can be inlined.
+ * <P>
+ * As in {@link SerialDateUtilities}, a start date after the end date gives a
+ * negative result.
+ */
+public enum DayCountConvention {
+
+    /** Actual days / 360. */
+    ACT_360 {
+        public int dayCount(final int start, final int end) {
+            return end - start;
+        }
+        public double yearFraction(final int start, final int end) {
+            return (end - start) / 360.0;
+        }
+    },
+
+    /** Actual days / 365 (fixed). */
+    ACT_365F {
+        public int dayCount(final int start, final int end) {
+            return end - start;
+        }
+        public double yearFraction(final int start, final int end) {
+            return (end - start) / 365.0;
+        }
+    },
+
+    /**
+     * Actual/Actual (ISDA): the days falling in leap years are divided by 366
+     * and the remaining days by 365.
+     */
+    ACT_ACT_ISDA {
+        public int dayCount(final int start, final int end) {
+            return end - start;
+        }
+        public double yearFraction(final int start, final int end) {
+            return actActISDA(start, end);
+        }
+    },
+
+    /** 30/360, with no adjustment to the day of the month. */
+    THIRTY_360 {
+        public int dayCount(final int start, final int end) {
+            return SerialDateUtilities.dayCount30(start, end);
+        }
+        public double yearFraction(final int start, final int end) {
+            return SerialDateUtilities.dayCount30(start, end) / 360.0;
+        }
+    },
+
+    /** 30/360 (ISDA). */
+    THIRTY_360_ISDA {
+        public int dayCount(final int start, final int end) {
+            return SerialDateUtilities.dayCount30ISDA(start, end);
+        }
+        public double yearFraction(final int start, final int end) {
+            return SerialDateUtilities.dayCount30ISDA(start, end) / 360.0;
+        }
+    },
+
+    /** 30/360 (PSA). */
+    THIRTY_360_PSA {
+        public int dayCount(final int start, final int end) {
+            return SerialDateUtilities.dayCount30PSA(start, end);
+        }
+        public double yearFraction(final int start, final int end) {
+            return SerialDateUtilities.dayCount30PSA(start, end) / 360.0;
+        }
+    },
+
+    /** 30E/360. */
+    THIRTY_E_360 {
+        public int dayCount(final int start, final int end) {
+            return SerialDateUtilities.dayCount30E(start, end);
+        }
+        public double yearFraction(final int start, final int end) {
+            return SerialDateUtilities.dayCount30E(start, end) / 360.0;
+        }
+    };
+
+    /**
+     * Returns the number of days between two dates under this convention.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The number of days.
+     */
+    public abstract int dayCount(int start, int end);
+
+    /**
+     * Returns the fraction of a year between two dates under this convention.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The year fraction.
+     */
+    public abstract double yearFraction(int start, int end);
+
+    /**
+     * Returns the fraction of a year between two dates under this convention.
+     *
+     * @param start  the start date (<code>null</code> not permitted).
+     * @param end  the end date (<code>null</code> not permitted).
+     *
+     * @return The year fraction.
+     */
+    public double yearFraction(final SerialDate start, final SerialDate end) {
+        return yearFraction(start.toSerial(), end.toSerial());
+    }
+
+    /**
+     * Calculates the year fractions for parallel arrays of start and end
+     * dates.
+     *
+     * @param starts  the start dates (serial numbers).
+     * @param ends  the end dates (serial numbers, same length as
+     *              <code>starts</code>).
+     *
+     * @return The year fractions.
+     */
+    public double[] yearFractions(final int[] starts, final int[] ends) {
+        final double[] result = new double[starts.length];
+        yearFractions(starts, ends, result);
+        return result;
+    }
+
+    /**
+     * Calculates the year fractions for parallel arrays of start and end
+     * dates, writing them into <code>result</code>.
+     *
+     * @param starts  the start dates (serial numbers).
+     * @param ends  the end dates (serial numbers).
+     * @param result  the array for the results (all three arrays must have
+     *                the same length).
+     */
+    public void yearFractions(final int[] starts, final int[] ends,
+                              final double[] result) {
+
+        // check arguments...
+        final int n = starts.length;
+        if ((ends.length != n) || (result.length != n)) {
+            throw new IllegalArgumentException(
+                "DayCountConvention.yearFractions(): array lengths differ.");
+        }
+
+        switch (this) {
+            case ACT_360:
+                for (int i = 0; i < n; i++) {
+                    result[i] = (ends[i] - starts[i]) / 360.0;
+                }
+                break;
+            case ACT_365F:
+                for (int i = 0; i < n; i++) {
+                    result[i] = (ends[i] - starts[i]) / 365.0;
+                }
+                break;
+            case ACT_ACT_ISDA:
+                for (int i = 0; i < n; i++) {
+                    result[i] = actActISDA(starts[i], ends[i]);
+                }
+                break;
+            case THIRTY_360:
+                for (int i = 0; i < n; i++) {
+                    result[i] = SerialDateUtilities.dayCount30(starts[i],
+                            ends[i]) / 360.0;
+                }
+                break;
+            case THIRTY_360_ISDA:
+                for (int i = 0; i < n; i++) {
+                    result[i] = SerialDateUtilities.dayCount30ISDA(starts[i],
+                            ends[i]) / 360.0;
+                }
+                break;
+            case THIRTY_360_PSA:
+                for (int i = 0; i < n; i++) {
+                    result[i] = SerialDateUtilities.dayCount30PSA(starts[i],
+                            ends[i]) / 360.0;
+                }
+                break;
+            case THIRTY_E_360:
+                for (int i = 0; i < n; i++) {
+                    result[i] = SerialDateUtilities.dayCount30E(starts[i],
+                            ends[i]) / 360.0;
+                }
+                break;
+            default:
+                throw new IllegalStateException(
+                    "DayCountConvention.yearFractions(): unknown convention.");
+        }
+
+    }
+
+    /**
+     * Returns the Actual/Actual (ISDA) year fraction between two dates.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The year fraction.
+     */
+    static double actActISDA(final int start, final int end) {
+        if (start > end) {
+            return -actActISDA(end, start);
+        }
+        final int y1 = SerialDateArithmetic.getYYYY(start);
+        final int y2 = SerialDateArithmetic.getYYYY(end);
+        if (y1 == y2) {
+            return (end - start) / (double) SerialDateArithmetic.daysInYear(y1);
+        }
+        return (SerialDateArithmetic.yearStart(y1 + 1) - start)
+                   / (double) SerialDateArithmetic.daysInYear(y1)
+               + (y2 - y1 - 1)
+               + (end - SerialDateArithmetic.yearStart(y2))
+                   / (double) SerialDateArithmetic.daysInYear(y2);
+    }
+
+}
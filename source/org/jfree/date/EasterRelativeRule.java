@@ -0,0 +1,158 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * EasterRelativeRule.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * An annual date rule for a date a fixed number of days before or after
+ * Easter Sunday, such as Good Friday (two days before) or Whit Monday (fifty
+ * days after).  Constants are provided for the common offsets.
+ * <P>
+ * The date is found with one read of the table held by
+ * {@link EasterSundayRule}, so no dates are created by
+ * {@link #getSerial(int)}.
+ */
+public class EasterRelativeRule extends AnnualDateRule {
+
+    /** The offset for Ash Wednesday. */
+    public static final int ASH_WEDNESDAY = -46;
+
+    /** The offset for Maundy Thursday. */
+    public static final int MAUNDY_THURSDAY = -3;
+
+    /** The offset for Good Friday. */
+    public static final int GOOD_FRIDAY = -2;
+
+    /** The offset for Easter Sunday. */
+    public static final int EASTER_SUNDAY = 0;
+
+    /** The offset for Easter Monday. */
+    public static final int EASTER_MONDAY = 1;
+
+    /** The offset for Ascension Day. */
+    public static final int ASCENSION_DAY = 39;
+
+    /** The offset for Whit Sunday (Pentecost). */
+    public static final int WHIT_SUNDAY = 49;
+
+    /** The offset for Whit Monday. */
+    public static final int WHIT_MONDAY = 50;
+
+    /** The offset for Corpus Christi. */
+    public static final int CORPUS_CHRISTI = 60;
+
+    /** The number of days after Easter Sunday (negative for before). */
+    private int offset;
+
+    /**
+     * Default constructor: builds a rule for Easter Sunday.
+     */
+    public EasterRelativeRule() {
+        this(EASTER_SUNDAY);
+    }
+
+    /**
+     * Creates a rule for the date a number of days after (or, for a negative
+     * offset, before) Easter Sunday.
+     *
+     * @param offset  the offset in days (-366 to 366).
+     */
+    public EasterRelativeRule(final int offset) {
+        setOffset(offset);
+    }
+
+    /**
+     * Returns the number of days after Easter Sunday.
+     *
+     * @return The offset.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Sets the number of days after Easter Sunday.
+     *
+     * @param offset  the offset in days (-366 to 366).
+     */
+    public void setOffset(final int offset) {
+        if (Math.abs(offset) > 366) {
+            throw new IllegalArgumentException(
+                "EasterRelativeRule.setOffset(): offset outside valid "
+                + "range.");
+        }
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the date generated by the rule for the given year.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The date (<code>null</code> if it falls outside the range
+     *     supported by {@link SerialDate}).
+     */
+    public SerialDate getDate(final int year) {
+        final int serial = getSerial(year);
+        return (serial >= 0) ? SerialDate.createInstance(serial) : null;
+    }
+
+    /**
+     * Returns the serial number of the date generated by the rule for the
+     * given year.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number, or -1 if the date falls outside the range
+     *     supported by {@link SerialDate}.
+     */
+    public int getSerial(final int year) {
+        final int serial = EasterSundayRule.getSerialForYear(year)
+                + this.offset;
+        if ((serial < SerialDate.SERIAL_LOWER_BOUND)
+            || (serial > SerialDate.SERIAL_UPPER_BOUND)) {
+            return -1;
+        }
+        return serial;
+    }
+
+}
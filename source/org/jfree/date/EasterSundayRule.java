@@ -40,6 +40,8 @@
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 01-Jun-2005 : Removed the explicit clonable declaration, it is declared
  *               in the super class.
+ * 19-Oct-2026 : Added getSerialForYear();
+ * 19-Oct-2026 : Look up dates in a precomputed table;
  */
 
 package org.jfree.date;
@@ -53,11 +55,27 @@ package org.jfree.date;
  * <P>
  * It is based on an algorithm by Oudin (1940) and quoted in "Explanatory Supplement to the
  * Astronomical Almanac", P. Kenneth Seidelmann, editor.
+ * <P>
+ * The algorithm is run once for each supported year (1900 to 9999) when the
+ * class is loaded, and the serial numbers are kept in a table (about 32KB),
+ * so the rule (and {@link EasterRelativeRule}) finds a date with one array
+ * read.
  *
  * @author David Gilbert
  */
 public class EasterSundayRule extends AnnualDateRule {
 
+    /** The serial number of Easter Sunday, indexed by year - 1900. */
+    private static final int[] SERIALS = new int[
+            SerialDate.MAXIMUM_YEAR_SUPPORTED
+            - SerialDate.MINIMUM_YEAR_SUPPORTED + 1];
+
+    static {
+        for (int i = 0; i < SERIALS.length; i++) {
+            SERIALS[i] = calculate(SerialDate.MINIMUM_YEAR_SUPPORTED + i);
+        }
+    }
+
     /**
      * Default constructor.
      */
@@ -75,6 +93,46 @@ public class EasterSundayRule extends AnnualDateRule {
      * @return the date of Easter Sunday for the given year.
      */
     public SerialDate getDate(final int year) {
+        return SerialDate.createInstance(getSerialForYear(year));
+    }
+
+    /**
+     * Returns the serial number of Easter Sunday for the given year.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number.
+     */
+    public int getSerial(final int year) {
+        return getSerialForYear(year);
+    }
+
+    /**
+     * Returns the serial number of Easter Sunday for the given year, from
+     * the table.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number.
+     */
+    static int getSerialForYear(final int year) {
+        if ((year < SerialDate.MINIMUM_YEAR_SUPPORTED)
+            || (year > SerialDate.MAXIMUM_YEAR_SUPPORTED)) {
+            throw new IllegalArgumentException(
+                "EasterSundayRule.getSerial(): year outside valid range.");
+        }
+        return SERIALS[year - SerialDate.MINIMUM_YEAR_SUPPORTED];
+    }
+
+    /**
+     * Calculates the serial number of Easter Sunday for the given year.
+     * See the class description for the source of the algorithm.
+     *
+     * @param year  the year.
+     *
+     * @return The serial number.
+     */
+    private static int calculate(final int year) {
         final int g = year % 19;
         final int c = year / 100;
         final int h = (c - c / 4 - (8 * c + 13) / 25 + 19 * g + 15) % 30;
@@ -83,7 +141,7 @@ public class EasterSundayRule extends AnnualDateRule {
         final int l = i - j;
         final int month = 3 + (l + 40) / 44;
         final int day = l + 28 - 31 * (month / 4);
-        return SerialDate.createInstance(day, month, year);
+        return SerialDateArithmetic.toSerial(day, month, year);
     }
 
 }
@@ -0,0 +1,332 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * HolidayCalendarSpec.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Change case with Locale.ROOT, typed the lists and read
+ *               snapshots without trusting the rule count;
+ * 19-Oct-2026 : A named rule can start with "weekend", and snapshots with
+ *               invalid weekend masks or names are rejected;
+ *
+ */
+
+package org.jfree.date;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringTokenizer;
+
+/**
+ * A compiled holiday calendar definition: a weekend and a list of named
+ * {@link HolidayRule} objects.  A definition is written one entry per line
+ * (or separated by semicolons), for example:
+ * <pre>
+ *   # New York
+ *   weekend SATURDAY SUNDAY
+ *   New Year: 1 JANUARY
+ *   Good Friday: EASTER -2
+ *   Memorial Day: last MONDAY in MAY
+ *   Christmas: 25 DECEMBER
+ * </pre>
+ * Text after a '#' is ignored, the weekend line is optional (Saturday and
+ * Sunday by default) and the names are optional.  A line is the weekend
+ * line only if its first word is "weekend" and it has no ':', so a rule
+ * can be named (for example) "Weekend Bank Holiday".  Names cannot contain
+ * ':', '#', ';' or line breaks, and have no leading or trailing spaces.
+ * <P>
+ * A compiled definition is immutable.  It can be written to a binary
+ * snapshot with {@link #writeSnapshot(DataOutput)} and read back with
+ * {@link #readSnapshot(DataInput)}, which does no text parsing, so that an
+ * application with many calendars can cache them between runs.
+ */
+public final class HolidayCalendarSpec {
+
+    /** The first int of a snapshot ("JCHC"). */
+    public static final int MAGIC = 0x4A434843;
+
+    /** The snapshot format version. */
+    public static final int VERSION = 1;
+
+    /** The weekend mask (see {@link BusinessDayCalendar}). */
+    private final int weekendMask;
+
+    /** The names of the rules (empty strings for unnamed rules). */
+    private final String[] names;
+
+    /** The rules. */
+    private final HolidayRule[] rules;
+
+    /**
+     * Creates a definition.
+     *
+     * @param weekendMask  the weekend mask.
+     * @param names  the rule names (not copied).
+     * @param rules  the rules (not copied).
+     */
+    private HolidayCalendarSpec(final int weekendMask, final String[] names,
+                                final HolidayRule[] rules) {
+        this.weekendMask = weekendMask;
+        this.names = names;
+        this.rules = rules;
+    }
+
+    /**
+     * Compiles a definition from its text.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     *
+     * @return The definition.
+     *
+     * @throws IllegalArgumentException if an entry is not valid.
+     */
+    public static HolidayCalendarSpec compile(final String text) {
+        int mask = BusinessDayCalendar.weekendMask(SerialDate.SATURDAY,
+                SerialDate.SUNDAY);
+        final List<String> names = new ArrayList<String>();
+        final List<HolidayRule> rules = new ArrayList<HolidayRule>();
+        final StringTokenizer lines = new StringTokenizer(text, "\n\r;");
+        while (lines.hasMoreTokens()) {
+            String line = lines.nextToken();
+            final int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (line.length() == 0) {
+                continue;
+            }
+            final int colon = line.indexOf(':');
+            final StringTokenizer words = new StringTokenizer(line);
+            if ((colon < 0) && words.nextToken().equalsIgnoreCase("WEEKEND")) {
+                mask = 0;
+                while (words.hasMoreTokens()) {
+                    final String word = words.nextToken();
+                    final int day = HolidayRule.weekday(word.toUpperCase(
+                            Locale.ROOT));
+                    if (day < 0) {
+                        throw new IllegalArgumentException(
+                            "HolidayCalendarSpec.compile(): invalid "
+                            + "weekend: " + line);
+                    }
+                    mask |= BusinessDayCalendar.weekendMask(day + 1);
+                }
+                if (!isValidWeekendMask(mask)) {
+                    throw new IllegalArgumentException(
+                        "HolidayCalendarSpec.compile(): invalid weekend: "
+                        + line);
+                }
+                continue;
+            }
+            names.add((colon >= 0) ? line.substring(0, colon).trim() : "");
+            rules.add(HolidayRule.parse(line.substring(colon + 1)));
+        }
+        return new HolidayCalendarSpec(mask,
+                names.toArray(new String[names.size()]),
+                rules.toArray(new HolidayRule[rules.size()]));
+    }
+
+    /**
+     * Reads a definition written by {@link #writeSnapshot(DataOutput)}.
+     *
+     * @param in  the input (<code>null</code> not permitted).
+     *
+     * @return The definition.
+     *
+     * @throws IOException if there is an I/O problem or the data is not a
+     *     snapshot.
+     */
+    public static HolidayCalendarSpec readSnapshot(final DataInput in)
+        throws IOException {
+        if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)) {
+            throw new IOException(
+                "HolidayCalendarSpec.readSnapshot(): not a snapshot.");
+        }
+        final int mask = in.readInt();
+        final int count = in.readInt();
+        if (!isValidWeekendMask(mask) || (count < 0)) {
+            throw new IOException(
+                "HolidayCalendarSpec.readSnapshot(): invalid data.");
+        }
+        // the count is not trusted for allocation: a corrupt count runs
+        // out of data (an EOFException) rather than memory...
+        final List<String> names = new ArrayList<String>();
+        final List<HolidayRule> rules = new ArrayList<HolidayRule>();
+        for (int i = 0; i < count; i++) {
+            final String name = in.readUTF();
+            if (!isValidName(name)) {
+                throw new IOException(
+                    "HolidayCalendarSpec.readSnapshot(): invalid name.");
+            }
+            names.add(name);
+            rules.add(HolidayRule.readFrom(in));
+        }
+        return new HolidayCalendarSpec(mask,
+                names.toArray(new String[names.size()]),
+                rules.toArray(new HolidayRule[rules.size()]));
+    }
+
+    /**
+     * Returns <code>true</code> if a weekend mask has bits only for the
+     * day-of-the-week codes and leaves at least one day for business.
+     *
+     * @param mask  the mask.
+     *
+     * @return A boolean.
+     */
+    private static boolean isValidWeekendMask(final int mask) {
+        return ((mask & ~0xFE) == 0) && (mask != 0xFE);
+    }
+
+    /**
+     * Returns <code>true</code> if a rule name would read back unchanged
+     * from the text written by {@link #toString()}.
+     *
+     * @param name  the name.
+     *
+     * @return A boolean.
+     */
+    private static boolean isValidName(final String name) {
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if ((c == ':') || (c == '#') || (c == ';') || (c == '\n')
+                || (c == '\r')) {
+                return false;
+            }
+        }
+        return name.equals(name.trim());
+    }
+
+    /**
+     * Writes the definition as a binary snapshot.
+     *
+     * @param out  the output (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeSnapshot(final DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(this.weekendMask);
+        out.writeInt(this.rules.length);
+        for (int i = 0; i < this.rules.length; i++) {
+            out.writeUTF(this.names[i]);
+            this.rules[i].writeTo(out);
+        }
+    }
+
+    /**
+     * Returns the weekend mask.
+     *
+     * @return The weekend mask.
+     */
+    public int getWeekendMask() {
+        return this.weekendMask;
+    }
+
+    /**
+     * Returns the number of rules.
+     *
+     * @return The number of rules.
+     */
+    public int getRuleCount() {
+        return this.rules.length;
+    }
+
+    /**
+     * Returns a rule.
+     *
+     * @param index  the rule index (zero-based).
+     *
+     * @return The rule.
+     */
+    public HolidayRule getRule(final int index) {
+        return this.rules[index];
+    }
+
+    /**
+     * Returns the name of a rule.
+     *
+     * @param index  the rule index (zero-based).
+     *
+     * @return The name (an empty string if the rule has no name).
+     */
+    public String getName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Creates a business day calendar from the definition.
+     *
+     * @param firstYear  the first year covered by the calendar.
+     * @param lastYear  the last year covered by the calendar.
+     *
+     * @return The calendar.
+     */
+    public BusinessDayCalendar toCalendar(final int firstYear,
+                                          final int lastYear) {
+        return BusinessDayCalendar.fromRules(firstYear, lastYear,
+                this.weekendMask, this.rules);
+    }
+
+    /**
+     * Returns the text of the definition, in a form accepted by
+     * {@link #compile(String)}.
+     *
+     * @return The text.
+     */
+    public String toString() {
+        final StringBuffer result = new StringBuffer("weekend");
+        for (int day = SerialDate.SUNDAY; day <= SerialDate.SATURDAY; day++) {
+            if ((this.weekendMask & (1 << day)) != 0) {
+                result.append(' ').append(HolidayRule.weekdayName(day));
+            }
+        }
+        for (int i = 0; i < this.rules.length; i++) {
+            result.append('\n');
+            if (this.names[i].length() > 0) {
+                result.append(this.names[i]).append(": ");
+            }
+            result.append(this.rules[i]);
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,604 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * HolidayRule.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Change case with Locale.ROOT, and typed the step list;
+ *
+ */
+
+package org.jfree.date;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringTokenizer;
+
+/**
+ * An annual date rule compiled from a short text such as
+ * "25 DECEMBER", "last MONDAY in MAY", "MONDAY following 25 DECEMBER" or
+ * "EASTER -2".
+ * <P>
+ * The grammar is:
+ * <pre>
+ *   rule   := WEEKDAY (preceding | nearest | following) rule
+ *           | base [offset]
+ *   base   := DAY MONTH
+ *           | (first | second | third | fourth | last) WEEKDAY in MONTH
+ *           | EASTER
+ *   offset := +n | -n
+ * </pre>
+ * Words are not case sensitive, and English month and weekday names may be
+ * given in full or as their first three letters.  "preceding" and
+ * "following" behave as in {@link RelativeDayOfWeekRule}: "preceding" is
+ * the last such weekday before the base date, and "following" is the
+ * base date itself if it falls on the weekday, otherwise the next such
+ * day.  "nearest" is the closest such day, looking at most three days
+ * either way.
+ * <P>
+ * Unlike a graph of {@link DayAndMonthRule}, {@link DayOfWeekInMonthRule}
+ * and {@link RelativeDayOfWeekRule} objects, a compiled rule is a single
+ * immutable object: the base date is reduced to a day-of-year offset when
+ * the rule is compiled, and the relative steps are held in two small
+ * arrays, so {@link #getSerial(int)} works on serial numbers without
+ * creating any dates.  A rule can be written to, and read from, a binary
+ * stream (see {@link HolidayCalendarSpec}).
+ */
+public final class HolidayRule extends AnnualDateRule {
+
+    /** A base date given by a day and month. */
+    private static final int FIXED = 0;
+
+    /** A base date given by a weekday in a week of a month. */
+    private static final int WEEKDAY_IN_MONTH = 1;
+
+    /** A base date given by Easter Sunday. */
+    private static final int EASTER = 2;
+
+    /** The largest offset (in days) accepted for a rule. */
+    private static final int MAXIMUM_OFFSET = 366;
+
+    /** Month names. */
+    private static final String[] MONTHS = {"JANUARY", "FEBRUARY", "MARCH",
+        "APRIL", "MAY", "JUNE", "JULY", "AUGUST", "SEPTEMBER", "OCTOBER",
+        "NOVEMBER", "DECEMBER"};
+
+    /** Weekday names (starting with Sunday, as in {@link SerialDate}). */
+    private static final String[] WEEKDAYS = {"SUNDAY", "MONDAY", "TUESDAY",
+        "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY"};
+
+    /** Week words, indexed by the <code>xxx_WEEK_IN_MONTH</code> codes. */
+    private static final String[] WEEKS = {"LAST", "FIRST", "SECOND",
+        "THIRD", "FOURTH"};
+
+    /** Relative words, indexed by relative code + 1. */
+    private static final String[] RELATIVES = {"PRECEDING", "NEAREST",
+        "FOLLOWING"};
+
+    /** The kind of base date (FIXED, WEEKDAY_IN_MONTH or EASTER). */
+    private final int kind;
+
+    /** The day of the month (FIXED) or week code (WEEKDAY_IN_MONTH). */
+    private final int day;
+
+    /** The weekday (WEEKDAY_IN_MONTH only). */
+    private final int weekday;
+
+    /** The month (FIXED and WEEKDAY_IN_MONTH). */
+    private final int month;
+
+    /** The number of days added to the base date. */
+    private final int offset;
+
+    /** The relative codes of the steps, innermost first. */
+    private final int[] relatives;
+
+    /** The weekdays of the steps, innermost first. */
+    private final int[] weekdays;
+
+    /** Days from 1 January to the base date (or month start). */
+    private final int dayOfYear;
+
+    /** A flag that indicates the base moves by a day in leap years. */
+    private final boolean leapShift;
+
+    /**
+     * Creates a rule.
+     *
+     * @param kind  the kind of base date.
+     * @param day  the day of the month or week code.
+     * @param weekday  the weekday.
+     * @param month  the month.
+     * @param offset  the offset in days.
+     * @param relatives  the relative codes of the steps.
+     * @param weekdays  the weekdays of the steps.
+     */
+    private HolidayRule(final int kind, final int day, final int weekday,
+                        final int month, final int offset,
+                        final int[] relatives, final int[] weekdays) {
+        this.kind = kind;
+        this.day = day;
+        this.weekday = weekday;
+        this.month = month;
+        this.offset = offset;
+        this.relatives = relatives;
+        this.weekdays = weekdays;
+        if (kind == EASTER) {
+            this.dayOfYear = 0;
+            this.leapShift = false;
+        }
+        else {
+            final int first = (kind == FIXED) ? day - 1 : 0;
+            this.dayOfYear = first
+                + SerialDate.AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH[month];
+            this.leapShift = month > MonthConstants.FEBRUARY;
+        }
+    }
+
+    /**
+     * Compiles a rule from its text.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     *
+     * @return The rule.
+     *
+     * @throws IllegalArgumentException if the text is not a valid rule.
+     */
+    public static HolidayRule parse(final String text) {
+        final StringTokenizer st = new StringTokenizer(text);
+        final String[] tokens = new String[st.countTokens()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = st.nextToken().toUpperCase(Locale.ROOT);
+        }
+
+        // the relative steps are read outermost first...
+        int pos = 0;
+        final List<int[]> steps = new ArrayList<int[]>();
+        while ((pos + 1 < tokens.length) && (relative(tokens[pos + 1]) != 2)
+               && (name(WEEKDAYS, tokens[pos]) >= 0)) {
+            steps.add(new int[] {relative(tokens[pos + 1]),
+                name(WEEKDAYS, tokens[pos]) + 1});
+            pos += 2;
+        }
+
+        // ...then the base date...
+        final int remaining = tokens.length - pos;
+        int kind;
+        int day = 0;
+        int weekday = 0;
+        int month = 0;
+        if ((remaining >= 1) && tokens[pos].equals("EASTER")) {
+            kind = EASTER;
+            pos += 1;
+        }
+        else if ((remaining >= 4) && tokens[pos + 2].equals("IN")
+                 && (name(WEEKS, tokens[pos]) >= 0)) {
+            kind = WEEKDAY_IN_MONTH;
+            day = name(WEEKS, tokens[pos]);
+            weekday = name(WEEKDAYS, tokens[pos + 1]) + 1;
+            month = name(MONTHS, tokens[pos + 3]) + 1;
+            if ((weekday == 0) || (month == 0)) {
+                throw invalid(text);
+            }
+            pos += 4;
+        }
+        else if (remaining >= 2) {
+            kind = FIXED;
+            day = number(tokens[pos], text);
+            month = name(MONTHS, tokens[pos + 1]) + 1;
+            if (!isValidBase(FIXED, day, 0, month)) {
+                throw invalid(text);
+            }
+            pos += 2;
+        }
+        else {
+            throw invalid(text);
+        }
+
+        // ...and an optional offset
+        int offset = 0;
+        if (pos < tokens.length) {
+            final char sign = tokens[pos].charAt(0);
+            if ((sign != '+') && (sign != '-')) {
+                throw invalid(text);
+            }
+            offset = number(tokens[pos].substring(1), text);
+            if (offset > MAXIMUM_OFFSET) {
+                throw invalid(text);
+            }
+            offset = (sign == '-') ? -offset : offset;
+            pos += 1;
+        }
+        if (pos != tokens.length) {
+            throw invalid(text);
+        }
+
+        final int n = steps.size();
+        final int[] relatives = new int[n];
+        final int[] weekdays = new int[n];
+        for (int i = 0; i < n; i++) {
+            final int[] step = steps.get(n - 1 - i);
+            relatives[i] = step[0];
+            weekdays[i] = step[1];
+        }
+        return new HolidayRule(kind, day, weekday, month, offset, relatives,
+                weekdays);
+    }
+
+    /**
+     * Reads a rule written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in  the input (<code>null</code> not permitted).
+     *
+     * @return The rule.
+     *
+     * @throws IOException if there is an I/O problem or the data is not
+     *     a valid rule.
+     */
+    public static HolidayRule readFrom(final DataInput in)
+        throws IOException {
+        final int kind = in.readByte();
+        final int day = in.readByte();
+        final int weekday = in.readByte();
+        final int month = in.readByte();
+        final int offset = in.readShort();
+        final int n = in.readByte();
+        if ((kind < FIXED) || (kind > EASTER) || (n < 0)
+            || (Math.abs(offset) > MAXIMUM_OFFSET)) {
+            throw new IOException("HolidayRule.readFrom(): invalid data.");
+        }
+        final int[] relatives = new int[n];
+        final int[] weekdays = new int[n];
+        for (int i = 0; i < n; i++) {
+            relatives[i] = in.readByte();
+            weekdays[i] = in.readByte();
+            if ((relatives[i] < SerialDate.PRECEDING)
+                || (relatives[i] > SerialDate.FOLLOWING)
+                || !SerialDate.isValidWeekdayCode(weekdays[i])) {
+                throw new IOException(
+                    "HolidayRule.readFrom(): invalid data.");
+            }
+        }
+        if (!isValidBase(kind, day, weekday, month)) {
+            throw new IOException("HolidayRule.readFrom(): invalid data.");
+        }
+        return new HolidayRule(kind, day, weekday, month, offset, relatives,
+                weekdays);
+    }
+
+    /**
+     * Writes the rule in a compact binary form.
+     *
+     * @param out  the output (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeTo(final DataOutput out) throws IOException {
+        out.writeByte(this.kind);
+        out.writeByte(this.day);
+        out.writeByte(this.weekday);
+        out.writeByte(this.month);
+        out.writeShort(this.offset);
+        out.writeByte(this.relatives.length);
+        for (int i = 0; i < this.relatives.length; i++) {
+            out.writeByte(this.relatives[i]);
+            out.writeByte(this.weekdays[i]);
+        }
+    }
+
+    /**
+     * Returns the date generated by the rule for the given year.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The date (possibly <code>null</code>).
+     */
+    public SerialDate getDate(final int year) {
+        final int serial = getSerial(year);
+        return (serial >= 0) ? SerialDate.createInstance(serial) : null;
+    }
+
+    /**
+     * Returns the serial number of the date generated by the rule for the
+     * given year.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number, or -1 if the rule gives no date for the
+     *     year (29 February in a year that is not a leap year, or a date
+     *     outside the supported range).
+     */
+    public int getSerial(final int year) {
+        if ((year < SerialDate.MINIMUM_YEAR_SUPPORTED)
+            || (year > SerialDate.MAXIMUM_YEAR_SUPPORTED)) {
+            throw new IllegalArgumentException(
+                "HolidayRule.getSerial(): year outside valid range.");
+        }
+        int serial;
+        if (this.kind == EASTER) {
+            serial = EasterSundayRule.getSerialForYear(year);
+        }
+        else {
+            final boolean leap = SerialDate.isLeapYear(year);
+            serial = SerialDateArithmetic.yearStart(year) + this.dayOfYear;
+            if (this.leapShift && leap) {
+                serial = serial + 1;
+            }
+            if (this.kind == FIXED) {
+                if ((this.day == 29) && !leap
+                    && (this.month == MonthConstants.FEBRUARY)) {
+                    return -1;
+                }
+            }
+            else if (this.day == SerialDate.LAST_WEEK_IN_MONTH) {
+                int days = SerialDate.LAST_DAY_OF_MONTH[this.month];
+                if (leap && (this.month == MonthConstants.FEBRUARY)) {
+                    days = days + 1;
+                }
+                serial = serial + days - 1;
+                serial = serial - (SerialDateArithmetic.getDayOfWeek(serial)
+                        - this.weekday + 7) % 7;
+            }
+            else {
+                serial = serial + (this.weekday
+                        - SerialDateArithmetic.getDayOfWeek(serial) + 7) % 7
+                        + 7 * (this.day - 1);
+            }
+        }
+        serial = serial + this.offset;
+        for (int i = 0; i < this.relatives.length; i++) {
+            final int dow = SerialDateArithmetic.getDayOfWeek(serial);
+            final int target = this.weekdays[i];
+            switch (this.relatives[i]) {
+                case SerialDate.PRECEDING:
+                    serial = serial - (dow - target + 6) % 7 - 1;
+                    break;
+                case SerialDate.FOLLOWING:
+                    serial = serial + (target - dow + 7) % 7;
+                    break;
+                default:
+                    final int adjust = (target - dow + 7) % 7;
+                    serial = serial + ((adjust > 3) ? adjust - 7 : adjust);
+                    break;
+            }
+        }
+        if ((serial < SerialDate.SERIAL_LOWER_BOUND)
+            || (serial > SerialDate.SERIAL_UPPER_BOUND)) {
+            return -1;
+        }
+        return serial;
+    }
+
+    /**
+     * Tests this rule for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof HolidayRule)) {
+            return false;
+        }
+        final HolidayRule that = (HolidayRule) obj;
+        return (this.kind == that.kind) && (this.day == that.day)
+            && (this.weekday == that.weekday) && (this.month == that.month)
+            && (this.offset == that.offset)
+            && Arrays.equals(this.relatives, that.relatives)
+            && Arrays.equals(this.weekdays, that.weekdays);
+    }
+
+    /**
+     * Returns a hash code for the rule.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.kind;
+        result = 37 * result + this.day;
+        result = 37 * result + this.weekday;
+        result = 37 * result + this.month;
+        result = 37 * result + this.offset;
+        result = 37 * result + Arrays.hashCode(this.relatives);
+        result = 37 * result + Arrays.hashCode(this.weekdays);
+        return result;
+    }
+
+    /**
+     * Returns the text of the rule, in a form accepted by
+     * {@link #parse(String)}.
+     *
+     * @return The text.
+     */
+    public String toString() {
+        final StringBuffer result = new StringBuffer();
+        for (int i = this.relatives.length - 1; i >= 0; i--) {
+            result.append(WEEKDAYS[this.weekdays[i] - 1]).append(' ');
+            result.append(RELATIVES[this.relatives[i] + 1].toLowerCase(
+                    Locale.ROOT));
+            result.append(' ');
+        }
+        switch (this.kind) {
+            case FIXED:
+                result.append(this.day).append(' ');
+                result.append(MONTHS[this.month - 1]);
+                break;
+            case WEEKDAY_IN_MONTH:
+                result.append(WEEKS[this.day].toLowerCase(Locale.ROOT));
+                result.append(' ');
+                result.append(WEEKDAYS[this.weekday - 1]).append(" in ");
+                result.append(MONTHS[this.month - 1]);
+                break;
+            default:
+                result.append("EASTER");
+                break;
+        }
+        if (this.offset > 0) {
+            result.append(" +").append(this.offset);
+        }
+        else if (this.offset < 0) {
+            result.append(" -").append(-this.offset);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns <code>true</code> if the fields describe a valid base date.
+     *
+     * @param kind  the kind of base date.
+     * @param day  the day of the month or week code.
+     * @param weekday  the weekday.
+     * @param month  the month.
+     *
+     * @return A boolean.
+     */
+    private static boolean isValidBase(final int kind, final int day,
+                                       final int weekday, final int month) {
+        if (kind == EASTER) {
+            return (day == 0) && (weekday == 0) && (month == 0);
+        }
+        if ((month < 1) || (month > 12)) {
+            return false;
+        }
+        if (kind == FIXED) {
+            final int last = (month == MonthConstants.FEBRUARY) ? 29
+                    : SerialDate.LAST_DAY_OF_MONTH[month];
+            return (day >= 1) && (day <= last) && (weekday == 0);
+        }
+        return (day >= SerialDate.LAST_WEEK_IN_MONTH)
+            && (day <= SerialDate.FOURTH_WEEK_IN_MONTH)
+            && SerialDate.isValidWeekdayCode(weekday);
+    }
+
+    /**
+     * Returns the position of a word in a table of names, or -1.  Names
+     * match in full or by their first three letters.
+     *
+     * @param names  the names.
+     * @param token  the word (upper case).
+     *
+     * @return The position, or -1.
+     */
+    static int name(final String[] names, final String token) {
+        for (int i = 0; i < names.length; i++) {
+            if (token.equals(names[i]) || ((token.length() == 3)
+                    && names[i].startsWith(token))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of a weekday name, or -1.
+     *
+     * @param token  the word (upper case).
+     *
+     * @return The position (zero for Sunday), or -1.
+     */
+    static int weekday(final String token) {
+        return name(WEEKDAYS, token);
+    }
+
+    /**
+     * Returns the English name of a weekday.
+     *
+     * @param day  the day code (<code>SerialDate.SUNDAY</code> etc.).
+     *
+     * @return The name (upper case).
+     */
+    static String weekdayName(final int day) {
+        return WEEKDAYS[day - 1];
+    }
+
+    /**
+     * Returns the relative code for a word, or 2 if the word is not one of
+     * "PRECEDING", "NEAREST" or "FOLLOWING".
+     *
+     * @param token  the word (upper case).
+     *
+     * @return The code.
+     */
+    private static int relative(final String token) {
+        for (int i = 0; i < RELATIVES.length; i++) {
+            if (token.equals(RELATIVES[i])) {
+                return i - 1;
+            }
+        }
+        return 2;
+    }
+
+    /**
+     * Parses a non-negative number.
+     *
+     * @param token  the token.
+     * @param text  the rule text (for error messages).
+     *
+     * @return The number.
+     */
+    private static int number(final String token, final String text) {
+        if ((token.length() == 0) || (token.length() > 4)) {
+            throw invalid(text);
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if ((token.charAt(i) < '0') || (token.charAt(i) > '9')) {
+                throw invalid(text);
+            }
+        }
+        return Integer.parseInt(token);
+    }
+
+    /**
+     * Returns an exception for an invalid rule.
+     *
+     * @param text  the rule text.
+     *
+     * @return The exception.
+     */
+    private static IllegalArgumentException invalid(final String text) {
+        return new IllegalArgumentException(
+            "HolidayRule.parse(): invalid rule: " + text);
+    }
+
+}
@@ -0,0 +1,237 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * MonthlyRecurrence.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A recurrence with one date in every month, or in every nth month: either
+ * a day of the month (for example the 15th, or the 31st, which becomes the
+ * last day in shorter months) or a day of the week within the month (for
+ * example the third Wednesday, or the last Friday).
+ * <P>
+ * The next occurrence is calculated directly from the month of the date,
+ * so each query takes constant time.
+ */
+public class MonthlyRecurrence extends RecurrenceRule {
+
+    /** The number of months between occurrences. */
+    private final int interval;
+
+    /** A month in which the rule occurs (1-12). */
+    private final int startMonth;
+
+    /** The day of the month (1-31), or zero for a day of the week. */
+    private final int dayOfMonth;
+
+    /** The week in the month (SerialDate.FIRST_WEEK_IN_MONTH etc.). */
+    private final int week;
+
+    /** The day of the week. */
+    private final int dayOfWeek;
+
+    /**
+     * Creates a recurrence on a day of the month.
+     *
+     * @param interval  the number of months between occurrences (1 for
+     *                  monthly, 3 for quarterly and so on).
+     * @param startMonth  a month in which the rule occurs (1-12).
+     * @param dayOfMonth  the day of the month (1-31; days after the end of
+     *                    a month give the last day of the month).
+     */
+    public MonthlyRecurrence(final int interval, final int startMonth,
+                             final int dayOfMonth) {
+        this(interval, startMonth, dayOfMonth, 0, 0);
+        if ((dayOfMonth < 1) || (dayOfMonth > 31)) {
+            throw new IllegalArgumentException(
+                "MonthlyRecurrence(): invalid day of the month.");
+        }
+    }
+
+    /**
+     * Creates a recurrence on a day of the week within the month.
+     *
+     * @param interval  the number of months between occurrences.
+     * @param startMonth  a month in which the rule occurs (1-12).
+     * @param week  the week in the month
+     *              (<code>SerialDate.FIRST_WEEK_IN_MONTH</code> to
+     *              <code>FOURTH_WEEK_IN_MONTH</code>, or
+     *              <code>LAST_WEEK_IN_MONTH</code>).
+     * @param dayOfWeek  the day of the week (<code>SerialDate.MONDAY</code>
+     *                   etc.).
+     */
+    public MonthlyRecurrence(final int interval, final int startMonth,
+                             final int week, final int dayOfWeek) {
+        this(interval, startMonth, 0, week, dayOfWeek);
+        if (!SerialDate.isValidWeekInMonthCode(week)) {
+            throw new IllegalArgumentException(
+                "MonthlyRecurrence(): invalid week-in-month code.");
+        }
+        if (!SerialDate.isValidWeekdayCode(dayOfWeek)) {
+            throw new IllegalArgumentException(
+                "MonthlyRecurrence(): invalid day-of-the-week code.");
+        }
+    }
+
+    /**
+     * Creates a recurrence.
+     *
+     * @param interval  the number of months between occurrences.
+     * @param startMonth  a month in which the rule occurs.
+     * @param dayOfMonth  the day of the month (or zero).
+     * @param week  the week in the month.
+     * @param dayOfWeek  the day of the week.
+     */
+    private MonthlyRecurrence(final int interval, final int startMonth,
+                              final int dayOfMonth, final int week,
+                              final int dayOfWeek) {
+        if (interval < 1) {
+            throw new IllegalArgumentException(
+                "MonthlyRecurrence(): interval must be at least 1.");
+        }
+        if (!SerialDate.isValidMonthCode(startMonth)) {
+            throw new IllegalArgumentException(
+                "MonthlyRecurrence(): invalid month code.");
+        }
+        this.interval = interval;
+        this.startMonth = startMonth;
+        this.dayOfMonth = dayOfMonth;
+        this.week = week;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Returns the number of months between occurrences.
+     *
+     * @return The interval.
+     */
+    public int getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence, or {@link #NONE}.
+     */
+    public int nextOccurrence(final int after) {
+        if (after >= SerialDate.SERIAL_UPPER_BOUND) {
+            return NONE;
+        }
+        int month = (after < SerialDate.SERIAL_LOWER_BOUND) ? 0
+                                                           : monthIndex(after);
+        month += Math.floorMod(this.startMonth - 1 - month, this.interval);
+        int result = occurrence(month);
+        if ((result != NONE) && (result <= after)) {
+            month += this.interval;
+            result = occurrence(month);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence, or {@link #NONE}.
+     */
+    public int previousOccurrence(final int before) {
+        if (before <= SerialDate.SERIAL_LOWER_BOUND) {
+            return NONE;
+        }
+        int month = monthIndex(Math.min(before,
+                SerialDate.SERIAL_UPPER_BOUND));
+        month -= Math.floorMod(month - (this.startMonth - 1), this.interval);
+        int result = occurrence(month);
+        if ((result != NONE) && (result >= before)) {
+            month -= this.interval;
+            result = occurrence(month);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the occurrence in a month.
+     *
+     * @param month  the month index (months since January 1900).
+     *
+     * @return The occurrence (serial number), or {@link #NONE} if the month
+     *     is outside the supported range.
+     */
+    private int occurrence(final int month) {
+        final int yyyy = SerialDate.MINIMUM_YEAR_SUPPORTED + month / 12;
+        if ((month < 0) || (yyyy > SerialDate.MAXIMUM_YEAR_SUPPORTED)) {
+            return NONE;
+        }
+        final int m = month % 12 + 1;
+        final int last = SerialDate.lastDayOfMonth(m, yyyy);
+        if (this.dayOfMonth > 0) {
+            return SerialDateArithmetic.toSerial(
+                    Math.min(this.dayOfMonth, last), m, yyyy);
+        }
+        if (this.week == SerialDate.LAST_WEEK_IN_MONTH) {
+            final int end = SerialDateArithmetic.toSerial(last, m, yyyy);
+            return end - (SerialDateArithmetic.getDayOfWeek(end)
+                    - this.dayOfWeek + 7) % 7;
+        }
+        final int start = SerialDateArithmetic.toSerial(1, m, yyyy);
+        return start + (this.dayOfWeek
+                - SerialDateArithmetic.getDayOfWeek(start) + 7) % 7
+                + 7 * (this.week - 1);
+    }
+
+    /**
+     * Returns the month index (months since January 1900) of a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The month index.
+     */
+    private static int monthIndex(final int serial) {
+        return (SerialDateArithmetic.getYYYY(serial)
+                - SerialDate.MINIMUM_YEAR_SUPPORTED) * 12
+                + SerialDateArithmetic.getMonth(serial) - 1;
+    }
+
+}
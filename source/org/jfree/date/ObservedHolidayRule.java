@@ -0,0 +1,313 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * ObservedHolidayRule.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An annual date rule that moves a holiday falling on a weekend to a
+ * nearby weekday, the day on which it is observed.  The policy is given by
+ * one of the codes <code>SerialDate.PRECEDING</code> (the previous
+ * weekday), <code>SerialDate.FOLLOWING</code> (the next weekday) or
+ * <code>SerialDate.NEAREST</code> (the closest weekday, so that with a
+ * Saturday/Sunday weekend a Saturday holiday moves to Friday and a Sunday
+ * holiday moves to Monday).  The weekend is a mask in the form used by
+ * {@link BusinessDayCalendar}; a mask with Sunday alone gives the common
+ * "Sunday to Monday" policy.
+ * <P>
+ * {@link #getDate(int)} looks at one rule in isolation.  When several
+ * holidays are observed together, {@link #resolve(AnnualDateRule[], int,
+ * int, BitSet)} also handles collisions: holidays that fall on weekdays
+ * keep their dates, then each moved holiday (in the order of the rules)
+ * keeps moving in the same direction until it reaches a weekday that is
+ * not already a holiday.  For example, with the FOLLOWING policy a
+ * Christmas Day on a Saturday is observed on Monday 27 December and a
+ * Boxing Day on the Sunday on Tuesday 28 December.
+ * {@link BusinessDayCalendar#fromRules(int, int, int, AnnualDateRule[])}
+ * uses this method.
+ */
+public class ObservedHolidayRule extends AnnualDateRule {
+
+    /** The rule that gives the actual date of the holiday. */
+    private AnnualDateRule subrule;
+
+    /** The policy (SerialDate.PRECEDING, NEAREST or FOLLOWING). */
+    private final int relative;
+
+    /** The days of the week on which the holiday is not observed. */
+    private final int weekendMask;
+
+    /**
+     * Creates a rule with a Saturday/Sunday weekend.
+     *
+     * @param subrule  the rule that gives the actual date
+     *                 (<code>null</code> not permitted).
+     * @param relative  the policy (<code>SerialDate.PRECEDING</code>,
+     *                  <code>SerialDate.NEAREST</code> or
+     *                  <code>SerialDate.FOLLOWING</code>).
+     */
+    public ObservedHolidayRule(final AnnualDateRule subrule,
+                               final int relative) {
+        this(subrule, relative, BusinessDayCalendar.weekendMask(
+                SerialDate.SATURDAY, SerialDate.SUNDAY));
+    }
+
+    /**
+     * Creates a rule.
+     *
+     * @param subrule  the rule that gives the actual date
+     *                 (<code>null</code> not permitted).
+     * @param relative  the policy (<code>SerialDate.PRECEDING</code>,
+     *                  <code>SerialDate.NEAREST</code> or
+     *                  <code>SerialDate.FOLLOWING</code>).
+     * @param weekendMask  the days on which the holiday is not observed (see
+     *                     {@link BusinessDayCalendar#weekendMask(int[])}).
+     */
+    public ObservedHolidayRule(final AnnualDateRule subrule,
+                               final int relative, final int weekendMask) {
+        if (subrule == null) {
+            throw new IllegalArgumentException(
+                "ObservedHolidayRule(): null 'subrule' argument.");
+        }
+        if ((relative < SerialDate.PRECEDING)
+            || (relative > SerialDate.FOLLOWING)) {
+            throw new IllegalArgumentException(
+                "ObservedHolidayRule(): invalid 'relative' code.");
+        }
+        if (((weekendMask & ~0xFE) != 0) || (weekendMask == 0xFE)) {
+            throw new IllegalArgumentException(
+                "ObservedHolidayRule(): invalid weekend mask.");
+        }
+        this.subrule = subrule;
+        this.relative = relative;
+        this.weekendMask = weekendMask;
+    }
+
+    /**
+     * Returns the rule that gives the actual date of the holiday.
+     *
+     * @return The rule.
+     */
+    public AnnualDateRule getSubrule() {
+        return this.subrule;
+    }
+
+    /**
+     * Returns the policy (<code>SerialDate.PRECEDING</code>,
+     * <code>SerialDate.NEAREST</code> or <code>SerialDate.FOLLOWING</code>).
+     *
+     * @return The policy.
+     */
+    public int getRelative() {
+        return this.relative;
+    }
+
+    /**
+     * Returns the weekend mask.
+     *
+     * @return The weekend mask.
+     */
+    public int getWeekendMask() {
+        return this.weekendMask;
+    }
+
+    /**
+     * Returns the date on which the holiday is observed in the specified
+     * year, ignoring other holidays.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The date (possibly <code>null</code>).
+     */
+    public SerialDate getDate(final int year) {
+        final int serial = getSerial(year);
+        return (serial >= 0) ? SerialDate.createInstance(serial) : null;
+    }
+
+    /**
+     * Returns the serial number of the date on which the holiday is
+     * observed in the specified year, ignoring other holidays.
+     *
+     * @param year  the year (1900 &lt;= year &lt;= 9999).
+     *
+     * @return The serial number, or -1 if there is no date.
+     */
+    public int getSerial(final int year) {
+        final int serial = this.subrule.getSerial(year);
+        if ((serial < 0) || !isWeekend(serial)) {
+            return serial;
+        }
+        return observe(serial, null);
+    }
+
+    /**
+     * Creates a clone of this rule.
+     *
+     * @return A clone of this rule.
+     *
+     * @throws CloneNotSupportedException this should never happen.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        final ObservedHolidayRule duplicate
+            = (ObservedHolidayRule) super.clone();
+        duplicate.subrule = (AnnualDateRule) this.subrule.clone();
+        return duplicate;
+    }
+
+    /**
+     * Sets the bits for the observed dates of a set of holiday rules over a
+     * range of years.  Rules that are not observance rules give their dates
+     * unchanged.  The actual dates of all the rules are found first, one
+     * rule at a time over all the years; dates that need no move are set
+     * straight away, and the moved holidays are then placed in a second
+     * pass, skipping dates that are already set (see the class
+     * description).
+     *
+     * @param rules  the rules (<code>null</code> not permitted).
+     * @param firstYear  the first year.
+     * @param lastYear  the last year.
+     * @param holidays  the holidays, indexed by serial number
+     *                  (<code>null</code> not permitted, updated by this
+     *                  method).
+     */
+    public static void resolve(final AnnualDateRule[] rules,
+                               final int firstYear, final int lastYear,
+                               final BitSet holidays) {
+        final int years = lastYear - firstYear + 1;
+        if (years <= 0) {
+            return;
+        }
+
+        // first pass: the actual dates, leaving weekend ones pending...
+        int[] pending = null;
+        for (int r = 0; r < rules.length; r++) {
+            ObservedHolidayRule observed = null;
+            AnnualDateRule rule = rules[r];
+            if (rule instanceof ObservedHolidayRule) {
+                observed = (ObservedHolidayRule) rule;
+                rule = observed.subrule;
+            }
+            for (int i = 0; i < years; i++) {
+                final int serial = rule.getSerial(firstYear + i);
+                if (serial < 0) {
+                    continue;
+                }
+                if ((observed != null) && observed.isWeekend(serial)) {
+                    if (pending == null) {
+                        pending = new int[rules.length * years];
+                        Arrays.fill(pending, -1);
+                    }
+                    pending[i * rules.length + r] = serial;
+                }
+                else {
+                    holidays.set(serial);
+                }
+            }
+        }
+
+        // ...then the moved holidays, year by year in rule order
+        if (pending != null) {
+            for (int k = 0; k < pending.length; k++) {
+                if (pending[k] >= 0) {
+                    final ObservedHolidayRule observed
+                        = (ObservedHolidayRule) rules[k % rules.length];
+                    final int serial = observed.observe(pending[k],
+                            holidays);
+                    if (serial >= 0) {
+                        holidays.set(serial);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the holiday is not observed on the
+     * specified date because it falls on a weekend.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    private boolean isWeekend(final int serial) {
+        return (this.weekendMask
+                & (1 << SerialDateArithmetic.getDayOfWeek(serial))) != 0;
+    }
+
+    /**
+     * Returns the observed date for a holiday that falls on a weekend.
+     *
+     * @param serial  the actual date (serial number).
+     * @param taken  dates that are already holidays (<code>null</code>
+     *               permitted).
+     *
+     * @return The observed date (serial number), or -1 if it falls outside
+     *     the range supported by {@link SerialDate}.
+     */
+    private int observe(final int serial, final BitSet taken) {
+        int step = this.relative;
+        if (step == SerialDate.NEAREST) {
+            // the closest weekday, preferring the later one in a tie...
+            for (int d = 1; step == 0; d++) {
+                if (!isWeekend(serial + d)) {
+                    step = 1;
+                }
+                else if (!isWeekend(serial - d)) {
+                    step = -1;
+                }
+            }
+        }
+        int result = serial + step;
+        while ((result >= SerialDate.SERIAL_LOWER_BOUND) && (isWeekend(result)
+                || ((taken != null) && taken.get(result)))) {
+            result = result + step;
+        }
+        if ((result < SerialDate.SERIAL_LOWER_BOUND)
+            || (result > SerialDate.SERIAL_UPPER_BOUND)) {
+            return -1;
+        }
+        return result;
+    }
+
+}
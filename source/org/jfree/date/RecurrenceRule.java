@@ -0,0 +1,179 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * RecurrenceRule.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Typed the spliterator's comparator;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The base class for recurrence rules: rules that generate a sequence of
+ * dates, such as the third Wednesday of every month or the last business
+ * day of each quarter.  This generalises {@link AnnualDateRule}, which
+ * generates one date per year (and can be used as a recurrence with
+ * {@link AnnualRecurrence}).
+ * <P>
+ * Subclasses find the next occurrence after a date, and the previous
+ * occurrence before a date, directly from the date (in constant or
+ * logarithmic time), without enumerating the occurrences from some
+ * starting point.  {@link #occurrences(SerialDateRange)} builds on these
+ * to expand a rule lazily over a range.
+ */
+public abstract class RecurrenceRule implements Cloneable {
+
+    /** The value returned when there is no such occurrence. */
+    public static final int NONE = -1;
+
+    /**
+     * Default constructor.
+     */
+    protected RecurrenceRule() {
+    }
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence strictly after the date (serial number),
+     *     or {@link #NONE} if there is none.
+     */
+    public abstract int nextOccurrence(int after);
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence strictly before the date (serial number),
+     *     or {@link #NONE} if there is none.
+     */
+    public abstract int previousOccurrence(int before);
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (<code>null</code> not permitted).
+     *
+     * @return The first occurrence (<code>null</code> if there is none).
+     */
+    public SerialDate nextOccurrence(final SerialDate after) {
+        final int result = nextOccurrence(after.toSerial());
+        return (result != NONE) ? SerialDate.createInstance(result) : null;
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (<code>null</code> not permitted).
+     *
+     * @return The last occurrence (<code>null</code> if there is none).
+     */
+    public SerialDate previousOccurrence(final SerialDate before) {
+        final int result = previousOccurrence(before.toSerial());
+        return (result != NONE) ? SerialDate.createInstance(result) : null;
+    }
+
+    /**
+     * Returns <code>true</code> if a date is an occurrence of this rule.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean isOccurrence(final int serial) {
+        return nextOccurrence(serial - 1) == serial;
+    }
+
+    /**
+     * Returns the occurrences in a range, as a stream that finds each
+     * occurrence only when it is needed.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The occurrences (serial numbers, ascending).
+     */
+    public IntStream occurrences(final SerialDateRange range) {
+        final int first = range.getFirst();
+        final int last = range.getLast();
+        final Spliterator.OfInt spliterator
+            = new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.DISTINCT
+                    | Spliterator.SORTED | Spliterator.NONNULL) {
+                private int previous = first - 1;
+                public boolean tryAdvance(final IntConsumer consumer) {
+                    if (this.previous >= last) {
+                        return false;
+                    }
+                    final int next = nextOccurrence(this.previous);
+                    if ((next == NONE) || (next > last)) {
+                        this.previous = last;
+                        return false;
+                    }
+                    this.previous = next;
+                    consumer.accept(next);
+                    return true;
+                }
+                public Comparator<? super Integer> getComparator() {
+                    return null;
+                }
+            };
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * Returns a clone of the rule.
+     *
+     * @return A clone of the rule.
+     *
+     * @throws CloneNotSupportedException if the rule is not clonable.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+}
@@ -0,0 +1,341 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * ScheduleGenerator.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Generates periodic schedules (for example coupon, reset or payment dates)
+ * as serial numbers.
+ * <P>
+ * A schedule runs from a start date to an end date in steps of a fixed number
+ * of months.  Unless the period between the two dates is a whole number of
+ * steps, there is one irregular period (a stub), at the front or the back of
+ * the schedule as specified by the stub type.  A short stub is a period
+ * shorter than the regular step; a long stub merges that short period with
+ * the neighbouring regular period.
+ * <P>
+ * The regular dates are rolled from an anchor date (the end date for a
+ * front stub, the start date for a back stub), each date being found by
+ * adding a whole number of steps to the anchor with the day-clamping rule of
+ * {@link SerialDate#addMonths(int, SerialDate)}.  Since no date is derived
+ * from the previous one, a schedule anchored on 31 January returns to the
+ * 31st after passing through February.  If the end-of-month rule is on and
+ * the anchor is the last day of a month, every regular date is the last day
+ * of its month.
+ * <P>
+ * Instances are immutable, and no objects are created while a schedule is
+ * generated (apart from the result array, where one is returned).
+ */
+public final class ScheduleGenerator {
+
+    /** A short stub at the front of the schedule. */
+    public static final int SHORT_FRONT_STUB = 0;
+
+    /** A long stub at the front of the schedule. */
+    public static final int LONG_FRONT_STUB = 1;
+
+    /** A short stub at the back of the schedule. */
+    public static final int SHORT_BACK_STUB = 2;
+
+    /** A long stub at the back of the schedule. */
+    public static final int LONG_BACK_STUB = 3;
+
+    /** The number of months in each regular period. */
+    private final int months;
+
+    /** The stub type. */
+    private final int stub;
+
+    /** A flag that controls whether the end-of-month rule applies. */
+    private final boolean endOfMonth;
+
+    /**
+     * Creates a new schedule generator.
+     *
+     * @param months  the number of months in each regular period (for
+     *                example 6 for a semi-annual schedule).
+     * @param stub  the stub type (<code>SHORT_FRONT_STUB</code>,
+     *              <code>LONG_FRONT_STUB</code>, <code>SHORT_BACK_STUB</code>
+     *              or <code>LONG_BACK_STUB</code>).
+     * @param endOfMonth  apply the end-of-month rule?
+     */
+    public ScheduleGenerator(final int months, final int stub,
+                             final boolean endOfMonth) {
+        if (months <= 0) {
+            throw new IllegalArgumentException(
+                "ScheduleGenerator(): months must be positive.");
+        }
+        if ((stub < SHORT_FRONT_STUB) || (stub > LONG_BACK_STUB)) {
+            throw new IllegalArgumentException(
+                "ScheduleGenerator(): stub type not recognised.");
+        }
+        this.months = months;
+        this.stub = stub;
+        this.endOfMonth = endOfMonth;
+    }
+
+    /**
+     * Returns the number of months in each regular period.
+     *
+     * @return The number of months.
+     */
+    public int getMonths() {
+        return this.months;
+    }
+
+    /**
+     * Returns the stub type.
+     *
+     * @return The stub type.
+     */
+    public int getStub() {
+        return this.stub;
+    }
+
+    /**
+     * Returns <code>true</code> if the end-of-month rule applies.
+     *
+     * @return A boolean.
+     */
+    public boolean isEndOfMonth() {
+        return this.endOfMonth;
+    }
+
+    /**
+     * Generates the schedule between two dates.
+     *
+     * @param start  the start date (<code>null</code> not permitted).
+     * @param end  the end date (<code>null</code> not permitted).
+     *
+     * @return The dates in the schedule (serial numbers, in ascending order,
+     *     including the start and end dates).
+     */
+    public int[] generate(final SerialDate start, final SerialDate end) {
+        return generate(start.toSerial(), end.toSerial());
+    }
+
+    /**
+     * Generates the schedule between two dates.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number, after the start date).
+     *
+     * @return The dates in the schedule (serial numbers, in ascending order,
+     *     including the start and end dates).
+     */
+    public int[] generate(final int start, final int end) {
+        final int[] result = new int[count(start, end)];
+        generate(start, end, new IntConsumer() {
+            private int i;
+            public void accept(final int serial) {
+                result[this.i++] = serial;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Generates the schedule between two dates, passing each date (in
+     * ascending order, including the start and end dates) to a consumer.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number, after the start date).
+     * @param consumer  the consumer (<code>null</code> not permitted).
+     *
+     * @return The number of dates in the schedule.
+     */
+    public int generate(final int start, final int end,
+                        final IntConsumer consumer) {
+        checkDates(start, end);
+        if (isFrontStub()) {
+            final int k = regularPeriods(end, -1, start);
+            final int first = (hasStub(end, -1, k, start)
+                               && (this.stub == LONG_FRONT_STUB) && (k > 0))
+                              ? k - 1 : k;
+            consumer.accept(start);
+            for (int i = first; i > 0; i--) {
+                consumer.accept(roll(end, -i));
+            }
+            consumer.accept(end);
+            return first + 2;
+        }
+        else {
+            final int k = regularPeriods(start, 1, end);
+            final int last = (hasStub(start, 1, k, end)
+                              && (this.stub == LONG_BACK_STUB) && (k > 0))
+                             ? k - 1 : k;
+            consumer.accept(start);
+            for (int i = 1; i <= last; i++) {
+                consumer.accept(roll(start, i));
+            }
+            consumer.accept(end);
+            return last + 2;
+        }
+    }
+
+    /**
+     * Returns the number of dates in the schedule between two dates.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number, after the start date).
+     *
+     * @return The number of dates (including the start and end dates).
+     */
+    public int count(final int start, final int end) {
+        checkDates(start, end);
+        final int anchor = isFrontStub() ? end : start;
+        final int limit = isFrontStub() ? start : end;
+        final int direction = isFrontStub() ? -1 : 1;
+        final int k = regularPeriods(anchor, direction, limit);
+        final boolean longStub = (this.stub == LONG_FRONT_STUB)
+                                 || (this.stub == LONG_BACK_STUB);
+        if (longStub && (k > 0) && hasStub(anchor, direction, k, limit)) {
+            return k + 1;
+        }
+        return k + 2;
+    }
+
+    /**
+     * Returns <code>true</code> if the stub (if any) is at the front of the
+     * schedule.
+     *
+     * @return A boolean.
+     */
+    private boolean isFrontStub() {
+        return (this.stub == SHORT_FRONT_STUB)
+               || (this.stub == LONG_FRONT_STUB);
+    }
+
+    /**
+     * Returns the anchor date rolled by a number of regular periods.
+     *
+     * @param anchor  the anchor date (serial number).
+     * @param periods  the number of periods (can be negative).
+     *
+     * @return The rolled date (serial number).
+     */
+    private int roll(final int anchor, final int periods) {
+        final int result = SerialDateArithmetic.addMonths(
+                periods * this.months, anchor);
+        if (this.endOfMonth && SerialDateArithmetic.isEndOfMonth(anchor)) {
+            return SerialDateArithmetic.endOfMonth(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of regular dates strictly between the anchor and the
+     * limit, when rolling from the anchor in the specified direction.
+     *
+     * @param anchor  the anchor date (serial number).
+     * @param direction  1 to roll forwards, -1 to roll backwards.
+     * @param limit  the limit date (serial number).
+     *
+     * @return The number of regular dates.
+     */
+    private int regularPeriods(final int anchor, final int direction,
+                               final int limit) {
+        // estimate from the number of whole months, then correct...
+        final int p1 = SerialDateArithmetic.decode(anchor);
+        final int p2 = SerialDateArithmetic.decode(limit);
+        final int m1 = 12 * SerialDateArithmetic.packedYYYY(p1)
+                       + SerialDateArithmetic.packedMonth(p1);
+        final int m2 = 12 * SerialDateArithmetic.packedYYYY(p2)
+                       + SerialDateArithmetic.packedMonth(p2);
+        int k = Math.abs(m2 - m1) / this.months;
+        while ((k > 0) && !before(roll(anchor, direction * k), limit,
+                direction)) {
+            k--;
+        }
+        while (before(roll(anchor, direction * (k + 1)), limit, direction)) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Returns <code>true</code> if the regular period following the last of
+     * <code>k</code> regular dates does not finish exactly on the limit.
+     *
+     * @param anchor  the anchor date (serial number).
+     * @param direction  1 to roll forwards, -1 to roll backwards.
+     * @param k  the number of regular dates.
+     * @param limit  the limit date (serial number).
+     *
+     * @return A boolean.
+     */
+    private boolean hasStub(final int anchor, final int direction,
+                            final int k, final int limit) {
+        return roll(anchor, direction * (k + 1)) != limit;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>serial</code> is strictly before
+     * <code>limit</code> when moving in the specified direction.
+     *
+     * @param serial  the date (serial number).
+     * @param limit  the limit (serial number).
+     * @param direction  1 for forwards, -1 for backwards.
+     *
+     * @return A boolean.
+     */
+    private static boolean before(final int serial, final int limit,
+                                  final int direction) {
+        return (direction > 0) ? serial < limit : serial > limit;
+    }
+
+    /**
+     * Checks that the start date is before the end date.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     */
+    private static void checkDates(final int start, final int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException(
+                "ScheduleGenerator: start date must be before end date.");
+        }
+    }
+
+}
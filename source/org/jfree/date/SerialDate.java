@@ -53,6 +53,9 @@
  * 29-May-2003 : Fixed bug in addMonths method (DG);
  * 04-Sep-2003 : Implemented Comparable.  Updated the isInRange javadocs (DG);
  * 05-Jan-2005 : Fixed bug in addYears() method (1096282) (DG);
+ * 19-Oct-2026 : The createInstance() methods now delegate to a pluggable
+ *               SerialDateFactory;  Record DateMetrics events;  Emit
+ *               flight recorder events from stringToMonthCode();
  * 
  */
 
@@ -64,6 +67,8 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 
+import jdk.jfr.Event;
+
 /**
  *  An abstract class that defines our requirements for manipulating dates,
  *  without tying down a particular implementation.
@@ -78,8 +83,9 @@ import java.util.GregorianCalendar;
  *  January 2015) without concerning ourselves about the time of day, or the
  *  time-zone, or anything else.  That's what we've defined SerialDate for.
  *  <P>
- *  You can call getInstance() to get a concrete subclass of SerialDate,
- *  without worrying about the exact implementation.
+ *  You can call createInstance() to get a concrete subclass of SerialDate,
+ *  without worrying about the exact implementation.  The implementation is
+ *  chosen by the {@link SerialDateFactory}.
  *
  * @author David Gilbert
  */
@@ -437,10 +443,13 @@ public abstract class SerialDate implements Comparable,
      */
     public static int stringToMonthCode(String s) {
 
+        final Event event = DateFlightRecorder.ENABLED
+            ? DateFlightRecorder.beginMonthParse() : null;
         final String[] shortMonthNames = DATE_FORMAT_SYMBOLS.getShortMonths();
         final String[] monthNames = DATE_FORMAT_SYMBOLS.getMonths();
 
         int result = -1;
+        boolean failed = false;
         s = s.trim();
 
         // first try parsing the string as an integer (1-12)...
@@ -448,16 +457,20 @@ public abstract class SerialDate implements Comparable,
             result = Integer.parseInt(s);
         }
         catch (NumberFormatException e) {
-            // suppress
+            failed = true;
+            DateMetrics.record(DateMetrics.MONTH_PARSE_FAILURES);
         }
 
         // now search through the month names...
+        int comparisons = 0;
         if ((result < 1) || (result > 12)) {
             for (int i = 0; i < monthNames.length; i++) {
+                comparisons++;
                 if (s.equals(shortMonthNames[i])) {
                     result = i + 1;
                     break;
                 }
+                comparisons++;
                 if (s.equals(monthNames[i])) {
                     result = i + 1;
                     break;
@@ -465,6 +478,9 @@ public abstract class SerialDate implements Comparable,
             }
         }
 
+        if (DateFlightRecorder.ENABLED && failed) {
+            DateFlightRecorder.monthParseFailure(event, s, comparisons);
+        }
         return result;
 
     }
@@ -792,7 +808,7 @@ public abstract class SerialDate implements Comparable,
      */
     public static SerialDate createInstance(final int day, final int month, 
                                             final int yyyy) {
-        return new SpreadsheetDate(day, month, yyyy);
+        return SerialDateFactory.getInstance().createInstance(day, month, yyyy);
     }
 
     /**
@@ -804,7 +820,7 @@ public abstract class SerialDate implements Comparable,
      * @return a instance of SerialDate.
      */
     public static SerialDate createInstance(final int serial) {
-        return new SpreadsheetDate(serial);
+        return SerialDateFactory.getInstance().createInstance(serial);
     }
 
     /**
@@ -816,11 +832,13 @@ public abstract class SerialDate implements Comparable,
      */
     public static SerialDate createInstance(final java.util.Date date) {
 
+        DateMetrics.record(DateMetrics.CALENDAR_CONVERSIONS);
         final GregorianCalendar calendar = new GregorianCalendar();
         calendar.setTime(date);
-        return new SpreadsheetDate(calendar.get(Calendar.DATE),
-                                   calendar.get(Calendar.MONTH) + 1,
-                                   calendar.get(Calendar.YEAR));
+        return SerialDateFactory.getInstance().createInstance(
+            calendar.get(Calendar.DATE), calendar.get(Calendar.MONTH) + 1,
+            calendar.get(Calendar.YEAR)
+        );
 
     }
 
@@ -0,0 +1,308 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * SerialDateArithmetic.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Decode serial numbers with lookup tables;
+ * 19-Oct-2026 : Added addMonths() and endOfMonth();
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * Static methods that work directly on serial numbers (1 January 1900 = 2),
+ * for code that processes large numbers of dates and cannot afford to create
+ * a {@link SerialDate} for each one.  The results always agree with the
+ * corresponding methods in {@link SerialDate} and {@link SpreadsheetDate}.
+ * <P>
+ * Serial numbers are decoded with two small lookup tables rather than a
+ * search: the year is read from a table indexed by <code>serial / 256</code>
+ * (a 256 day block spans at most one new year, so one comparison corrects
+ * it), and the month and day are read from a table indexed by the day of
+ * the year.
+ * <P>
+ * None of the methods check that their arguments are in the supported range
+ * (see {@link SerialDate#SERIAL_LOWER_BOUND} and
+ * {@link SerialDate#SERIAL_UPPER_BOUND}).
+ */
+public final class SerialDateArithmetic {
+
+    /** The number of bits in the index of a year block. */
+    private static final int BLOCK_SHIFT = 8;
+
+    /**
+     * The serial number for 1 January of each year from 1900 to 10001
+     * (indexed by year - 1900).
+     */
+    private static final int[] YEAR_START = new int[8102];
+
+    /** The year on the first day of each 256 day block of serial numbers. */
+    private static final short[] BLOCK_YEAR
+        = new short[(SerialDate.SERIAL_UPPER_BOUND >>> BLOCK_SHIFT) + 1];
+
+    /**
+     * The packed month, day and end-of-month flag for each day of the year
+     * (indexed by <code>leap * 366 + dayOfYear</code>), laid out as in
+     * {@link #decode(int)}.
+     */
+    private static final short[] MONTH_DAY = new short[2 * 366];
+
+    /** The bit set in a packed date that falls on the last day of a month. */
+    static final int END_OF_MONTH_BIT = 1 << 9;
+
+    static {
+        for (int y = 1900; y <= 10001; y++) {
+            YEAR_START[y - 1900] = yearStart(y);
+        }
+        int y = 1900;
+        for (int b = 0; b < BLOCK_YEAR.length; b++) {
+            while (YEAR_START[y + 1 - 1900] <= (b << BLOCK_SHIFT)) {
+                y++;
+            }
+            BLOCK_YEAR[b] = (short) y;
+        }
+        for (int leap = 0; leap < 2; leap++) {
+            int doy = 0;
+            for (int m = 1; m <= 12; m++) {
+                final int last = SerialDate.LAST_DAY_OF_MONTH[m]
+                    + ((m == MonthConstants.FEBRUARY) ? leap : 0);
+                for (int d = 1; d <= last; d++) {
+                    final int eom = (d == last) ? END_OF_MONTH_BIT : 0;
+                    MONTH_DAY[leap * 366 + doy] = (short) (eom | (m << 5) | d);
+                    doy++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent object creation.
+     */
+    private SerialDateArithmetic() {
+    }
+
+    /**
+     * Returns the serial number for the specified day, month and year.
+     *
+     * @param day  the day (1-31).
+     * @param month  the month (1-12).
+     * @param yyyy  the year (in the range 1900 to 9999).
+     *
+     * @return The serial number.
+     */
+    public static int toSerial(final int day, final int month,
+                               final int yyyy) {
+        int mm = SerialDate.AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH[month];
+        if ((month > MonthConstants.FEBRUARY) && SerialDate.isLeapYear(yyyy)) {
+            mm = mm + 1;
+        }
+        return yearStart(yyyy) + mm + day - 1;
+    }
+
+    /**
+     * Returns the serial number for 1 January in the specified year.
+     *
+     * @param yyyy  the year (in the range 1900 to 10000).
+     *
+     * @return The serial number.
+     */
+    public static int yearStart(final int yyyy) {
+        return (yyyy - 1900) * 365 + SerialDate.leapYearCount(yyyy - 1)
+               + SerialDate.SERIAL_LOWER_BOUND;
+    }
+
+    /**
+     * Returns the number of days in the specified year.
+     *
+     * @param yyyy  the year.
+     *
+     * @return 365 or 366.
+     */
+    public static int daysInYear(final int yyyy) {
+        return SerialDate.isLeapYear(yyyy) ? 366 : 365;
+    }
+
+    /**
+     * Returns the year for a serial number.
+     *
+     * @param serial  the serial number.
+     *
+     * @return The year.
+     */
+    public static int getYYYY(final int serial) {
+        final int y = BLOCK_YEAR[serial >>> BLOCK_SHIFT];
+        return (serial >= YEAR_START[y + 1 - 1900]) ? y + 1 : y;
+    }
+
+    /**
+     * Returns the month (January = 1) for a serial number.
+     *
+     * @param serial  the serial number.
+     *
+     * @return The month.
+     */
+    public static int getMonth(final int serial) {
+        return packedMonth(decode(serial));
+    }
+
+    /**
+     * Returns the day of the month for a serial number.
+     *
+     * @param serial  the serial number.
+     *
+     * @return The day of the month.
+     */
+    public static int getDayOfMonth(final int serial) {
+        return packedDay(decode(serial));
+    }
+
+    /**
+     * Returns the day of the week for a serial number, using the codes
+     * defined in {@link SerialDate} (<code>SUNDAY</code> = 1).
+     *
+     * @param serial  the serial number.
+     *
+     * @return The day of the week.
+     */
+    public static int getDayOfWeek(final int serial) {
+        return (serial + 6) % 7 + 1;
+    }
+
+    /**
+     * Returns <code>true</code> if a serial number falls on the last day of
+     * a month.
+     *
+     * @param serial  the serial number.
+     *
+     * @return A boolean.
+     */
+    public static boolean isEndOfMonth(final int serial) {
+        return (decode(serial) & END_OF_MONTH_BIT) != 0;
+    }
+
+    /**
+     * Adds a number of months to a serial number, with the same rule as
+     * {@link SerialDate#addMonths(int, SerialDate)}: if the day of the month
+     * does not exist in the resulting month, the last day of that month is
+     * used.
+     *
+     * @param months  the number of months to add (can be negative).
+     * @param serial  the base date (serial number).
+     *
+     * @return The serial number of the new date.
+     */
+    public static int addMonths(final int months, final int serial) {
+        final int packed = decode(serial);
+        final int total = 12 * packedYYYY(packed) + packedMonth(packed)
+                          + months - 1;
+        final int yy = total / 12;
+        final int mm = total % 12 + 1;
+        final int dd = Math.min(packedDay(packed),
+                SerialDate.lastDayOfMonth(mm, yy));
+        return toSerial(dd, mm, yy);
+    }
+
+    /**
+     * Returns the serial number for the last day of the month containing the
+     * specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The serial number for the end of the month.
+     */
+    public static int endOfMonth(final int serial) {
+        final int packed = decode(serial);
+        return serial - packedDay(packed) + SerialDate.lastDayOfMonth(
+                packedMonth(packed), packedYYYY(packed));
+    }
+
+    /**
+     * Returns the year, month and day for a serial number, packed into a
+     * single int as
+     * <code>(yyyy &lt;&lt; 10) | (endOfMonth &lt;&lt; 9) | (month &lt;&lt; 5)
+     * | day</code> so that callers can decode a date once and extract the
+     * fields with shifts and masks (see {@link #packedYYYY(int)} etc.).
+     *
+     * @param serial  the serial number.
+     *
+     * @return The packed date.
+     */
+    static int decode(final int serial) {
+        int y = BLOCK_YEAR[serial >>> BLOCK_SHIFT];
+        final int next = YEAR_START[y + 1 - 1900];
+        y = (serial >= next) ? y + 1 : y;
+        final int start = YEAR_START[y - 1900];
+        final int leap = YEAR_START[y + 1 - 1900] - start - 365;
+        return (y << 10) | MONTH_DAY[leap * 366 + serial - start];
+    }
+
+    /**
+     * Returns the year from a value returned by {@link #decode(int)}.
+     *
+     * @param packed  the packed date.
+     *
+     * @return The year.
+     */
+    static int packedYYYY(final int packed) {
+        return packed >>> 10;
+    }
+
+    /**
+     * Returns the month from a value returned by {@link #decode(int)}.
+     *
+     * @param packed  the packed date.
+     *
+     * @return The month.
+     */
+    static int packedMonth(final int packed) {
+        return (packed >>> 5) & 0x0F;
+    }
+
+    /**
+     * Returns the day of the month from a value returned by
+     * {@link #decode(int)}.
+     *
+     * @param packed  the packed date.
+     *
+     * @return The day of the month.
+     */
+    static int packedDay(final int packed) {
+        return packed & 0x1F;
+    }
+
+}
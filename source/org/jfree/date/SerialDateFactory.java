@@ -0,0 +1,146 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * SerialDateFactory.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * The factory that {@link SerialDate#createInstance(int)} and the other
+ * <code>createInstance()</code> methods delegate to.  All the date arithmetic
+ * in {@link SerialDate} (<code>addDays()</code>, <code>addMonths()</code>
+ * and so on) creates its results through the same methods, so replacing the
+ * factory replaces the concrete {@link SerialDate} class used throughout the
+ * library.
+ * <P>
+ * The factory is selected once, when this class is initialised:
+ * <ol>
+ * <li>if the system property <code>org.jfree.date.SerialDateFactory</code>
+ *     is set, it names the factory class (which must have a public no-arg
+ *     constructor);</li>
+ * <li>otherwise the first provider found by {@link ServiceLoader} (via a
+ *     <code>META-INF/services/org.jfree.date.SerialDateFactory</code>
+ *     entry) is used;</li>
+ * <li>otherwise a {@link SpreadsheetDateFactory} is used.</li>
+ * </ol>
+ * The selected factory is held in a static final field and never changes, so
+ * when only one implementation is loaded the JIT compiler sees a single
+ * receiver type and can inline the factory methods into their callers.
+ */
+public abstract class SerialDateFactory {
+
+    /** The system property that names the factory class. */
+    public static final String FACTORY_PROPERTY
+        = "org.jfree.date.SerialDateFactory";
+
+    /** The factory used by {@link SerialDate}. */
+    private static final SerialDateFactory INSTANCE = loadFactory();
+
+    /**
+     * Default constructor.
+     */
+    protected SerialDateFactory() {
+    }
+
+    /**
+     * Returns the factory used by the {@link SerialDate} class.
+     *
+     * @return The factory (never <code>null</code>).
+     */
+    public static SerialDateFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a date for the specified day, month and year.
+     *
+     * @param day  the day (1-31).
+     * @param month  the month (1-12).
+     * @param yyyy  the year (in the range 1900 to 9999).
+     *
+     * @return A new date.
+     */
+    public abstract SerialDate createInstance(int day, int month, int yyyy);
+
+    /**
+     * Creates a date for the specified serial number.
+     *
+     * @param serial  the serial number for the day (1 January 1900 = 2).
+     *
+     * @return A new date.
+     */
+    public abstract SerialDate createInstance(int serial);
+
+    /**
+     * Locates the factory, following the sequence described in the class
+     * description.
+     *
+     * @return The factory.
+     */
+    private static SerialDateFactory loadFactory() {
+
+        final String className = System.getProperty(FACTORY_PROPERTY);
+        if (className != null) {
+            try {
+                final Class<? extends SerialDateFactory> c = Class.forName(
+                        className.trim()).asSubclass(SerialDateFactory.class);
+                return c.getDeclaredConstructor().newInstance();
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(
+                    "SerialDateFactory: unable to create factory '"
+                    + className + "'.", e);
+            }
+        }
+
+        final Iterator<SerialDateFactory> iterator
+            = ServiceLoader.load(SerialDateFactory.class).iterator();
+        if (iterator.hasNext()) {
+            return iterator.next();
+        }
+
+        return new SpreadsheetDateFactory();
+
+    }
+
+}
@@ -0,0 +1,432 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * SerialDateIndex.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Moved toSerials() to SerialDateSort;
+ * 19-Oct-2026 : Typed the collection of dates;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable, sorted index of dates (duplicates permitted) that answers
+ * range questions such as "which dates fall between d1 and d2" without
+ * scanning.
+ * <P>
+ * The dates are held as a sorted array of serial numbers.  Bounds are found
+ * with a search that alternates interpolation steps (which find a date in a
+ * few probes when, as is usual, the dates are spread fairly evenly) with
+ * binary steps (which keep the worst case logarithmic).  The range methods
+ * take the <code>INCLUDE_xxx</code> codes of
+ * {@link SerialDate#isInRange(SerialDate, SerialDate, int)}, and
+ * {@link #slice} returns a view that shares the array.
+ * <P>
+ * The index is built from unsorted input with {@link SerialDateSort}.
+ */
+public final class SerialDateIndex {
+
+    /** Below this size, the search finishes with a binary search. */
+    private static final int SEARCH_THRESHOLD = 16;
+
+    /** The serial numbers, sorted within the view. */
+    private final int[] serials;
+
+    /** The first index of the view. */
+    private final int offset;
+
+    /** The number of dates in the view. */
+    private final int length;
+
+    /**
+     * Creates a new index.  The array is copied, so it can be modified
+     * afterwards.
+     *
+     * @param serials  the dates (serial numbers, in any order,
+     *                 <code>null</code> not permitted).
+     */
+    public SerialDateIndex(final int[] serials) {
+        this(sortedCopy(serials), 0, serials.length);
+    }
+
+    /**
+     * Creates a new index.
+     *
+     * @param dates  a collection of {@link SerialDate} objects
+     *               (<code>null</code> not permitted).
+     */
+    public SerialDateIndex(final Collection<? extends SerialDate> dates) {
+        this(SerialDateSort.toSerials(dates));
+    }
+
+    /**
+     * Creates a view.
+     *
+     * @param serials  the sorted serial numbers (not copied).
+     * @param offset  the first index of the view.
+     * @param length  the number of dates in the view.
+     */
+    private SerialDateIndex(final int[] serials, final int offset,
+                            final int length) {
+        this.serials = serials;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of dates in the index.
+     *
+     * @return The number of dates.
+     */
+    public int size() {
+        return this.length;
+    }
+
+    /**
+     * Returns the date at a position in the index.
+     *
+     * @param index  the position (zero-based).
+     *
+     * @return The date (serial number).
+     */
+    public int get(final int index) {
+        if ((index < 0) || (index >= this.length)) {
+            throw new IndexOutOfBoundsException(
+                "SerialDateIndex.get(): index out of range: " + index);
+        }
+        return this.serials[this.offset + index];
+    }
+
+    /**
+     * Returns the date at a position in the index.
+     *
+     * @param index  the position (zero-based).
+     *
+     * @return The date.
+     */
+    public SerialDate getDate(final int index) {
+        return SerialDate.createInstance(get(index));
+    }
+
+    /**
+     * Returns the position of the first date on or after the specified
+     * date, or {@link #size()} if there is none.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The position.
+     */
+    public int lowerBound(final int serial) {
+        return search(serial) - this.offset;
+    }
+
+    /**
+     * Returns the position of the first date after the specified date, or
+     * {@link #size()} if there is none.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The position.
+     */
+    public int upperBound(final int serial) {
+        if (serial == Integer.MAX_VALUE) {
+            return this.length;
+        }
+        return search(serial + 1) - this.offset;
+    }
+
+    /**
+     * Returns <code>true</code> if the index contains the specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final int serial) {
+        final int i = search(serial);
+        return (i < this.offset + this.length) && (this.serials[i] == serial);
+    }
+
+    /**
+     * Returns <code>true</code> if the index contains the specified date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final SerialDate date) {
+        return contains(date.toSerial());
+    }
+
+    /**
+     * Returns the number of dates in a range.
+     *
+     * @param s1  one boundary date (serial number).
+     * @param s2  the other boundary date (serial number).
+     * @param include  a code that controls whether or not the boundary
+     *                 dates are included (<code>SerialDate.INCLUDE_NONE</code>
+     *                 etc.).
+     *
+     * @return The number of dates.
+     */
+    public int count(final int s1, final int s2, final int include) {
+        return countClosed(start(s1, s2, include), end(s1, s2, include));
+    }
+
+    /**
+     * Returns the number of dates in a range.
+     *
+     * @param d1  one boundary date (<code>null</code> not permitted).
+     * @param d2  the other boundary date (<code>null</code> not permitted).
+     * @param include  a code that controls whether or not the boundary
+     *                 dates are included.
+     *
+     * @return The number of dates.
+     */
+    public int count(final SerialDate d1, final SerialDate d2,
+                     final int include) {
+        return count(d1.toSerial(), d2.toSerial(), include);
+    }
+
+    /**
+     * Returns the number of dates in a range.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The number of dates.
+     */
+    public int count(final SerialDateRange range) {
+        return countClosed(range.getFirst(), range.getLast());
+    }
+
+    /**
+     * Returns a view of the dates in a range.  The view shares the
+     * underlying array, so creating it takes constant time after the bounds
+     * have been found.
+     *
+     * @param s1  one boundary date (serial number).
+     * @param s2  the other boundary date (serial number).
+     * @param include  a code that controls whether or not the boundary
+     *                 dates are included.
+     *
+     * @return The view.
+     */
+    public SerialDateIndex slice(final int s1, final int s2,
+                                 final int include) {
+        return sliceClosed(start(s1, s2, include), end(s1, s2, include));
+    }
+
+    /**
+     * Returns a view of the dates in a range.
+     *
+     * @param d1  one boundary date (<code>null</code> not permitted).
+     * @param d2  the other boundary date (<code>null</code> not permitted).
+     * @param include  a code that controls whether or not the boundary
+     *                 dates are included.
+     *
+     * @return The view.
+     */
+    public SerialDateIndex slice(final SerialDate d1, final SerialDate d2,
+                                 final int include) {
+        return slice(d1.toSerial(), d2.toSerial(), include);
+    }
+
+    /**
+     * Returns a view of the dates in a range.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The view.
+     */
+    public SerialDateIndex slice(final SerialDateRange range) {
+        return sliceClosed(range.getFirst(), range.getLast());
+    }
+
+    /**
+     * Returns a copy of the dates in the index.
+     *
+     * @return The dates (serial numbers, sorted).
+     */
+    public int[] toArray() {
+        final int[] result = new int[this.length];
+        System.arraycopy(this.serials, this.offset, result, 0, this.length);
+        return result;
+    }
+
+    /**
+     * Returns a stream of the dates in the index.
+     *
+     * @return The stream.
+     */
+    public IntStream stream() {
+        return Arrays.stream(this.serials, this.offset,
+                this.offset + this.length);
+    }
+
+    /**
+     * Returns the number of dates from <code>start</code> to
+     * <code>end</code> inclusive.
+     *
+     * @param start  the first date (serial number).
+     * @param end  the last date (serial number).
+     *
+     * @return The number of dates (zero if <code>start</code> is after
+     *     <code>end</code>).
+     */
+    private int countClosed(final int start, final int end) {
+        if (start > end) {
+            return 0;
+        }
+        return search(end + 1) - search(start);
+    }
+
+    /**
+     * Returns a view of the dates from <code>start</code> to
+     * <code>end</code> inclusive.
+     *
+     * @param start  the first date (serial number).
+     * @param end  the last date (serial number).
+     *
+     * @return The view.
+     */
+    private SerialDateIndex sliceClosed(final int start, final int end) {
+        if (start > end) {
+            return new SerialDateIndex(this.serials, this.offset, 0);
+        }
+        final int from = search(start);
+        return new SerialDateIndex(this.serials, from,
+                search(end + 1) - from);
+    }
+
+    /**
+     * Returns the index (in the underlying array) of the first date on or
+     * after the specified date, searching within the view.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The index.
+     */
+    private int search(final int serial) {
+        final int[] a = this.serials;
+        int lo = this.offset;
+        int hi = this.offset + this.length;
+        boolean interpolate = true;
+        while (hi - lo > SEARCH_THRESHOLD) {
+            int probe;
+            final int first = a[lo];
+            final int last = a[hi - 1];
+            if (serial <= first) {
+                return lo;
+            }
+            if (serial > last) {
+                return hi;
+            }
+            if (interpolate) {
+                probe = lo + (int) ((long) (serial - first) * (hi - 1 - lo)
+                        / (last - first));
+            }
+            else {
+                probe = (lo + hi) >>> 1;
+            }
+            interpolate = !interpolate;
+            if (a[probe] < serial) {
+                lo = probe + 1;
+            }
+            else {
+                hi = probe;
+            }
+        }
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (a[mid] < serial) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the first date in a range.
+     *
+     * @param s1  one boundary date.
+     * @param s2  the other boundary date.
+     * @param include  the include code.
+     *
+     * @return The first date.
+     */
+    private static int start(final int s1, final int s2, final int include) {
+        final int start = Math.min(s1, s2);
+        return ((include & SerialDate.INCLUDE_FIRST) != 0) ? start
+                                                           : start + 1;
+    }
+
+    /**
+     * Returns the last date in a range.
+     *
+     * @param s1  one boundary date.
+     * @param s2  the other boundary date.
+     * @param include  the include code.
+     *
+     * @return The last date.
+     */
+    private static int end(final int s1, final int s2, final int include) {
+        final int end = Math.max(s1, s2);
+        return ((include & SerialDate.INCLUDE_SECOND) != 0) ? end : end - 1;
+    }
+
+    /**
+     * Returns a sorted copy of an array of serial numbers.
+     *
+     * @param serials  the serial numbers.
+     *
+     * @return The sorted copy.
+     */
+    private static int[] sortedCopy(final int[] serials) {
+        final int[] result = serials.clone();
+        SerialDateSort.sort(result);
+        return result;
+    }
+
+}
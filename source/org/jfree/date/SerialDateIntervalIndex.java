@@ -0,0 +1,448 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * SerialDateIntervalIndex.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An index of date intervals (for example blackout windows) that finds the
+ * intervals containing a date, or overlapping a range, in logarithmic time
+ * rather than by testing each interval with
+ * {@link SerialDate#isInRange(SerialDate, SerialDate, int)}.
+ * <P>
+ * Each interval is added with its own <code>INCLUDE_xxx</code> code and is
+ * identified by the number returned from {@link #add(int, int, int)} (0 for
+ * the first interval, 1 for the second and so on).  Internally every
+ * interval is stored with closed bounds, and the intervals are kept sorted
+ * by start date in an implicit balanced search tree, where each node also
+ * records the latest end date in its subtree.  A query only visits subtrees
+ * that can contain a match, so it takes O(log n + k) time for k matches.
+ * <P>
+ * Intervals can be added at any time; the tree is rebuilt (with a radix
+ * sort) by the first query after an addition.  The index can be queried
+ * from several threads, as long as no intervals are being added.
+ */
+public final class SerialDateIntervalIndex {
+
+    /** The initial capacity. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The number of intervals. */
+    private int count;
+
+    /** The first date of each interval, by id (closed bounds). */
+    private int[] idStarts;
+
+    /** The last date of each interval, by id. */
+    private int[] idEnds;
+
+    /** A flag that is set when the tree needs rebuilding. */
+    private boolean dirty;
+
+    /** The number of non-empty intervals in the tree. */
+    private int treeSize;
+
+    /** The first dates of the non-empty intervals, in ascending order. */
+    private int[] starts;
+
+    /** The last dates, in the same order as <code>starts</code>. */
+    private int[] ends;
+
+    /** The ids, in the same order as <code>starts</code>. */
+    private int[] ids;
+
+    /** The latest end date in the subtree rooted at each position. */
+    private int[] maxEnds;
+
+    /**
+     * Creates a new, empty index.
+     */
+    public SerialDateIntervalIndex() {
+        this.idStarts = new int[INITIAL_CAPACITY];
+        this.idEnds = new int[INITIAL_CAPACITY];
+        this.starts = new int[0];
+        this.ends = new int[0];
+        this.ids = new int[0];
+        this.maxEnds = new int[0];
+    }
+
+    /**
+     * Adds an interval to the index.  The order of the dates is not
+     * important.
+     *
+     * @param s1  one boundary date (serial number).
+     * @param s2  the other boundary date (serial number).
+     * @param include  a code that controls whether or not the earlier and
+     *                 later dates are included in the interval
+     *                 (<code>SerialDate.INCLUDE_NONE</code> etc.).
+     *
+     * @return The id of the interval.
+     */
+    public synchronized int add(final int s1, final int s2,
+                                final int include) {
+        if ((include < SerialDate.INCLUDE_NONE)
+                || (include > SerialDate.INCLUDE_BOTH)) {
+            throw new IllegalArgumentException(
+                "SerialDateIntervalIndex.add(): invalid include code.");
+        }
+        if ((Math.min(s1, s2) < SerialDate.SERIAL_LOWER_BOUND)
+                || (Math.max(s1, s2) > SerialDate.SERIAL_UPPER_BOUND)) {
+            throw new IllegalArgumentException(
+                "SerialDateIntervalIndex.add(): date out of range.");
+        }
+        if (this.count == this.idStarts.length) {
+            this.idStarts = Arrays.copyOf(this.idStarts, 2 * this.count);
+            this.idEnds = Arrays.copyOf(this.idEnds, 2 * this.count);
+        }
+        final int start = Math.min(s1, s2);
+        final int end = Math.max(s1, s2);
+        this.idStarts[this.count] = ((include & SerialDate.INCLUDE_FIRST) != 0)
+                                    ? start : start + 1;
+        this.idEnds[this.count] = ((include & SerialDate.INCLUDE_SECOND) != 0)
+                                  ? end : end - 1;
+        this.dirty = true;
+        return this.count++;
+    }
+
+    /**
+     * Adds an interval to the index.
+     *
+     * @param d1  one boundary date (<code>null</code> not permitted).
+     * @param d2  the other boundary date (<code>null</code> not permitted).
+     * @param include  a code that controls whether or not the earlier and
+     *                 later dates are included in the interval.
+     *
+     * @return The id of the interval.
+     */
+    public int add(final SerialDate d1, final SerialDate d2,
+                   final int include) {
+        return add(d1.toSerial(), d2.toSerial(), include);
+    }
+
+    /**
+     * Returns the number of intervals in the index.
+     *
+     * @return The number of intervals.
+     */
+    public synchronized int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the first date in an interval.
+     *
+     * @param id  the interval id.
+     *
+     * @return The first date (serial number).
+     */
+    public synchronized int getStart(final int id) {
+        checkId(id);
+        return this.idStarts[id];
+    }
+
+    /**
+     * Returns the last date in an interval.
+     *
+     * @param id  the interval id.
+     *
+     * @return The last date (serial number).
+     */
+    public synchronized int getEnd(final int id) {
+        checkId(id);
+        return this.idEnds[id];
+    }
+
+    /**
+     * Returns the ids of the intervals that contain a date, in ascending
+     * order.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The ids.
+     */
+    public int[] containing(final int serial) {
+        return overlappingClosed(serial, serial);
+    }
+
+    /**
+     * Returns the ids of the intervals that contain a date, in ascending
+     * order.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return The ids.
+     */
+    public int[] containing(final SerialDate date) {
+        return containing(date.toSerial());
+    }
+
+    /**
+     * Passes the ids of the intervals that contain a date to a consumer (in
+     * no particular order).
+     *
+     * @param serial  the date (serial number).
+     * @param consumer  the consumer (<code>null</code> not permitted).
+     */
+    public void forEachContaining(final int serial,
+                                  final IntConsumer consumer) {
+        ensureBuilt();
+        visit(0, this.treeSize - 1, serial, serial, consumer, false);
+    }
+
+    /**
+     * Returns the number of intervals that contain a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The number of intervals.
+     */
+    public int countContaining(final int serial) {
+        ensureBuilt();
+        return visit(0, this.treeSize - 1, serial, serial, null, false);
+    }
+
+    /**
+     * Returns <code>true</code> if any interval contains a date.  The search
+     * stops at the first match.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean anyContains(final int serial) {
+        ensureBuilt();
+        return visit(0, this.treeSize - 1, serial, serial, null, true) > 0;
+    }
+
+    /**
+     * Returns the number of intervals containing each of an array of dates.
+     *
+     * @param serials  the dates (serial numbers).
+     *
+     * @return The counts.
+     */
+    public int[] countContaining(final int[] serials) {
+        ensureBuilt();
+        final int[] result = new int[serials.length];
+        for (int i = 0; i < serials.length; i++) {
+            result[i] = visit(0, this.treeSize - 1, serials[i], serials[i],
+                    null, false);
+        }
+        return result;
+    }
+
+    /**
+     * Tests each of an array of dates for containment in any interval.
+     *
+     * @param serials  the dates (serial numbers).
+     *
+     * @return The results.
+     */
+    public boolean[] anyContains(final int[] serials) {
+        ensureBuilt();
+        final boolean[] result = new boolean[serials.length];
+        for (int i = 0; i < serials.length; i++) {
+            result[i] = visit(0, this.treeSize - 1, serials[i], serials[i],
+                    null, true) > 0;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the intervals that share at least one date with a
+     * range, in ascending order.
+     *
+     * @param s1  one boundary date of the range (serial number).
+     * @param s2  the other boundary date (serial number).
+     * @param include  a code that controls whether or not the boundary
+     *                 dates are included in the range.
+     *
+     * @return The ids.
+     */
+    public int[] overlapping(final int s1, final int s2, final int include) {
+        final SerialDateRange range = new SerialDateRange(s1, s2, include);
+        return overlapping(range);
+    }
+
+    /**
+     * Returns the ids of the intervals that share at least one date with a
+     * range, in ascending order.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The ids.
+     */
+    public int[] overlapping(final SerialDateRange range) {
+        if (range.isEmpty()) {
+            return new int[0];
+        }
+        return overlappingClosed(range.getFirst(), range.getLast());
+    }
+
+    /**
+     * Returns the ids of the intervals that overlap a closed range, in
+     * ascending order.
+     *
+     * @param first  the first date in the range.
+     * @param last  the last date in the range.
+     *
+     * @return The ids.
+     */
+    private int[] overlappingClosed(final int first, final int last) {
+        ensureBuilt();
+        final int n = visit(0, this.treeSize - 1, first, last, null, false);
+        final int[] result = new int[n];
+        visit(0, this.treeSize - 1, first, last, new IntConsumer() {
+            private int i;
+            public void accept(final int id) {
+                result[this.i++] = id;
+            }
+        }, false);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Visits the intervals in a subtree that overlap a closed range.
+     *
+     * @param lo  the first position of the subtree.
+     * @param hi  the last position of the subtree.
+     * @param first  the first date of the range.
+     * @param last  the last date of the range.
+     * @param consumer  receives the ids (<code>null</code> permitted).
+     * @param stopAtFirst  stop after the first match?
+     *
+     * @return The number of matches.
+     */
+    private int visit(final int lo, final int hi, final int first,
+                      final int last, final IntConsumer consumer,
+                      final boolean stopAtFirst) {
+        if ((lo > hi) || (this.maxEnds[(lo + hi) >>> 1] < first)) {
+            return 0;
+        }
+        final int mid = (lo + hi) >>> 1;
+        int result = visit(lo, mid - 1, first, last, consumer, stopAtFirst);
+        if ((stopAtFirst && (result > 0)) || (this.starts[mid] > last)) {
+            return result;
+        }
+        if (this.ends[mid] >= first) {
+            if (consumer != null) {
+                consumer.accept(this.ids[mid]);
+            }
+            result++;
+            if (stopAtFirst) {
+                return result;
+            }
+        }
+        return result + visit(mid + 1, hi, first, last, consumer,
+                stopAtFirst);
+    }
+
+    /**
+     * Rebuilds the tree if intervals have been added since it was built.
+     */
+    private synchronized void ensureBuilt() {
+        if (!this.dirty) {
+            return;
+        }
+
+        // collect the non-empty intervals and sort them by start date...
+        int n = 0;
+        final int[] s = new int[this.count];
+        final int[] order = new int[this.count];
+        for (int id = 0; id < this.count; id++) {
+            if (this.idStarts[id] <= this.idEnds[id]) {
+                s[n] = this.idStarts[id];
+                order[n++] = id;
+            }
+        }
+        final int[] sortedStarts = Arrays.copyOf(s, n);
+        final int[] sortedIds = Arrays.copyOf(order, n);
+        SerialDateSort.sort(sortedStarts, sortedIds);
+        final int[] sortedEnds = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedEnds[i] = this.idEnds[sortedIds[i]];
+        }
+
+        this.starts = sortedStarts;
+        this.ends = sortedEnds;
+        this.ids = sortedIds;
+        this.maxEnds = new int[n];
+        this.treeSize = n;
+        fillMaxEnds(0, n - 1);
+        this.dirty = false;
+    }
+
+    /**
+     * Fills in the latest end dates for a subtree.
+     *
+     * @param lo  the first position of the subtree.
+     * @param hi  the last position of the subtree.
+     *
+     * @return The latest end date in the subtree.
+     */
+    private int fillMaxEnds(final int lo, final int hi) {
+        if (lo > hi) {
+            return Integer.MIN_VALUE;
+        }
+        final int mid = (lo + hi) >>> 1;
+        final int max = Math.max(this.ends[mid], Math.max(
+                fillMaxEnds(lo, mid - 1), fillMaxEnds(mid + 1, hi)));
+        this.maxEnds[mid] = max;
+        return max;
+    }
+
+    /**
+     * Checks an interval id.
+     *
+     * @param id  the id.
+     */
+    private void checkId(final int id) {
+        if ((id < 0) || (id >= this.count)) {
+            throw new IllegalArgumentException(
+                "SerialDateIntervalIndex: no interval with id " + id + ".");
+        }
+    }
+
+}
@@ -0,0 +1,508 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * SerialDateRangeSet.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of dates held as a list of disjoint ranges, for example
+ * the trading periods of an exchange or the days covered by a set of
+ * leases.
+ * <P>
+ * The set is stored as a sorted array of range boundaries
+ * <code>[start0, end0, start1, end1, ...]</code> where each range runs from
+ * <code>start</code> (inclusive) to <code>end</code> (exclusive), and
+ * ranges that overlap or touch are always merged.  Because both operands
+ * are already sorted, {@link #union}, {@link #intersection} and
+ * {@link #difference} are a single merge pass over the two boundary arrays,
+ * taking time proportional to the number of ranges rather than the number
+ * of days.
+ */
+public final class SerialDateRangeSet {
+
+    /** The empty set. */
+    public static final SerialDateRangeSet EMPTY
+        = new SerialDateRangeSet(new int[0]);
+
+    /** Merge operation: dates in either set. */
+    private static final int UNION = 0;
+
+    /** Merge operation: dates in both sets. */
+    private static final int INTERSECTION = 1;
+
+    /** Merge operation: dates in the first set but not the second. */
+    private static final int DIFFERENCE = 2;
+
+    /** The range boundaries (strictly increasing, even length). */
+    private final int[] bounds;
+
+    /**
+     * Creates a set from boundaries that are already normalised.
+     *
+     * @param bounds  the boundaries (not copied).
+     */
+    private SerialDateRangeSet(final int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Creates a set containing the dates in a single range.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     */
+    public SerialDateRangeSet(final SerialDateRange range) {
+        this(range.isEmpty() ? new int[0]
+                : new int[] {range.getFirst(), range.getLast() + 1});
+    }
+
+    /**
+     * Creates a set containing the dates in any of the specified ranges.
+     * The ranges can be in any order and can overlap.
+     *
+     * @param ranges  the ranges (<code>null</code> not permitted).
+     *
+     * @return The set.
+     */
+    public static SerialDateRangeSet of(final SerialDateRange[] ranges) {
+        final int[] firsts = new int[ranges.length];
+        final int[] lasts = new int[ranges.length];
+        int n = 0;
+        for (int i = 0; i < ranges.length; i++) {
+            if (!ranges[i].isEmpty()) {
+                firsts[n] = ranges[i].getFirst();
+                lasts[n++] = ranges[i].getLast();
+            }
+        }
+        return of(firsts, lasts, n);
+    }
+
+    /**
+     * Creates a set containing the dates in any of the specified closed
+     * ranges.  The ranges can be in any order and can overlap; a range with
+     * its first date after its last date is empty.
+     *
+     * @param firsts  the first date of each range (serial numbers).
+     * @param lasts  the last date of each range (serial numbers).
+     *
+     * @return The set.
+     */
+    public static SerialDateRangeSet of(final int[] firsts,
+                                        final int[] lasts) {
+        if (firsts.length != lasts.length) {
+            throw new IllegalArgumentException(
+                "SerialDateRangeSet.of(): array lengths differ.");
+        }
+        return of(firsts, lasts, firsts.length);
+    }
+
+    /**
+     * Creates a set from the first <code>n</code> closed ranges.
+     *
+     * @param firsts  the first dates.
+     * @param lasts  the last dates.
+     * @param n  the number of ranges.
+     *
+     * @return The set.
+     */
+    private static SerialDateRangeSet of(final int[] firsts,
+                                         final int[] lasts, final int n) {
+
+        // sort by first date, packing each range into a long...
+        final long[] packed = new long[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (firsts[i] <= lasts[i]) {
+                packed[m++] = ((long) firsts[i] << 32)
+                              | (lasts[i] & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(packed, 0, m);
+
+        // ...then merge ranges that overlap or touch
+        final int[] result = new int[2 * m];
+        int k = 0;
+        for (int i = 0; i < m; i++) {
+            final int start = (int) (packed[i] >> 32);
+            final int end = (int) packed[i] + 1;
+            if ((k > 0) && (start <= result[k - 1])) {
+                result[k - 1] = Math.max(result[k - 1], end);
+            }
+            else {
+                result[k++] = start;
+                result[k++] = end;
+            }
+        }
+        return new SerialDateRangeSet(Arrays.copyOf(result, k));
+    }
+
+    /**
+     * Returns the number of disjoint ranges in the set.
+     *
+     * @return The number of ranges.
+     */
+    public int getRangeCount() {
+        return this.bounds.length / 2;
+    }
+
+    /**
+     * Returns one of the disjoint ranges in the set.
+     *
+     * @param index  the range index (ranges are in ascending order).
+     *
+     * @return The range.
+     */
+    public SerialDateRange getRange(final int index) {
+        if ((index < 0) || (index >= getRangeCount())) {
+            throw new IndexOutOfBoundsException(
+                "SerialDateRangeSet.getRange(): index out of range: "
+                + index);
+        }
+        return new SerialDateRange(this.bounds[2 * index],
+                this.bounds[2 * index + 1] - 1, SerialDate.INCLUDE_BOTH);
+    }
+
+    /**
+     * Returns the disjoint ranges in the set, in ascending order.
+     *
+     * @return The ranges.
+     */
+    public SerialDateRange[] toRanges() {
+        final SerialDateRange[] result = new SerialDateRange[getRangeCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getRange(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains no dates.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return this.bounds.length == 0;
+    }
+
+    /**
+     * Returns the number of days in the set.
+     *
+     * @return The number of days.
+     */
+    public int cardinality() {
+        int result = 0;
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            result += this.bounds[i + 1] - this.bounds[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the smallest range containing every date in the set.
+     *
+     * @return The span (empty if the set is empty).
+     */
+    public SerialDateRange getSpan() {
+        if (isEmpty()) {
+            return new SerialDateRange(0, 0, SerialDate.INCLUDE_NONE);
+        }
+        return new SerialDateRange(this.bounds[0],
+                this.bounds[this.bounds.length - 1] - 1,
+                SerialDate.INCLUDE_BOTH);
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains the specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final int serial) {
+        // the date is inside a range if an odd number of boundaries are on
+        // or before it...
+        return (upperBound(serial) & 1) == 1;
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains the specified date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final SerialDate date) {
+        return contains(date.toSerial());
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains every date in a range.
+     * An empty range is contained in every set.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean contains(final SerialDateRange range) {
+        if (range.isEmpty()) {
+            return true;
+        }
+        final int i = upperBound(range.getFirst());
+        return ((i & 1) == 1) && (range.getLast() < this.bounds[i]);
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains any date in a range.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean intersects(final SerialDateRange range) {
+        if (range.isEmpty()) {
+            return false;
+        }
+        final int i = upperBound(range.getFirst());
+        return ((i & 1) == 1)
+               || ((i < this.bounds.length)
+                   && (this.bounds[i] <= range.getLast()));
+    }
+
+    /**
+     * Returns the set of dates in this set or another set.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The union.
+     */
+    public SerialDateRangeSet union(final SerialDateRangeSet other) {
+        return merge(other, UNION);
+    }
+
+    /**
+     * Returns the set of dates in both this set and another set.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The intersection.
+     */
+    public SerialDateRangeSet intersection(final SerialDateRangeSet other) {
+        return merge(other, INTERSECTION);
+    }
+
+    /**
+     * Returns the set of dates in this set but not in another set.
+     *
+     * @param other  the other set (<code>null</code> not permitted).
+     *
+     * @return The difference.
+     */
+    public SerialDateRangeSet difference(final SerialDateRangeSet other) {
+        return merge(other, DIFFERENCE);
+    }
+
+    /**
+     * Returns the dates within a range that are not in this set.
+     *
+     * @param range  the range (<code>null</code> not permitted).
+     *
+     * @return The complement.
+     */
+    public SerialDateRangeSet complement(final SerialDateRange range) {
+        return new SerialDateRangeSet(range).difference(this);
+    }
+
+    /**
+     * Returns the gaps between the ranges of this set, that is, the dates
+     * between the first and last dates that are not in the set.
+     *
+     * @return The gaps.
+     */
+    public SerialDateRangeSet gaps() {
+        if (this.bounds.length <= 2) {
+            return EMPTY;
+        }
+        // the gaps run from each end to the next start...
+        final int[] result = new int[this.bounds.length - 2];
+        System.arraycopy(this.bounds, 1, result, 0, result.length);
+        return new SerialDateRangeSet(result);
+    }
+
+    /**
+     * Passes each date in the set to a consumer, in ascending order.
+     *
+     * @param consumer  the consumer (<code>null</code> not permitted).
+     */
+    public void forEach(final IntConsumer consumer) {
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            for (int s = this.bounds[i]; s < this.bounds[i + 1]; s++) {
+                consumer.accept(s);
+            }
+        }
+    }
+
+    /**
+     * Merges the boundaries of this set with those of another set.
+     *
+     * @param other  the other set.
+     * @param op  the operation.
+     *
+     * @return The result.
+     */
+    private SerialDateRangeSet merge(final SerialDateRangeSet other,
+                                     final int op) {
+        final int[] a = this.bounds;
+        final int[] b = other.bounds;
+        final int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        boolean inA = false;
+        boolean inB = false;
+        boolean in = false;
+        while ((i < a.length) || (j < b.length)) {
+            final int x;
+            if (j == b.length) {
+                x = a[i];
+            }
+            else if (i == a.length) {
+                x = b[j];
+            }
+            else {
+                x = Math.min(a[i], b[j]);
+            }
+            if ((i < a.length) && (a[i] == x)) {
+                inA = !inA;
+                i++;
+            }
+            if ((j < b.length) && (b[j] == x)) {
+                inB = !inB;
+                j++;
+            }
+            final boolean now;
+            if (op == UNION) {
+                now = inA || inB;
+            }
+            else if (op == INTERSECTION) {
+                now = inA && inB;
+            }
+            else {
+                now = inA && !inB;
+            }
+            if (now != in) {
+                result[k++] = x;
+                in = now;
+            }
+        }
+        if ((k == a.length) && Arrays.equals(result, 0, k, a, 0, k)) {
+            return this;
+        }
+        return new SerialDateRangeSet(Arrays.copyOf(result, k));
+    }
+
+    /**
+     * Returns the number of boundaries on or before a date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The number of boundaries.
+     */
+    private int upperBound(final int serial) {
+        int lo = 0;
+        int hi = this.bounds.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (this.bounds[mid] <= serial) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Tests this set for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SerialDateRangeSet)) {
+            return false;
+        }
+        final SerialDateRangeSet that = (SerialDateRangeSet) obj;
+        return Arrays.equals(this.bounds, that.bounds);
+    }
+
+    /**
+     * Returns a hash code for this set.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return Arrays.hashCode(this.bounds);
+    }
+
+    /**
+     * Returns a string representing the set.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        final StringBuffer result = new StringBuffer("{");
+        for (int i = 0; i < getRangeCount(); i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(getRange(i));
+        }
+        return result.append("}").toString();
+    }
+
+}
@@ -0,0 +1,637 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * SerialDateSort.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added payloads, dedup, parallel sorting and extraction;
+ * 19-Oct-2026 : Typed the list and collection methods;
+ * 19-Oct-2026 : Added parallelSort() and dedup() for long payloads;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Sorting for arrays of serial numbers.
+ * <P>
+ * Every serial number in the supported range fits in 22 bits (see
+ * {@link SerialDate#SERIAL_UPPER_BOUND}), so an array of them can be sorted
+ * with a least-significant-digit radix sort in two passes of 11 bits, in
+ * time proportional to the length of the array and without comparing
+ * elements.  Short arrays are passed to <code>java.util.Arrays.sort()</code>
+ * instead.
+ * <P>
+ * The sort is stable, so it can carry a payload array (for example the
+ * positions of the dates in some other structure) that is rearranged in the
+ * same way as the serial numbers.  There are also methods to extract serial
+ * numbers from collections of {@link SerialDate} objects, to remove
+ * duplicates from a sorted array, and to sort very large arrays in parallel.
+ */
+public final class SerialDateSort {
+
+    /** The number of bits in each radix digit. */
+    static final int DIGIT_BITS = 11;
+
+    /** The number of buckets for each digit. */
+    static final int BUCKETS = 1 << DIGIT_BITS;
+
+    /** A mask for one digit. */
+    static final int DIGIT_MASK = BUCKETS - 1;
+
+    /** The number of bits needed for any serial number. */
+    static final int SERIAL_BITS = 2 * DIGIT_BITS;
+
+    /** Arrays shorter than this are sorted without the radix sort. */
+    static final int SMALL = 256;
+
+    /**
+     * Arrays shorter than this are not sorted in parallel by
+     * {@link #parallelSort(int[])}.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Private constructor to prevent object creation.
+     */
+    private SerialDateSort() {
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     */
+    public static void sort(final int[] serials) {
+        sort(serials, 0, serials.length);
+    }
+
+    /**
+     * Sorts part of an array of serial numbers into ascending order.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     * @param from  the first index to sort (inclusive).
+     * @param to  the last index to sort (exclusive).
+     */
+    public static void sort(final int[] serials, final int from,
+                            final int to) {
+        if (to - from < SMALL) {
+            Arrays.sort(serials, from, to);
+        }
+        else {
+            radixSort(serials, null, null, from, to);
+        }
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order, rearranging an
+     * int payload in the same way.  Equal serial numbers keep the order
+     * they had.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>serials</code>).
+     */
+    public static void sort(final int[] serials, final int[] payload) {
+        checkLengths(serials.length, payload.length);
+        if (serials.length < SMALL) {
+            insertionSort(serials, payload, null);
+        }
+        else {
+            radixSort(serials, payload, null, 0, serials.length);
+        }
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order, rearranging a
+     * long payload in the same way.  Equal serial numbers keep the order
+     * they had.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>serials</code>).
+     */
+    public static void sort(final int[] serials, final long[] payload) {
+        checkLengths(serials.length, payload.length);
+        if (serials.length < SMALL) {
+            insertionSort(serials, null, payload);
+        }
+        else {
+            radixSort(serials, null, payload, 0, serials.length);
+        }
+    }
+
+    /**
+     * Sorts a list of {@link SerialDate} objects into ascending order, in
+     * place.  This gives the same result as
+     * <code>Collections.sort(dates)</code>, but the dates are only asked for
+     * their serial numbers once, and the sort is a radix sort on those.
+     *
+     * @param dates  the dates (<code>null</code> not permitted, and no
+     *               <code>null</code> elements).
+     */
+    public static <T extends SerialDate> void sort(final List<T> dates) {
+        final List<T> elements = new ArrayList<T>(dates);
+        final int n = elements.size();
+        final int[] serials = new int[n];
+        final int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            serials[i] = elements.get(i).toSerial();
+            positions[i] = i;
+        }
+        sort(serials, positions);
+        final ListIterator<T> iterator = dates.listIterator();
+        for (int i = 0; i < n; i++) {
+            iterator.next();
+            iterator.set(elements.get(positions[i]));
+        }
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order, splitting the
+     * work between the threads of the common <code>ForkJoinPool</code>.
+     * Arrays shorter than {@link #PARALLEL_THRESHOLD} are sorted in the
+     * calling thread.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     */
+    public static void parallelSort(final int[] serials) {
+        if (serials.length < PARALLEL_THRESHOLD) {
+            sort(serials);
+        }
+        else {
+            parallelRadixSort(serials, null, null);
+        }
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order in parallel,
+     * rearranging an int payload in the same way.  Equal serial numbers keep
+     * the order they had.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>serials</code>).
+     */
+    public static void parallelSort(final int[] serials, final int[] payload) {
+        checkLengths(serials.length, payload.length);
+        if (serials.length < PARALLEL_THRESHOLD) {
+            sort(serials, payload);
+        }
+        else {
+            parallelRadixSort(serials, payload, null);
+        }
+    }
+
+    /**
+     * Sorts an array of serial numbers into ascending order in parallel,
+     * rearranging a long payload in the same way.  Equal serial numbers keep
+     * the order they had.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>serials</code>).
+     */
+    public static void parallelSort(final int[] serials,
+                                    final long[] payload) {
+        checkLengths(serials.length, payload.length);
+        if (serials.length < PARALLEL_THRESHOLD) {
+            sort(serials, payload);
+        }
+        else {
+            parallelRadixSort(serials, null, payload);
+        }
+    }
+
+    /**
+     * Moves the distinct values of a sorted array to the front of the array,
+     * and returns the number of distinct values.
+     *
+     * @param sorted  the sorted serial numbers (<code>null</code> not
+     *                permitted).
+     *
+     * @return The number of distinct values.
+     */
+    public static int dedup(final int[] sorted) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Moves the distinct values of a sorted array to the front of the array,
+     * together with the payload of the first occurrence of each value, and
+     * returns the number of distinct values.
+     *
+     * @param sorted  the sorted serial numbers (<code>null</code> not
+     *                permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>sorted</code>).
+     *
+     * @return The number of distinct values.
+     */
+    public static int dedup(final int[] sorted, final int[] payload) {
+        checkLengths(sorted.length, payload.length);
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n] = sorted[i];
+                payload[n++] = payload[i];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Moves the distinct values of a sorted array to the front of the array,
+     * together with the long payload of the first occurrence of each value,
+     * and returns the number of distinct values.
+     *
+     * @param sorted  the sorted serial numbers (<code>null</code> not
+     *                permitted).
+     * @param payload  the payload (<code>null</code> not permitted, same
+     *                 length as <code>sorted</code>).
+     *
+     * @return The number of distinct values.
+     */
+    public static int dedup(final int[] sorted, final long[] payload) {
+        checkLengths(sorted.length, payload.length);
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n] = sorted[i];
+                payload[n++] = payload[i];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the distinct serial numbers in an array, in ascending order.
+     * The array is not modified.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     *
+     * @return The distinct serial numbers.
+     */
+    public static int[] sortDistinct(final int[] serials) {
+        final int[] result = serials.clone();
+        parallelSort(result);
+        return Arrays.copyOf(result, dedup(result));
+    }
+
+    /**
+     * Returns the serial numbers for a collection of dates, in the order
+     * given by the collection's iterator.
+     *
+     * @param dates  a collection of {@link SerialDate} objects
+     *               (<code>null</code> not permitted).
+     *
+     * @return The serial numbers.
+     */
+    public static int[] toSerials(
+            final Collection<? extends SerialDate> dates) {
+        final int[] result = new int[dates.size()];
+        final Iterator<? extends SerialDate> iterator = dates.iterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = iterator.next().toSerial();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the serial numbers for an array of dates.
+     *
+     * @param dates  the dates (<code>null</code> not permitted).
+     *
+     * @return The serial numbers.
+     */
+    public static int[] toSerials(final SerialDate[] dates) {
+        final int[] result = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i].toSerial();
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if an array of serial numbers is in
+     * ascending order.
+     *
+     * @param serials  the serial numbers (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isSorted(final int[] serials) {
+        for (int i = 1; i < serials.length; i++) {
+            if (serials[i - 1] > serials[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts part of an array with a radix sort, carrying at most one
+     * payload array.
+     *
+     * @param keys  the serial numbers.
+     * @param ints  an int payload (<code>null</code> permitted).
+     * @param longs  a long payload (<code>null</code> permitted).
+     * @param from  the first index to sort (inclusive).
+     * @param to  the last index to sort (exclusive).
+     */
+    private static void radixSort(final int[] keys, final int[] ints,
+                                  final long[] longs, final int from,
+                                  final int to) {
+        final int n = to - from;
+
+        // count both digits in one pass...
+        final int[] low = new int[BUCKETS];
+        final int[] high = new int[BUCKETS];
+        for (int i = from; i < to; i++) {
+            final int s = check(keys[i]);
+            low[s & DIGIT_MASK]++;
+            high[s >>> DIGIT_BITS]++;
+        }
+
+        // ...then scatter into the buffers and back, skipping a pass if
+        // every value has the same digit
+        final int[] keyBuffer = new int[n];
+        final int[] intBuffer = (ints != null) ? new int[n] : null;
+        final long[] longBuffer = (longs != null) ? new long[n] : null;
+        final boolean lowPass = low[keys[from] & DIGIT_MASK] != n;
+        final boolean highPass = high[keys[from] >>> DIGIT_BITS] != n;
+        if (lowPass && highPass) {
+            scatter(keys, ints, longs, from, to, keyBuffer, intBuffer,
+                    longBuffer, 0, low, 0);
+            scatter(keyBuffer, intBuffer, longBuffer, 0, n, keys, ints,
+                    longs, from, high, DIGIT_BITS);
+        }
+        else if (lowPass || highPass) {
+            scatter(keys, ints, longs, from, to, keyBuffer, intBuffer,
+                    longBuffer, 0, lowPass ? low : high,
+                    lowPass ? 0 : DIGIT_BITS);
+            System.arraycopy(keyBuffer, 0, keys, from, n);
+            if (ints != null) {
+                System.arraycopy(intBuffer, 0, ints, from, n);
+            }
+            if (longs != null) {
+                System.arraycopy(longBuffer, 0, longs, from, n);
+            }
+        }
+    }
+
+    /**
+     * Moves values (and their payloads) into their buckets for one digit (a
+     * stable counting sort).  The counts are converted into bucket offsets
+     * in place.
+     *
+     * @param keys  the source keys.
+     * @param ints  the source int payload (<code>null</code> permitted).
+     * @param longs  the source long payload (<code>null</code> permitted).
+     * @param from  the first index in the source (inclusive).
+     * @param to  the last index in the source (exclusive).
+     * @param keysOut  the target keys.
+     * @param intsOut  the target int payload.
+     * @param longsOut  the target long payload.
+     * @param offset  the first index in the target.
+     * @param counts  the number of values in each bucket.
+     * @param shift  the position of the digit.
+     */
+    private static void scatter(final int[] keys, final int[] ints,
+                                final long[] longs, final int from,
+                                final int to, final int[] keysOut,
+                                final int[] intsOut, final long[] longsOut,
+                                final int offset, final int[] counts,
+                                final int shift) {
+        int position = offset;
+        for (int b = 0; b < BUCKETS; b++) {
+            final int c = counts[b];
+            counts[b] = position;
+            position += c;
+        }
+        if (ints != null) {
+            for (int i = from; i < to; i++) {
+                final int s = keys[i];
+                final int j = counts[(s >>> shift) & DIGIT_MASK]++;
+                keysOut[j] = s;
+                intsOut[j] = ints[i];
+            }
+        }
+        else if (longs != null) {
+            for (int i = from; i < to; i++) {
+                final int s = keys[i];
+                final int j = counts[(s >>> shift) & DIGIT_MASK]++;
+                keysOut[j] = s;
+                longsOut[j] = longs[i];
+            }
+        }
+        else {
+            for (int i = from; i < to; i++) {
+                final int s = keys[i];
+                keysOut[counts[(s >>> shift) & DIGIT_MASK]++] = s;
+            }
+        }
+    }
+
+    /**
+     * Sorts an array with a radix sort in parallel.  Each pass splits the
+     * array into chunks: the chunks are counted in parallel, the bucket
+     * offsets for every chunk are found in one sequential sweep (bucket by
+     * bucket, chunk by chunk, which keeps the sort stable), and then the
+     * chunks are scattered in parallel.
+     *
+     * @param keys  the serial numbers.
+     * @param ints  an int payload (<code>null</code> permitted).
+     * @param longs  a long payload (<code>null</code> permitted).
+     */
+    private static void parallelRadixSort(final int[] keys, final int[] ints,
+                                          final long[] longs) {
+        final int n = keys.length;
+        final int chunks = Math.max(2, Math.min(
+                4 * ForkJoinPool.getCommonPoolParallelism(), n / SMALL));
+        final int[] keyBuffer = new int[n];
+        final int[] intBuffer = (ints != null) ? new int[n] : null;
+        final long[] longBuffer = (longs != null) ? new long[n] : null;
+        parallelPass(keys, ints, longs, keyBuffer, intBuffer, longBuffer, 0,
+                chunks);
+        parallelPass(keyBuffer, intBuffer, longBuffer, keys, ints, longs,
+                DIGIT_BITS, chunks);
+    }
+
+    /**
+     * Performs one pass of the parallel radix sort.
+     *
+     * @param keys  the source keys.
+     * @param ints  the source int payload (<code>null</code> permitted).
+     * @param longs  the source long payload (<code>null</code> permitted).
+     * @param keysOut  the target keys.
+     * @param intsOut  the target int payload.
+     * @param longsOut  the target long payload.
+     * @param shift  the position of the digit.
+     * @param chunks  the number of chunks.
+     */
+    private static void parallelPass(final int[] keys, final int[] ints,
+                                     final long[] longs, final int[] keysOut,
+                                     final int[] intsOut,
+                                     final long[] longsOut,
+                                     final int shift, final int chunks) {
+        final int n = keys.length;
+        final int[][] counts = new int[chunks][BUCKETS];
+        IntStream.range(0, chunks).parallel().forEach(new IntConsumer() {
+            public void accept(final int c) {
+                final int[] count = counts[c];
+                final int to = (int) ((long) n * (c + 1) / chunks);
+                for (int i = (int) ((long) n * c / chunks); i < to; i++) {
+                    count[(check(keys[i]) >>> shift) & DIGIT_MASK]++;
+                }
+            }
+        });
+        int position = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int c = 0; c < chunks; c++) {
+                final int count = counts[c][b];
+                counts[c][b] = position;
+                position += count;
+            }
+        }
+        IntStream.range(0, chunks).parallel().forEach(new IntConsumer() {
+            public void accept(final int c) {
+                final int[] offsets = counts[c];
+                final int to = (int) ((long) n * (c + 1) / chunks);
+                for (int i = (int) ((long) n * c / chunks); i < to; i++) {
+                    final int s = keys[i];
+                    final int j = offsets[(s >>> shift) & DIGIT_MASK]++;
+                    keysOut[j] = s;
+                    if (ints != null) {
+                        intsOut[j] = ints[i];
+                    }
+                    else if (longs != null) {
+                        longsOut[j] = longs[i];
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Sorts a short array with a stable insertion sort, carrying at most one
+     * payload array.
+     *
+     * @param keys  the serial numbers.
+     * @param ints  an int payload (<code>null</code> permitted).
+     * @param longs  a long payload (<code>null</code> permitted).
+     */
+    private static void insertionSort(final int[] keys, final int[] ints,
+                                      final long[] longs) {
+        for (int i = 1; i < keys.length; i++) {
+            final int key = keys[i];
+            final int intValue = (ints != null) ? ints[i] : 0;
+            final long longValue = (longs != null) ? longs[i] : 0L;
+            int j = i - 1;
+            while ((j >= 0) && (keys[j] > key)) {
+                keys[j + 1] = keys[j];
+                if (ints != null) {
+                    ints[j + 1] = ints[j];
+                }
+                if (longs != null) {
+                    longs[j + 1] = longs[j];
+                }
+                j--;
+            }
+            keys[j + 1] = key;
+            if (ints != null) {
+                ints[j + 1] = intValue;
+            }
+            if (longs != null) {
+                longs[j + 1] = longValue;
+            }
+        }
+    }
+
+    /**
+     * Checks that two arrays have the same length.
+     *
+     * @param n1  the length of the first array.
+     * @param n2  the length of the second array.
+     */
+    private static void checkLengths(final int n1, final int n2) {
+        if (n1 != n2) {
+            throw new IllegalArgumentException(
+                "SerialDateSort: array lengths differ.");
+        }
+    }
+
+    /**
+     * Checks that a value fits in the radix digits.
+     *
+     * @param serial  the value.
+     *
+     * @return The value.
+     */
+    static int check(final int serial) {
+        if ((serial >>> SERIAL_BITS) != 0) {
+            throw new IllegalArgumentException(
+                "SerialDateSort: value is not a serial number: " + serial);
+        }
+        return serial;
+    }
+
+}
@@ -41,6 +41,10 @@
  * 04-Mar-2002 : Renamed SerialDates.java --> SerialDateUtilities.java (DG);
  * 25-Jun-2002 : Fixed a bug in the dayCountActual() method (DG);
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 19-Oct-2026 : Added day-count methods for serial numbers, including
+ *               batch versions.  Reimplemented countFeb29s() in constant
+ *               time (the old loop only examined the final year, and did
+ *               not return for equal dates);
  *
  */
 
@@ -67,6 +71,14 @@ import java.util.Calendar;
  */
 public class SerialDateUtilities {
 
+    /** The bits of a packed date that hold the month and end-of-month flag. */
+    private static final int FEBRUARY_END_MASK
+        = SerialDateArithmetic.END_OF_MONTH_BIT | (0x0F << 5);
+
+    /** The month and end-of-month bits for the last day of February. */
+    private static final int FEBRUARY_END
+        = SerialDateArithmetic.END_OF_MONTH_BIT | (MonthConstants.FEBRUARY << 5);
+
     /** The default date format symbols. */
     private DateFormatSymbols dateFormatSymbols;
 
@@ -318,6 +330,236 @@ public class SerialDateUtilities {
         }
     }
 
+    /**
+     * Returns the actual number of days between two dates, specified as
+     * serial numbers.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return the number of days between the start date and the end date.
+     */
+    public static int dayCountActual(final int start, final int end) {
+        return end - start;
+    }
+
+    /**
+     * Returns the number of days between the specified start and end dates
+     * (as serial numbers) under the 30/360 day-count convention.  The result
+     * is the same as {@link #dayCount30(SerialDate, SerialDate)}.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return the number of days between the two dates, assuming the 30/360
+     *      day-count convention.
+     */
+    public static int dayCount30(final int start, final int end) {
+        final int p1 = SerialDateArithmetic.decode(start);
+        final int p2 = SerialDateArithmetic.decode(end);
+        return days360(p1, p1 & 0x1F, p2, p2 & 0x1F);
+    }
+
+    /**
+     * Returns the number of days between the specified start and end dates
+     * (as serial numbers) under the 30/360 (ISDA) day-count convention.  The
+     * result is the same as {@link #dayCount30ISDA(SerialDate, SerialDate)}.
+     * <P>
+     * Rather than recursing for negative periods and branching on the day of
+     * the month, this method orders the dates with min/max and applies the
+     * adjustments arithmetically: for a day <code>d</code> in the range 1 to
+     * 31, <code>(d + 1) &gt;&gt;&gt; 5</code> is 1 only when d is 31 and
+     * <code>(d + 2) &gt;&gt;&gt; 5</code> is 1 only when d is 30 or 31.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The number of days between the two dates, assuming the 30/360
+     *      (ISDA) day-count convention.
+     */
+    public static int dayCount30ISDA(final int start, final int end) {
+        final int sign = ((end - start) >> 31) | 1;
+        final int p1 = SerialDateArithmetic.decode(Math.min(start, end));
+        final int p2 = SerialDateArithmetic.decode(Math.max(start, end));
+        int d1 = p1 & 0x1F;
+        int d2 = p2 & 0x1F;
+        d1 -= (d1 + 1) >>> 5;  // first ISDA adjustment
+        d2 -= ((d2 + 1) >>> 5) & ((d1 + 2) >>> 5);  // second ISDA adjustment
+        return sign * days360(p1, d1, p2, d2);
+    }
+
+    /**
+     * Returns the number of days between the specified start and end dates
+     * (as serial numbers) under the 30/360 (PSA) day-count convention.  The
+     * result is the same as {@link #dayCount30PSA(SerialDate, SerialDate)}.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return The number of days between the two dates, assuming the 30/360
+     *      (PSA) day-count convention.
+     */
+    public static int dayCount30PSA(final int start, final int end) {
+        final int sign = ((end - start) >> 31) | 1;
+        final int p1 = SerialDateArithmetic.decode(Math.min(start, end));
+        final int p2 = SerialDateArithmetic.decode(Math.max(start, end));
+        int d1 = p1 & 0x1F;
+        int d2 = p2 & 0x1F;
+        // first PSA adjustment (the 31st or the last day of February)...
+        d1 = ((d1 == 31) | ((p1 & FEBRUARY_END_MASK) == FEBRUARY_END))
+             ? 30 : d1;
+        d2 -= ((d2 + 1) >>> 5) & ((d1 + 2) >>> 5);  // second PSA adjustment
+        return sign * days360(p1, d1, p2, d2);
+    }
+
+    /**
+     * Returns the number of days between the specified start and end dates
+     * (as serial numbers) under the 30E/360 day-count convention.  The result
+     * is the same as {@link #dayCount30E(SerialDate, SerialDate)}.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return the number of days between the two dates, assuming the 30E/360
+     *      day-count convention.
+     */
+    public static int dayCount30E(final int start, final int end) {
+        final int sign = ((end - start) >> 31) | 1;
+        final int p1 = SerialDateArithmetic.decode(Math.min(start, end));
+        final int p2 = SerialDateArithmetic.decode(Math.max(start, end));
+        int d1 = p1 & 0x1F;
+        int d2 = p2 & 0x1F;
+        d1 -= (d1 + 1) >>> 5;  // first European adjustment
+        d2 -= (d2 + 1) >>> 5;  // second European adjustment
+        return sign * days360(p1, d1, p2, d2);
+    }
+
+    /**
+     * Calculates the actual day counts for parallel arrays of start and end
+     * dates (serial numbers).
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the array for the day counts (all three arrays must have
+     *                the same length).
+     */
+    public static void dayCountActual(final int[] starts, final int[] ends,
+                                      final int[] result) {
+        checkLengths(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ends[i] - starts[i];
+        }
+    }
+
+    /**
+     * Calculates the 30/360 day counts for parallel arrays of start and end
+     * dates (serial numbers).  Each result is the same as
+     * {@link #dayCount30(int, int)}.
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the array for the day counts (all three arrays must have
+     *                the same length).
+     */
+    public static void dayCount30(final int[] starts, final int[] ends,
+                                  final int[] result) {
+        checkLengths(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30/360 (ISDA) day counts for parallel arrays of start
+     * and end dates (serial numbers).  Each result is the same as
+     * {@link #dayCount30ISDA(int, int)}.
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the array for the day counts (all three arrays must have
+     *                the same length).
+     */
+    public static void dayCount30ISDA(final int[] starts, final int[] ends,
+                                      final int[] result) {
+        checkLengths(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30ISDA(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30/360 (PSA) day counts for parallel arrays of start
+     * and end dates (serial numbers).  Each result is the same as
+     * {@link #dayCount30PSA(int, int)}.
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the array for the day counts (all three arrays must have
+     *                the same length).
+     */
+    public static void dayCount30PSA(final int[] starts, final int[] ends,
+                                     final int[] result) {
+        checkLengths(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30PSA(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30E/360 day counts for parallel arrays of start and end
+     * dates (serial numbers).  Each result is the same as
+     * {@link #dayCount30E(int, int)}.
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the array for the day counts (all three arrays must have
+     *                the same length).
+     */
+    public static void dayCount30E(final int[] starts, final int[] ends,
+                                   final int[] result) {
+        checkLengths(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30E(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Returns <code>360 * (y2 - y1) + 30 * (m2 - m1) + (d2 - d1)</code>, taking
+     * the years and months from packed dates.
+     *
+     * @param p1  the packed start date.
+     * @param d1  the (adjusted) start day.
+     * @param p2  the packed end date.
+     * @param d2  the (adjusted) end day.
+     *
+     * @return The number of days.
+     */
+    private static int days360(final int p1, final int d1,
+                               final int p2, final int d2) {
+        return 360 * (SerialDateArithmetic.packedYYYY(p2)
+                      - SerialDateArithmetic.packedYYYY(p1))
+               + 30 * (SerialDateArithmetic.packedMonth(p2)
+                       - SerialDateArithmetic.packedMonth(p1))
+               + (d2 - d1);
+    }
+
+    /**
+     * Checks that the arrays passed to a batch day-count method have the
+     * same length.
+     *
+     * @param starts  the start dates.
+     * @param ends  the end dates.
+     * @param result  the result array.
+     */
+    private static void checkLengths(final int[] starts, final int[] ends,
+                                     final int[] result) {
+        if ((starts.length != result.length) 
+                || (ends.length != result.length)) {
+            throw new IllegalArgumentException(
+                "SerialDateUtilities: array lengths differ.");
+        }
+    }
+
     /**
      * Returns true if the specified date is the last day in February (that is, the
      * 28th in non-leap years, and the 29th in leap years).
@@ -359,30 +601,49 @@ public class SerialDateUtilities {
      *      range.
      */
     public static int countFeb29s(final SerialDate start, final SerialDate end) {
-        int count = 0;
-        SerialDate feb29;
-        final int y1;
-        final int y2;
-        int year;
+        return countFeb29s(start.toSerial(), end.toSerial());
+    }
 
-        // check the order of the dates
-        if (start.isBefore(end)) {
+    /**
+     * Returns the number of times that February 29 falls within the specified
+     * date range, where the dates are serial numbers.  As for
+     * {@link #countFeb29s(SerialDate, SerialDate)}, the earlier date is
+     * excluded and the later date is included (the
+     * {@link SerialDate#INCLUDE_SECOND} semantics of
+     * {@link SerialDate#isInRange(SerialDate, SerialDate, int)}), and the
+     * order of the dates is not important.
+     * <P>
+     * The count is found in constant time, as the difference between the
+     * number of 29 Februarys on or before each date.
+     *
+     * @param start  the start date (serial number).
+     * @param end  the end date (serial number).
+     *
+     * @return the number of times that February 29 occurs within the date
+     *      range.
+     */
+    public static int countFeb29s(final int start, final int end) {
+        return feb29sOnOrBefore(Math.max(start, end))
+               - feb29sOnOrBefore(Math.min(start, end));
+    }
 
-            y1 = start.getYYYY();
-            y2 = end.getYYYY();
-            for (year = y1; year == y2; year++) {
-                if (SerialDate.isLeapYear(year)) {
-                    feb29 = SerialDate.createInstance(29, MonthConstants.FEBRUARY, year);
-                    if (feb29.isInRange(start, end, SerialDate.INCLUDE_SECOND)) {
-                        count++;
-                    }
-                }
-            }
-            return count;
-        }
-        else {
-            return countFeb29s(end, start);
+    /**
+     * Returns the number of 29 Februarys from 1 January 1900 up to and
+     * including the specified date.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return The count.
+     */
+    private static int feb29sOnOrBefore(final int serial) {
+        final int y = SerialDateArithmetic.getYYYY(serial);
+        int result = SerialDate.leapYearCount(y - 1);
+        // 29 February is day 59 of a leap year (counting from zero)...
+        if (SerialDate.isLeapYear(y)
+                && (serial - SerialDateArithmetic.yearStart(y) >= 59)) {
+            result++;
         }
+        return result;
     }
 
 }
@@ -49,6 +49,8 @@
  * 04-Sep-2003 : Completed isInRange() methods (DG);
  * 05-Sep-2003 : Implemented Comparable (DG);
  * 21-Oct-2003 : Added hashCode() method (DG);
+ * 19-Oct-2026 : Record DateMetrics events, and emit a flight recorder
+ *               event from the calcDayMonthYear() fallback loop;
  *
  */
 
@@ -57,6 +59,8 @@ package org.jfree.date;
 import java.util.Calendar;
 import java.util.Date;
 
+import jdk.jfr.Event;
+
 /**
  * Represents a date using an integer, in a similar fashion to the
  * implementation in Microsoft Excel.  The range of dates supported is
@@ -201,6 +205,7 @@ public class SpreadsheetDate extends SerialDate {
      * @return The date.
      */
     public Date toDate() {
+        DateMetrics.record(DateMetrics.CALENDAR_CONVERSIONS);
         final Calendar calendar = Calendar.getInstance();
         calendar.set(getYYYY(), getMonth() - 1, getDayOfMonth(), 0, 0, 0);
         return calendar.getTime();
@@ -459,12 +464,21 @@ public class SpreadsheetDate extends SerialDate {
             this.year = underestimatedYYYY;
         }
         else {
+            DateMetrics.record(DateMetrics.SERIAL_DECODE_FALLBACKS);
+            final Event event = DateFlightRecorder.ENABLED
+                ? DateFlightRecorder.beginSerialDecode() : null;
+            int iterations = 0;
             int ss1 = calcSerial(1, 1, underestimatedYYYY);
             while (ss1 <= this.serial) {
                 underestimatedYYYY = underestimatedYYYY + 1;
                 ss1 = calcSerial(1, 1, underestimatedYYYY);
+                iterations++;
             }
             this.year = underestimatedYYYY - 1;
+            if (DateFlightRecorder.ENABLED) {
+                DateFlightRecorder.serialDecodeFallback(event, this.serial,
+                        iterations);
+            }
         }
 
         final int ss2 = calcSerial(1, 1, this.year);
@@ -0,0 +1,82 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * SpreadsheetDateFactory.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * The default {@link SerialDateFactory}, which creates
+ * {@link SpreadsheetDate} instances.
+ */
+public class SpreadsheetDateFactory extends SerialDateFactory {
+
+    /**
+     * Default constructor.
+     */
+    public SpreadsheetDateFactory() {
+    }
+
+    /**
+     * Creates a date for the specified day, month and year.
+     *
+     * @param day  the day (1-31).
+     * @param month  the month (1-12).
+     * @param yyyy  the year (in the range 1900 to 9999).
+     *
+     * @return A new {@link SpreadsheetDate}.
+     */
+    public SerialDate createInstance(final int day, final int month,
+                                     final int yyyy) {
+        return new SpreadsheetDate(day, month, yyyy);
+    }
+
+    /**
+     * Creates a date for the specified serial number.
+     *
+     * @param serial  the serial number for the day (1 January 1900 = 2).
+     *
+     * @return A new {@link SpreadsheetDate}.
+     */
+    public SerialDate createInstance(final int serial) {
+        return new SpreadsheetDate(serial);
+    }
+
+}
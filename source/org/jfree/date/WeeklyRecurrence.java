@@ -0,0 +1,210 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * WeeklyRecurrence.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added dayMask(), so that the days are not built as a
+ *               weekend mask;
+ *
+ */
+
+package org.jfree.date;
+
+/**
+ * A recurrence on one or more days of the week, every week or every nth
+ * week (for example every other Tuesday and Thursday).
+ * <P>
+ * Weeks run from Monday to Sunday, and are counted from the week containing
+ * an anchor date.  The next occurrence is found by skipping directly to the
+ * next week in the cycle, so each query takes constant time.
+ */
+public class WeeklyRecurrence extends RecurrenceRule {
+
+    /** The number of weeks between occurrences. */
+    private final int interval;
+
+    /** The days of the week, with bit <code>1 &lt;&lt; code</code> set. */
+    private final int dayMask;
+
+    /** The Monday of the anchor week (serial number). */
+    private final int monday;
+
+    /**
+     * Creates a recurrence on one day of every week.
+     *
+     * @param dayOfWeek  the day of the week (<code>SerialDate.MONDAY</code>
+     *                   etc.).
+     */
+    public WeeklyRecurrence(final int dayOfWeek) {
+        this(1, dayMask(dayOfWeek), SerialDate.SERIAL_LOWER_BOUND);
+    }
+
+    /**
+     * Creates a recurrence.
+     *
+     * @param interval  the number of weeks between occurrences (1 for
+     *                  every week, 2 for every other week and so on).
+     * @param dayMask  the days of the week, with the bit
+     *                 <code>1 &lt;&lt; code</code> set for each
+     *                 day-of-the-week code (see {@link #dayMask(int[])}).
+     * @param anchor  a date in one of the weeks in which the rule occurs
+     *                (serial number).
+     */
+    public WeeklyRecurrence(final int interval, final int dayMask,
+                            final int anchor) {
+        if (interval < 1) {
+            throw new IllegalArgumentException(
+                "WeeklyRecurrence(): interval must be at least 1.");
+        }
+        if ((dayMask & ~0xFE) != 0) {
+            throw new IllegalArgumentException(
+                "WeeklyRecurrence(): invalid day mask.");
+        }
+        if (dayMask == 0) {
+            throw new IllegalArgumentException(
+                "WeeklyRecurrence(): no days of the week selected.");
+        }
+        this.interval = interval;
+        this.dayMask = dayMask;
+        this.monday = anchor - (SerialDateArithmetic.getDayOfWeek(anchor)
+                + 5) % 7;
+    }
+
+    /**
+     * Returns the day mask for the specified days of the week, for use with
+     * {@link #WeeklyRecurrence(int, int, int)}.
+     *
+     * @param days  the day-of-the-week codes defined in {@link SerialDate}.
+     *
+     * @return The mask.
+     */
+    public static int dayMask(final int... days) {
+        int result = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (!SerialDate.isValidWeekdayCode(days[i])) {
+                throw new IllegalArgumentException(
+                    "WeeklyRecurrence.dayMask(): invalid day code.");
+            }
+            result |= 1 << days[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of weeks between occurrences.
+     *
+     * @return The interval.
+     */
+    public int getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Returns the days of the week.
+     *
+     * @return The day mask.
+     */
+    public int getDayMask() {
+        return this.dayMask;
+    }
+
+    /**
+     * Returns the first occurrence after a date.
+     *
+     * @param after  the date (serial number).
+     *
+     * @return The first occurrence, or {@link #NONE}.
+     */
+    public int nextOccurrence(final int after) {
+        int d = Math.max(after + 1, SerialDate.SERIAL_LOWER_BOUND);
+        while (d <= SerialDate.SERIAL_UPPER_BOUND) {
+            final int week = Math.floorDiv(d - this.monday, 7);
+            final int skip = Math.floorMod(-week, this.interval);
+            if (skip != 0) {
+                // jump to the Monday of the next week in the cycle...
+                d = this.monday + 7 * (week + skip);
+            }
+            else if (isSelected(d)) {
+                return d;
+            }
+            else {
+                d++;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the last occurrence before a date.
+     *
+     * @param before  the date (serial number).
+     *
+     * @return The last occurrence, or {@link #NONE}.
+     */
+    public int previousOccurrence(final int before) {
+        int d = Math.min(before - 1, SerialDate.SERIAL_UPPER_BOUND);
+        while (d >= SerialDate.SERIAL_LOWER_BOUND) {
+            final int week = Math.floorDiv(d - this.monday, 7);
+            final int skip = Math.floorMod(week, this.interval);
+            if (skip != 0) {
+                // jump to the Sunday of the previous week in the cycle...
+                d = this.monday + 7 * (week - skip) + 6;
+            }
+            else if (isSelected(d)) {
+                return d;
+            }
+            else {
+                d--;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns <code>true</code> if a date falls on a selected day of the
+     * week.
+     *
+     * @param serial  the date (serial number).
+     *
+     * @return A boolean.
+     */
+    private boolean isSelected(final int serial) {
+        return (this.dayMask
+                & (1 << SerialDateArithmetic.getDayOfWeek(serial))) != 0;
+    }
+
+}
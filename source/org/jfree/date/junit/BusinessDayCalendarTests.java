@@ -0,0 +1,244 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * BusinessDayCalendarTests.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.BitSet;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DayAndMonthRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link BusinessDayCalendar} class.
+ */
+public class BusinessDayCalendarTests extends TestCase {
+
+    /** A calendar for 2000 to 2030 with Christmas and Boxing Day. */
+    private BusinessDayCalendar calendar;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BusinessDayCalendarTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public BusinessDayCalendarTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the calendar.
+     */
+    protected void setUp() {
+        this.calendar = BusinessDayCalendar.fromRules(2000, 2030,
+                BusinessDayCalendar.SATURDAY_SUNDAY, new AnnualDateRule[] {
+                    new DayAndMonthRule(25, MonthConstants.DECEMBER),
+                    new DayAndMonthRule(26, MonthConstants.DECEMBER)});
+    }
+
+    /**
+     * Returns the serial number for a date.
+     *
+     * @param d  the day.
+     * @param m  the month.
+     * @param y  the year.
+     *
+     * @return The serial number.
+     */
+    private static int serial(final int d, final int m, final int y) {
+        return SerialDate.createInstance(d, m, y).toSerial();
+    }
+
+    /**
+     * Some checks for isBusinessDay().
+     */
+    public void testIsBusinessDay() {
+        // 24-Dec-2010 is a Friday, 25-Dec-2010 a Saturday...
+        assertTrue(this.calendar.isBusinessDay(serial(24, 12, 2010)));
+        assertFalse(this.calendar.isBusinessDay(serial(25, 12, 2010)));
+        // 27-Dec-2010 is a Monday, but not a holiday under these rules...
+        assertTrue(this.calendar.isBusinessDay(serial(27, 12, 2010)));
+        // 26-Dec-2011 is a Monday and a holiday...
+        assertFalse(this.calendar.isBusinessDay(serial(26, 12, 2011)));
+    }
+
+    /**
+     * The adjustment conventions.
+     */
+    public void testAdjust() {
+        // Sunday 25-Dec-2011, Monday 26-Dec-2011 is a holiday...
+        final int d = serial(25, 12, 2011);
+        assertEquals(serial(27, 12, 2011),
+                this.calendar.adjust(d, SerialDate.FOLLOWING));
+        assertEquals(serial(23, 12, 2011),
+                this.calendar.adjust(d, SerialDate.PRECEDING));
+        // two days either way, so the tie goes to the following day...
+        assertEquals(serial(27, 12, 2011),
+                this.calendar.adjust(d, SerialDate.NEAREST));
+        assertEquals(serial(23, 12, 2011), this.calendar.adjust(
+                serial(24, 12, 2011), SerialDate.NEAREST));
+        assertEquals(serial(27, 12, 2011), this.calendar.adjust(d,
+                BusinessDayCalendar.MODIFIED_FOLLOWING));
+
+        // Saturday 31-Mar-2012 rolls back under modified following...
+        final int eom = serial(31, MonthConstants.MARCH, 2012);
+        assertEquals(serial(2, 4, 2012),
+                this.calendar.adjust(eom, SerialDate.FOLLOWING));
+        assertEquals(serial(30, 3, 2012), this.calendar.adjust(eom,
+                BusinessDayCalendar.MODIFIED_FOLLOWING));
+
+        // Sunday 1-Apr-2012 rolls forward under modified preceding...
+        final int bom = serial(1, MonthConstants.APRIL, 2012);
+        assertEquals(serial(30, 3, 2012),
+                this.calendar.adjust(bom, SerialDate.PRECEDING));
+        assertEquals(serial(2, 4, 2012), this.calendar.adjust(bom,
+                BusinessDayCalendar.MODIFIED_PRECEDING));
+
+        // a business day is not moved...
+        final int b = serial(28, 3, 2012);
+        assertEquals(b, this.calendar.adjust(b,
+                BusinessDayCalendar.MODIFIED_PRECEDING));
+        assertEquals(b, this.calendar.adjust(b, SerialDate.NEAREST));
+    }
+
+    /**
+     * The lookup tables agree with probing one day at a time.
+     */
+    public void testAdjustMatchesProbing() {
+        final int start = serial(1, 1, 2001);
+        for (int s = start; s < start + 1000; s++) {
+            int f = s;
+            while (!this.calendar.isBusinessDay(f)) {
+                f++;
+            }
+            int p = s;
+            while (!this.calendar.isBusinessDay(p)) {
+                p--;
+            }
+            assertEquals(f, this.calendar.adjust(s, SerialDate.FOLLOWING));
+            assertEquals(p, this.calendar.adjust(s, SerialDate.PRECEDING));
+        }
+    }
+
+    /**
+     * The batch method gives the same results as the scalar method.
+     */
+    public void testBatchAdjust() {
+        final int start = serial(1, 6, 2005);
+        final int[] serials = new int[400];
+        for (int i = 0; i < serials.length; i++) {
+            serials[i] = start + i;
+        }
+        final int[] conventions = new int[] {SerialDate.FOLLOWING,
+            SerialDate.PRECEDING, SerialDate.NEAREST,
+            BusinessDayCalendar.MODIFIED_FOLLOWING,
+            BusinessDayCalendar.MODIFIED_PRECEDING};
+        for (int c = 0; c < conventions.length; c++) {
+            final int[] result = this.calendar.adjust(serials, conventions[c]);
+            for (int i = 0; i < serials.length; i++) {
+                assertEquals(this.calendar.adjust(serials[i], conventions[c]),
+                        result[i]);
+            }
+        }
+    }
+
+    /**
+     * Adding and counting business days.
+     */
+    public void testAddBusinessDays() {
+        // Friday 23-Dec-2011 + 1 business day is Tuesday 27-Dec-2011...
+        final int fri = serial(23, 12, 2011);
+        assertEquals(serial(27, 12, 2011),
+                this.calendar.addBusinessDays(1, fri));
+        assertEquals(fri, this.calendar.addBusinessDays(-1,
+                serial(27, 12, 2011)));
+        assertEquals(2, this.calendar.businessDaysBetween(fri,
+                serial(28, 12, 2011)));
+
+        // from a non-business day...
+        final int sat = serial(24, 12, 2011);
+        assertEquals(serial(27, 12, 2011),
+                this.calendar.addBusinessDays(1, sat));
+        assertEquals(fri, this.calendar.addBusinessDays(-1, sat));
+        assertEquals(serial(27, 12, 2011),
+                this.calendar.addBusinessDays(0, sat));
+    }
+
+    /**
+     * Dates outside the range of the calendar are rejected.
+     */
+    public void testOutOfRange() {
+        try {
+            this.calendar.adjust(serial(1, 1, 1999), SerialDate.FOLLOWING);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        final BusinessDayCalendar c = new BusinessDayCalendar(2020, 2020,
+                BusinessDayCalendar.SATURDAY_SUNDAY, new BitSet());
+        try {
+            // Thursday 31-Dec-2020 + 2 business days is outside the range...
+            c.addBusinessDays(2, serial(31, 12, 2020));
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * DateAdjusterTests.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added tests for DateAdjusterBuilder and applyParallel();
+ * 19-Oct-2026 : Updated testCache() and added testLocale();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Locale;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DateAdjuster;
+import org.jfree.date.DateAdjusterBuilder;
+import org.jfree.date.DayAndMonthRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateAdjuster} class.
+ */
+public class DateAdjusterTests extends TestCase {
+
+    /** A calendar with Christmas and Boxing Day as holidays. */
+    private BusinessDayCalendar calendar;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateAdjusterTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateAdjusterTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the calendar.
+     */
+    protected void setUp() {
+        this.calendar = BusinessDayCalendar.fromRules(2000, 2030,
+                BusinessDayCalendar.SATURDAY_SUNDAY, new AnnualDateRule[] {
+                    new DayAndMonthRule(25, MonthConstants.DECEMBER),
+                    new DayAndMonthRule(26, MonthConstants.DECEMBER)});
+    }
+
+    /**
+     * Returns the serial number for a date.
+     *
+     * @param d  the day.
+     * @param m  the month.
+     * @param y  the year.
+     *
+     * @return The serial number.
+     */
+    private static int serial(final int d, final int m, final int y) {
+        return SerialDate.createInstance(d, m, y).toSerial();
+    }
+
+    /**
+     * Tenors agree with SerialDate.addMonths() and addDays().
+     */
+    public void testTenors() {
+        final int base = serial(31, MonthConstants.JANUARY, 2020);
+        final SerialDate d = SerialDate.createInstance(base);
+        assertEquals(SerialDate.addMonths(3, d).toSerial(),
+                DateAdjuster.compile("3M").apply(base));
+        assertEquals(SerialDate.addMonths(14, d).toSerial(),
+                DateAdjuster.compile("1Y2M").apply(base));
+        assertEquals(SerialDate.addMonths(-14, d).toSerial(),
+                DateAdjuster.compile("-1y2m").apply(base));
+        assertEquals(base + 10, DateAdjuster.compile("1W3D").apply(base));
+        assertEquals(serial(29, 2, 2020),
+                DateAdjuster.compile("1M").apply(base));
+        assertEquals(serial(31, 3, 2020),
+                DateAdjuster.compile("1M EOM EOM").apply(
+                        serial(15, 2, 2020)));
+    }
+
+    /**
+     * Business day steps.
+     */
+    public void testBusinessDays() {
+        // Friday 23-Dec-2011...
+        final int fri = serial(23, 12, 2011);
+        assertEquals(serial(28, 12, 2011),
+                DateAdjuster.compile("+2BD", this.calendar).apply(fri));
+        // Saturday 31-Mar-2012...
+        final int sat = serial(31, 3, 2012);
+        assertEquals(serial(30, 3, 2012),
+                DateAdjuster.compile("MF", this.calendar).apply(sat));
+        assertEquals(serial(2, 4, 2012),
+                DateAdjuster.compile("F", this.calendar).apply(sat));
+        assertEquals(serial(4, 4, 2012),
+                DateAdjuster.compile("F +2BD", this.calendar).apply(sat));
+        assertEquals(serial(30, 3, 2012), DateAdjuster.compile(
+                "1M EOM MF", this.calendar).apply(serial(15, 2, 2012)));
+    }
+
+    /**
+     * Day-of-the-week steps.
+     */
+    public void testWeekdays() {
+        final int start = serial(1, 1, 2010);
+        for (int s = start; s < start + 21; s++) {
+            final SerialDate d = SerialDate.createInstance(s);
+            assertEquals(SerialDate.getFollowingDayOfWeek(SerialDate.MONDAY,
+                    d).toSerial(), DateAdjuster.compile("+MON").apply(s));
+            final int previous = DateAdjuster.compile("-WED").apply(s);
+            assertEquals(SerialDate.WEDNESDAY,
+                    SerialDate.createInstance(previous).getDayOfWeek());
+            assertTrue((previous <= s) && (previous > s - 7));
+            final int nearest = DateAdjuster.compile("~FRI").apply(s);
+            assertEquals(SerialDate.FRIDAY,
+                    SerialDate.createInstance(nearest).getDayOfWeek());
+            assertTrue(Math.abs(nearest - s) <= 3);
+        }
+    }
+
+    /**
+     * The batch method gives the same results as the scalar method.
+     */
+    public void testApplyArray() {
+        final DateAdjuster a = DateAdjuster.compile("3M EOM MF -1BD",
+                this.calendar);
+        final int[] serials = new int[500];
+        for (int i = 0; i < serials.length; i++) {
+            serials[i] = serial(1, 1, 2005) + i * 3;
+        }
+        final int[] result = a.apply(serials);
+        for (int i = 0; i < serials.length; i++) {
+            assertEquals(a.apply(serials[i]), result[i]);
+        }
+    }
+
+    /**
+     * Compiled adjusters are cached, and the calendar is bound after the
+     * lookup.
+     */
+    public void testCache() {
+        final DateAdjuster a = DateAdjuster.compile("6M EOM");
+        assertSame(a, DateAdjuster.compile("6M EOM"));
+
+        final BusinessDayCalendar other = BusinessDayCalendar.fromRules(2000,
+                2001, BusinessDayCalendar.SATURDAY_SUNDAY,
+                new AnnualDateRule[0]);
+        final DateAdjuster b = DateAdjuster.compile("+1BD", this.calendar);
+        final DateAdjuster c = DateAdjuster.compile("+1BD", other);
+        // 24 December 2001 is a Monday
+        assertEquals(serial(27, 12, 2001), b.apply(serial(24, 12, 2001)));
+        assertEquals(serial(25, 12, 2001), c.apply(serial(24, 12, 2001)));
+        try {
+            DateAdjuster.compile("+1BD");
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Expressions are read the same way in any default locale.
+     */
+    public void testLocale() {
+        final Locale saved = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // 19 October 2026 is a Monday
+            assertEquals(serial(23, 10, 2026), DateAdjuster.compile(
+                    "+fri 1w -1w").apply(serial(19, 10, 2026)));
+        }
+        finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    /**
+     * Invalid expressions are rejected.
+     */
+    public void testInvalid() {
+        final String[] invalid = new String[] {"3", "M", "3X", "+", "1M2",
+            "+XYZ", "BD", "MF"};
+        for (int i = 0; i < invalid.length; i++) {
+            try {
+                DateAdjuster.compile(invalid[i]);
+                fail("Should have thrown an exception for " + invalid[i]);
+            }
+            catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * A built pipeline gives the same results as the equivalent expression,
+     * and redundant steps are combined.
+     */
+    public void testBuilder() {
+        final DateAdjuster built = new DateAdjusterBuilder().addMonths(3)
+                .endOfMonth().endOfMonth()
+                .adjust(this.calendar, BusinessDayCalendar.MODIFIED_FOLLOWING)
+                .addBusinessDays(this.calendar, 2)
+                .adjust(this.calendar, SerialDate.FOLLOWING)
+                .addDays(1).addDays(-1).addDays(3)
+                .build();
+        assertEquals("3M EOM MF +2BD 3D", built.getExpression());
+        final DateAdjuster compiled = DateAdjuster.compile(
+                "3M EOM MF +2BD 3D", this.calendar);
+        final int start = serial(1, 1, 2010);
+        for (int s = start; s < start + 1000; s += 5) {
+            assertEquals(compiled.apply(s), built.apply(s));
+        }
+
+        // an existing adjuster can be appended...
+        final DateAdjuster appended = new DateAdjusterBuilder()
+                .addYears(1).then(compiled).following(SerialDate.MONDAY)
+                .build();
+        assertEquals("12M 3M EOM MF +2BD 3D +MON", appended.getExpression());
+    }
+
+    /**
+     * The parallel method gives the same results as the serial method.
+     */
+    public void testApplyParallel() {
+        final DateAdjuster a = new DateAdjusterBuilder().addMonths(6)
+                .adjust(this.calendar, BusinessDayCalendar.MODIFIED_FOLLOWING)
+                .build();
+        final int n = 3 * DateAdjuster.PARALLEL_THRESHOLD + 17;
+        final int[] serials = new int[n];
+        final int start = serial(1, 1, 2001);
+        for (int i = 0; i < n; i++) {
+            serials[i] = start + i % 8000;
+        }
+        final int[] expected = a.apply(serials);
+        final int[] result = new int[n];
+        a.applyParallel(serials, result);
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected[i], result[i]);
+        }
+    }
+
+}
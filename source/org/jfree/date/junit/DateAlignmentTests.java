@@ -0,0 +1,218 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DateAlignmentTests.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AbstractDateSeries;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DateAlignment;
+import org.jfree.date.DateDoubleSeries;
+import org.jfree.date.DateIntSeries;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateAlignment} class.
+ */
+public class DateAlignmentTests extends TestCase {
+
+    /** Some series with random dates, in both layouts. */
+    private DateDoubleSeries[] series;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateAlignmentTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateAlignmentTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the series.
+     */
+    protected void setUp() {
+        final Random random = new Random(11L);
+        this.series = new DateDoubleSeries[5];
+        for (int k = 0; k < this.series.length; k++) {
+            this.series[k] = new DateDoubleSeries((k % 2 == 0)
+                    ? AbstractDateSeries.DENSE : AbstractDateSeries.SPARSE);
+            for (int i = 0; i < 150; i++) {
+                final int serial = 40000 + random.nextInt(200);
+                this.series[k].put(serial, serial + k / 10.0);
+            }
+        }
+    }
+
+    /**
+     * Checks that the slots in an alignment point at the right values.
+     *
+     * @param alignment  the alignment.
+     * @param all  should every series have a value for every date?
+     */
+    private void checkSlots(final DateAlignment alignment,
+                            final boolean all) {
+        for (int i = 0; i < alignment.size(); i++) {
+            final int serial = alignment.getSerial(i);
+            boolean any = false;
+            for (int k = 0; k < this.series.length; k++) {
+                final int slot = alignment.getSlot(k, i);
+                assertEquals(this.series[k].slotOf(serial), slot);
+                if (slot >= 0) {
+                    any = true;
+                    assertEquals(serial + k / 10.0,
+                            this.series[k].getAt(slot), 0.0);
+                }
+                else {
+                    assertFalse(all);
+                }
+            }
+            assertTrue(any);
+        }
+    }
+
+    /**
+     * The union contains every date of every series.
+     */
+    public void testUnion() {
+        final DateAlignment alignment = DateAlignment.union(this.series);
+        final BitSet expected = new BitSet();
+        for (int k = 0; k < this.series.length; k++) {
+            final int[] serials = this.series[k].serials();
+            for (int i = 0; i < serials.length; i++) {
+                expected.set(serials[i]);
+            }
+        }
+        assertEquals(expected.cardinality(), alignment.size());
+        assertEquals(this.series.length, alignment.getSeriesCount());
+        checkSlots(alignment, false);
+    }
+
+    /**
+     * The intersection contains the dates common to every series.
+     */
+    public void testIntersection() {
+        final DateAlignment alignment = DateAlignment.intersection(
+                this.series);
+        int expected = 0;
+        for (int s = 40000; s < 40200; s++) {
+            boolean all = true;
+            for (int k = 0; k < this.series.length; k++) {
+                all = all && this.series[k].contains(s);
+            }
+            if (all) {
+                expected++;
+            }
+        }
+        assertTrue(expected > 0);
+        assertEquals(expected, alignment.size());
+        checkSlots(alignment, true);
+        assertEquals(0, DateAlignment.intersection(new AbstractDateSeries[] {
+            this.series[0], new DateIntSeries()}).size());
+    }
+
+    /**
+     * The as-of join carries values forward, up to the staleness limit.
+     */
+    public void testAsOf() {
+        final DateIntSeries s = new DateIntSeries(AbstractDateSeries.SPARSE);
+        s.put(40000, 1);
+        s.put(40010, 2);
+        final int[] index = new int[] {39999, 40000, 40005, 40009, 40010,
+            40020};
+        final AbstractDateSeries[] one = new AbstractDateSeries[] {s};
+
+        int[] slots = DateAlignment.asOf(one, index).getSlots(0);
+        final int first = s.slotOf(40000);
+        final int second = s.slotOf(40010);
+        assertTrue(Arrays.equals(new int[] {-1, first, first, first, second,
+            second}, slots));
+
+        slots = DateAlignment.asOf(one, index, 5).getSlots(0);
+        assertTrue(Arrays.equals(new int[] {-1, first, first, -1, second,
+            -1}, slots));
+    }
+
+    /**
+     * The staleness limit can be measured in business days.
+     */
+    public void testAsOfBusinessDays() {
+        final BusinessDayCalendar calendar = new BusinessDayCalendar(2011,
+                2012, BusinessDayCalendar.SATURDAY_SUNDAY, new BitSet());
+        final int friday = SerialDate.createInstance(6,
+                MonthConstants.JANUARY, 2012).toSerial();
+        final DateIntSeries s = new DateIntSeries();
+        s.put(friday, 1);
+        final AbstractDateSeries[] one = new AbstractDateSeries[] {s};
+        // Friday to Monday is one business day but three calendar days...
+        final int[] index = new int[] {friday + 3, friday + 4};
+        assertTrue(Arrays.equals(new int[] {-1, -1},
+                DateAlignment.asOf(one, index, 2).getSlots(0)));
+        assertTrue(Arrays.equals(new int[] {s.slotOf(friday), -1},
+                DateAlignment.asOf(one, index, calendar, 1).getSlots(0)));
+        try {
+            DateAlignment.asOf(one, new int[] {friday, friday}, 1);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DateDimensionTableTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DateDimensionTable;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateDimensionTable} class.
+ */
+public class DateDimensionTableTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateDimensionTableTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateDimensionTableTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns a temporary file.
+     *
+     * @return The file.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    private static File tempFile() throws IOException {
+        final File file = File.createTempFile("dates", ".bin");
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * The columns agree with SerialDate.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testColumns() throws IOException {
+        final File file = tempFile();
+        final BitSet holidays = new BitSet();
+        final int christmas = SerialDate.createInstance(25,
+                MonthConstants.DECEMBER, 2003).toSerial();
+        holidays.set(christmas);
+        final BusinessDayCalendar calendar = new BusinessDayCalendar(2003,
+                2005, BusinessDayCalendar.SATURDAY_SUNDAY, holidays);
+        DateDimensionTable.write(file, 2003, 2005, calendar);
+        final DateDimensionTable table = DateDimensionTable.open(file);
+
+        final int first = SerialDate.createInstance(1,
+                MonthConstants.JANUARY, 2003).toSerial();
+        assertEquals(first, table.getFirstSerial());
+        assertFalse(table.covers(first - 1));
+        for (int s = first; s <= table.getLastSerial(); s++) {
+            final SerialDate d = SerialDate.createInstance(s);
+            assertEquals(d.getYYYY(), table.getYYYY(s));
+            assertEquals(d.getMonth(), table.getMonth(s));
+            assertEquals(d.getDayOfMonth(), table.getDayOfMonth(s));
+            assertEquals(d.getDayOfWeek(), table.getDayOfWeek(s));
+            assertEquals(SerialDate.monthCodeToQuarter(d.getMonth()),
+                    table.getQuarter(s));
+            assertEquals(SerialDate.isLeapYear(d.getYYYY()),
+                    table.isLeapYear(s));
+            assertEquals(d.getDayOfMonth() == d.getEndOfCurrentMonth(d)
+                    .getDayOfMonth(), table.isEndOfMonth(s));
+            assertEquals(calendar.isBusinessDay(s), table.isBusinessDay(s));
+        }
+        assertFalse(table.isBusinessDay(christmas));
+        assertEquals(2005, table.getYYYY(table.getLastSerial()));
+    }
+
+    /**
+     * ISO weeks around the start of the year.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testIsoWeeks() throws IOException {
+        final File file = tempFile();
+        DateDimensionTable.write(file, 2003, 2010);
+        final DateDimensionTable table = DateDimensionTable.open(file);
+
+        // Wednesday 1 January 2003 is in week 1 of 2003...
+        int s = SerialDate.createInstance(1, MonthConstants.JANUARY,
+                2003).toSerial();
+        assertEquals(1, table.getIsoWeek(s));
+        assertEquals(2003, table.getIsoYear(s));
+
+        // ...Wednesday 31 December 2003 is in week 1 of 2004...
+        s = SerialDate.createInstance(31, MonthConstants.DECEMBER,
+                2003).toSerial();
+        assertEquals(1, table.getIsoWeek(s));
+        assertEquals(2004, table.getIsoYear(s));
+
+        // ...Saturday 1 January 2005 is in week 53 of 2004...
+        s = SerialDate.createInstance(1, MonthConstants.JANUARY,
+                2005).toSerial();
+        assertEquals(53, table.getIsoWeek(s));
+        assertEquals(2004, table.getIsoYear(s));
+
+        // ...and Sunday 3 January 2010 is in week 53 of 2009
+        s = SerialDate.createInstance(3, MonthConstants.JANUARY,
+                2010).toSerial();
+        assertEquals(53, table.getIsoWeek(s));
+        assertEquals(2009, table.getIsoYear(s));
+        assertEquals(1, table.getIsoWeek(s + 1));
+        assertFalse(table.isBusinessDay(s));
+        assertTrue(table.isBusinessDay(s + 1));
+    }
+
+    /**
+     * A file that is not a table is rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testInvalidFile() throws IOException {
+        final File file = tempFile();
+        final DataOutputStream out = new DataOutputStream(
+                new FileOutputStream(file));
+        out.writeInt(DateDimensionTable.MAGIC);
+        out.writeInt(DateDimensionTable.VERSION);
+        out.writeInt(2);
+        out.writeInt(1000);
+        out.close();
+        try {
+            DateDimensionTable.open(file);
+            fail();
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+}
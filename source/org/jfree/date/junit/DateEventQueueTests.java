@@ -0,0 +1,214 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * DateEventQueueTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Use generics;
+ * 19-Oct-2026 : Added testSparseRing();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ObjIntConsumer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.DateEventQueue;
+
+/**
+ * Tests for the {@link DateEventQueue} class.
+ */
+public class DateEventQueueTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateEventQueueTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateEventQueueTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Events are drained in date order, and in the order added within a
+     * date, including dates far beyond the ring.
+     */
+    public void testOrder() {
+        final DateEventQueue queue = new DateEventQueue(40000);
+        final Random random = new Random(31L);
+        final int n = 5000;
+        for (int i = 0; i < n; i++) {
+            // mostly near dates, some far in the future...
+            final int serial = (i % 50 == 0)
+                    ? 40000 + random.nextInt(2000000)
+                    : 40000 + random.nextInt(3000);
+            queue.add(serial, new int[] {serial, i});
+        }
+        assertEquals(n, queue.size());
+        final int[] last = new int[] {0, -1};
+        final int[] count = new int[1];
+        final ObjIntConsumer<Object> check = new ObjIntConsumer<Object>() {
+            public void accept(final Object event, final int serial) {
+                final int[] e = (int[]) event;
+                assertEquals(e[0], serial);
+                assertTrue(serial > last[0]
+                        || (serial == last[0] && e[1] > last[1]));
+                last[0] = e[0];
+                last[1] = e[1];
+                count[0]++;
+            }
+        };
+        int drained = queue.drain(41000, check);
+        assertEquals(count[0], drained);
+        assertEquals(41001, queue.getCurrentSerial());
+        assertEquals(n - drained, queue.size());
+        drained += queue.drain(50000000, check);
+        assertEquals(n, drained);
+        assertEquals(n, count[0]);
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Events added for dates already drained are due immediately.
+     */
+    public void testLateEvents() {
+        final DateEventQueue queue = new DateEventQueue(40000);
+        queue.add(40010, "a");
+        assertEquals(0, queue.drain(40005).size());
+        queue.add(40001, "late");
+        assertEquals(40006, queue.getNextSerial());
+        final List<Object> events = queue.drain(40006);
+        assertEquals(1, events.size());
+        assertEquals("late", events.get(0));
+        assertEquals(40010, queue.getNextSerial());
+        queue.add(90000, "far");
+        assertEquals(2, queue.drain(100000).size());
+        assertEquals(-1, queue.getNextSerial());
+    }
+
+    /**
+     * Sparse events in the ring, including ones that wrap around the end
+     * of the bitmap, are found and drained in date order.
+     */
+    public void testSparseRing() {
+        final DateEventQueue queue = new DateEventQueue(40000);
+        queue.add(40000 + DateEventQueue.WHEEL_SIZE - 1, "last");
+        queue.add(40700, "b");
+        queue.add(40063, "a");
+        assertEquals(40063, queue.getNextSerial());
+        assertEquals(0, queue.drain(40062).size());
+        assertEquals(40063, queue.getCurrentSerial());
+        assertEquals("a", queue.drain(40600).get(0));
+        assertEquals(40601, queue.getCurrentSerial());
+        assertEquals(40700, queue.getNextSerial());
+
+        // this bucket lies before the current one in the ring
+        queue.add(41100, "c");
+        assertEquals(40700, queue.getNextSerial());
+        final List<Object> events = queue.drain(41100);
+        assertEquals(3, events.size());
+        assertEquals("b", events.get(0));
+        assertEquals("last", events.get(1));
+        assertEquals("c", events.get(2));
+        assertEquals(-1, queue.getNextSerial());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Several producers can add events while one consumer drains them.
+     *
+     * @throws InterruptedException if interrupted.
+     */
+    public void testConcurrentProducers() throws InterruptedException {
+        final DateEventQueue queue = new DateEventQueue(40000);
+        final int producers = 4;
+        final int perProducer = 20000;
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            threads[p] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.add(40000 + i % 5000, new int[] {id, i});
+                    }
+                }
+            };
+            threads[p].start();
+        }
+        final List<Object> drained = new ArrayList<Object>();
+        int total = 0;
+        int day = 40000;
+        while (total < producers * perProducer) {
+            total += queue.drain(day, new ObjIntConsumer<Object>() {
+                public void accept(final Object event, final int serial) {
+                    drained.add(event);
+                }
+            });
+            day = Math.min(day + 7, 45000);
+        }
+        for (int p = 0; p < producers; p++) {
+            threads[p].join();
+        }
+        assertEquals(producers * perProducer, drained.size());
+        assertTrue(queue.isEmpty());
+
+        // each producer's events for a date keep their order...
+        final int[][] lastSeen = new int[producers][5000];
+        for (int i = 0; i < drained.size(); i++) {
+            final int[] e = (int[]) drained.get(i);
+            final int date = e[1] % 5000;
+            assertTrue(e[1] + 1 > lastSeen[e[0]][date]);
+            lastSeen[e[0]][date] = e[1] + 1;
+        }
+    }
+
+}
@@ -0,0 +1,260 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DateFlightRecorderTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.DateUtilities;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SpreadsheetDate;
+
+/**
+ * Smoke tests for the flight recorder events in the
+ * <code>org.jfree.date</code> package.  The events are switched on by a
+ * system property that is read when the package is initialised, so the
+ * tests for emitted events run in a separate JVM with the property set
+ * (see {@link EnabledTests}).
+ */
+public class DateFlightRecorderTests extends TestCase {
+
+    /** The system property that switches the events on. */
+    private static final String ENABLED_PROPERTY = "org.jfree.date.jfr";
+
+    /** The event names. */
+    private static final String[] EVENTS = {
+        "org.jfree.date.SerialDecodeFallback",
+        "org.jfree.date.MonthParseFailure", "org.jfree.date.LockWait"};
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateFlightRecorderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DateFlightRecorderTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Runs some code that reaches every slow path while a recording with
+     * all the events enabled (and no thresholds) is running, and returns
+     * the events recorded.
+     *
+     * @return The events.
+     *
+     * @throws IOException if the recording cannot be written or read.
+     */
+    static List<RecordedEvent> record() throws IOException {
+        final Recording recording = new Recording();
+        for (int i = 0; i < EVENTS.length; i++) {
+            recording.enable(EVENTS[i]).withThreshold(Duration.ZERO);
+        }
+        recording.start();
+        SerialDate.stringToMonthCode("January");
+        SerialDate.stringToMonthCode("March");
+        SerialDate.stringToMonthCode("7");
+        for (int s = 36500; s < 36500 + 4 * 365; s++) {
+            new SpreadsheetDate(s);
+        }
+        DateUtilities.createDate(2026, 10, 19);
+        recording.stop();
+
+        final Path file = Files.createTempFile("jcommon-date", ".jfr");
+        try {
+            recording.dump(file);
+            final List<RecordedEvent> result = new ArrayList<RecordedEvent>();
+            final List<RecordedEvent> all = RecordingFile.readAllEvents(file);
+            for (int i = 0; i < all.size(); i++) {
+                final RecordedEvent event = all.get(i);
+                if (event.getEventType().getName().startsWith(
+                        "org.jfree.date.")) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+        finally {
+            recording.close();
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Returns the events with a given name.
+     *
+     * @param events  the events.
+     * @param name  the event name.
+     *
+     * @return The matching events.
+     */
+    static List<RecordedEvent> named(final List<RecordedEvent> events,
+                                     final String name) {
+        final List<RecordedEvent> result = new ArrayList<RecordedEvent>();
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getEventType().getName().equals(name)) {
+                result.add(events.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * When the events are switched off, nothing is recorded.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testDisabled() throws IOException {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return;
+        }
+        assertEquals(0, record().size());
+    }
+
+    /**
+     * Runs {@link EnabledTests} in a separate JVM with the events switched
+     * on.
+     *
+     * @throws IOException if the JVM cannot be started.
+     * @throws InterruptedException if the wait is interrupted.
+     */
+    public void testEnabledInForkedJVM()
+        throws IOException, InterruptedException {
+        final String java = System.getProperty("java.home") + File.separator
+            + "bin" + File.separator + "java";
+        final ProcessBuilder builder = new ProcessBuilder(java, "-cp",
+                System.getProperty("java.class.path"),
+                "-D" + ENABLED_PROPERTY + "=true", "-Duser.language=en",
+                "-Duser.country=US", "junit.textui.TestRunner",
+                EnabledTests.class.getName());
+        builder.redirectErrorStream(true);
+        final Process process = builder.start();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final InputStream in = process.getInputStream();
+        final byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            output.write(buffer, 0, n);
+        }
+        assertEquals(output.toString(), 0, process.waitFor());
+    }
+
+    /**
+     * Tests for emitted events.  These are run by
+     * {@link DateFlightRecorderTests#testEnabledInForkedJVM()} and need the
+     * <code>org.jfree.date.jfr</code> property to be set and an English
+     * default locale.
+     */
+    public static class EnabledTests extends TestCase {
+
+        /**
+         * Constructs a new set of tests.
+         *
+         * @param name  the name of the tests.
+         */
+        public EnabledTests(final String name) {
+            super(name);
+        }
+
+        /**
+         * Each slow path emits an event with its fields and a duration.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void testEvents() throws IOException {
+            final List<RecordedEvent> events = record();
+            for (int i = 0; i < events.size(); i++) {
+                assertFalse(events.get(i).getDuration().isNegative());
+            }
+
+            // "January" matches the second name compared, "March" the
+            // sixth; "7" is an integer, so it gives no event
+            final List<RecordedEvent> months = named(events,
+                    "org.jfree.date.MonthParseFailure");
+            assertEquals(2, months.size());
+            assertEquals("January", months.get(0).getString("text"));
+            assertEquals(2, months.get(0).getInt("comparisons"));
+            assertEquals("March", months.get(1).getString("text"));
+            assertEquals(6, months.get(1).getInt("comparisons"));
+
+            final List<RecordedEvent> decodes = named(events,
+                    "org.jfree.date.SerialDecodeFallback");
+            assertFalse(decodes.isEmpty());
+            for (int i = 0; i < decodes.size(); i++) {
+                final int serial = decodes.get(i).getInt("serial");
+                assertTrue(serial >= 36500 && serial < 36500 + 4 * 365);
+                assertTrue(decodes.get(i).getInt("iterations") >= 1);
+            }
+
+            final List<RecordedEvent> waits = named(events,
+                    "org.jfree.date.LockWait");
+            assertEquals(1, waits.size());
+            assertEquals("createDate", waits.get(0).getString("method"));
+        }
+
+    }
+
+}
@@ -0,0 +1,236 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * DateMetricsTests.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.DateAdjuster;
+import org.jfree.date.DateMetrics;
+import org.jfree.date.DateMetricsSnapshot;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateMetrics} and {@link DateMetricsSnapshot}
+ * classes.  Recording is fixed when {@link DateMetrics} is initialised, so
+ * the tests for the recording path run in a separate JVM with the
+ * {@link DateMetrics#ENABLED_PROPERTY} property set (see
+ * {@link EnabledTests}).
+ */
+public class DateMetricsTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateMetricsTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DateMetricsTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * When recording is off, snapshots hold zeros.
+     */
+    public void testDisabled() {
+        if (DateMetrics.isRecording()) {
+            return;
+        }
+        assertFalse(DateMetrics.getInstance().isEnabled());
+        SerialDate.stringToMonthCode("January");
+        DateAdjuster.compile("+13M");
+        final DateMetricsSnapshot snapshot = DateMetrics.snapshot();
+        assertEquals(0L, snapshot.getEventCount(
+                DateMetrics.MONTH_PARSE_FAILURES));
+        assertEquals(0L, snapshot.getCacheHits(DateMetrics.ADJUSTER_CACHE));
+        assertEquals(0L, snapshot.getCacheMisses(
+                DateMetrics.ADJUSTER_CACHE));
+        assertEquals(0L, DateMetrics.getInstance().getAdjusterCacheMisses());
+        assertTrue(Double.isNaN(snapshot.getCacheHitRate(
+                DateMetrics.ADJUSTER_CACHE)));
+        assertTrue(Double.isNaN(snapshot.since(snapshot).getCacheHitRate(
+                DateMetrics.ADJUSTER_CACHE)));
+    }
+
+    /**
+     * Invalid codes are rejected.
+     */
+    public void testInvalidCodes() {
+        final DateMetricsSnapshot snapshot = DateMetrics.snapshot();
+        try {
+            snapshot.getEventCount(-1);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            snapshot.getCacheHits(DateMetrics.ADJUSTER_CACHE + 1);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Runs {@link EnabledTests} in a separate JVM with recording switched
+     * on.
+     *
+     * @throws IOException if the JVM cannot be started.
+     * @throws InterruptedException if the wait is interrupted.
+     */
+    public void testEnabledInForkedJVM()
+        throws IOException, InterruptedException {
+        final String java = System.getProperty("java.home") + File.separator
+            + "bin" + File.separator + "java";
+        final ProcessBuilder builder = new ProcessBuilder(java, "-cp",
+                System.getProperty("java.class.path"),
+                "-D" + DateMetrics.ENABLED_PROPERTY + "=true",
+                "junit.textui.TestRunner", EnabledTests.class.getName());
+        builder.redirectErrorStream(true);
+        final Process process = builder.start();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final InputStream in = process.getInputStream();
+        final byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            output.write(buffer, 0, n);
+        }
+        assertEquals(output.toString(), 0, process.waitFor());
+    }
+
+    /**
+     * Tests for the recording path.  These are run by
+     * {@link DateMetricsTests#testEnabledInForkedJVM()} and need the
+     * {@link DateMetrics#ENABLED_PROPERTY} property to be set.
+     */
+    public static class EnabledTests extends TestCase {
+
+        /**
+         * Constructs a new set of tests.
+         *
+         * @param name  the name of the tests.
+         */
+        public EnabledTests(final String name) {
+            super(name);
+        }
+
+        /**
+         * The counters record events and cache use, and since() gives the
+         * change between two snapshots.
+         */
+        public void testRecording() {
+            assertTrue(DateMetrics.isRecording());
+            final DateMetricsSnapshot before = DateMetrics.snapshot();
+            SerialDate.stringToMonthCode("January");
+            SerialDate.stringToMonthCode("February");
+            SerialDate.stringToMonthCode("3");
+            DateAdjuster.compile("+17M");
+            DateAdjuster.compile("+17M");
+            DateAdjuster.compile("+17M");
+            final DateMetricsSnapshot after = DateMetrics.snapshot();
+
+            final DateMetricsSnapshot delta = after.since(before);
+            assertEquals(2L, delta.getEventCount(
+                    DateMetrics.MONTH_PARSE_FAILURES));
+            assertEquals(2L, delta.getCacheHits(DateMetrics.ADJUSTER_CACHE));
+            assertEquals(1L, delta.getCacheMisses(
+                    DateMetrics.ADJUSTER_CACHE));
+            assertEquals(2.0 / 3.0, delta.getCacheHitRate(
+                    DateMetrics.ADJUSTER_CACHE), 1e-12);
+            // sizes are not differences
+            assertEquals(after.getCacheSize(DateMetrics.ADJUSTER_CACHE),
+                    delta.getCacheSize(DateMetrics.ADJUSTER_CACHE));
+            assertTrue(after.getCacheSize(DateMetrics.ADJUSTER_CACHE) >= 1);
+        }
+
+        /**
+         * The MBean is registered and reset() clears the counters.
+         *
+         * @throws JMException if there is a JMX problem.
+         */
+        public void testMBean() throws JMException {
+            DateAdjuster.compile("+19M");
+            final MBeanServer server
+                = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(DateMetrics.OBJECT_NAME);
+            assertTrue(server.isRegistered(name));
+            assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+            final long misses = ((Long) server.getAttribute(name,
+                    "AdjusterCacheMisses")).longValue();
+            assertTrue(misses >= 1);
+
+            final long size = DateMetrics.getInstance()
+                    .getAdjusterCacheSize();
+            DateMetrics.getInstance().reset();
+            assertEquals(0L, DateMetrics.getInstance()
+                    .getAdjusterCacheMisses());
+            assertEquals(size, DateMetrics.getInstance()
+                    .getAdjusterCacheSize());
+            assertTrue(Double.isNaN(DateMetrics.snapshot().getCacheHitRate(
+                    DateMetrics.ADJUSTER_CACHE)));
+        }
+
+    }
+
+}
@@ -39,6 +39,26 @@
  * 16-Nov-2001 : Version 1 (DG);
  * 25-Jun-2002 : Added SerialDateUtilitiesTests (DG);
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 19-Oct-2026 : Added DayCountConventionTests;
+ * 19-Oct-2026 : Added ScheduleGeneratorTests;
+ * 19-Oct-2026 : Added BusinessDayCalendarTests;
+ * 19-Oct-2026 : Added DateAdjusterTests;
+ * 19-Oct-2026 : Added SerialDateRangeTests;
+ * 19-Oct-2026 : Added SerialDateIndexTests and SerialDateSortTests;
+ * 19-Oct-2026 : Added SerialDateIntervalIndexTests;
+ * 19-Oct-2026 : Added SerialDateRangeSetTests;
+ * 19-Oct-2026 : Added DateSeriesTests;
+ * 19-Oct-2026 : Added DateAlignmentTests;
+ * 19-Oct-2026 : Added DateResamplerTests;
+ * 19-Oct-2026 : Added DateRollingWindowTests;
+ * 19-Oct-2026 : Added DateDimensionTableTests;
+ * 19-Oct-2026 : Added DateEventQueueTests;
+ * 19-Oct-2026 : Added RecurrenceRuleTests;
+ * 19-Oct-2026 : Added HolidayRuleTests;
+ * 19-Oct-2026 : Added EasterRelativeRuleTests;
+ * 19-Oct-2026 : Added ObservedHolidayRuleTests;
+ * 19-Oct-2026 : Added DateMetricsTests;
+ * 19-Oct-2026 : Added DateFlightRecorderTests;
  *
  */
 
@@ -64,6 +84,27 @@ public class DatePackageTests extends TestCase {
         suite.addTestSuite(SerialDateTests.class);
         suite.addTestSuite(SerialDateUtilitiesTests.class);
         suite.addTestSuite(SpreadsheetDateTests.class);
+        suite.addTestSuite(DayCountConventionTests.class);
+        suite.addTestSuite(ScheduleGeneratorTests.class);
+        suite.addTestSuite(BusinessDayCalendarTests.class);
+        suite.addTestSuite(DateAdjusterTests.class);
+        suite.addTestSuite(SerialDateRangeTests.class);
+        suite.addTestSuite(SerialDateIndexTests.class);
+        suite.addTestSuite(SerialDateSortTests.class);
+        suite.addTestSuite(SerialDateIntervalIndexTests.class);
+        suite.addTestSuite(SerialDateRangeSetTests.class);
+        suite.addTestSuite(DateSeriesTests.class);
+        suite.addTestSuite(DateAlignmentTests.class);
+        suite.addTestSuite(DateResamplerTests.class);
+        suite.addTestSuite(DateRollingWindowTests.class);
+        suite.addTestSuite(DateDimensionTableTests.class);
+        suite.addTestSuite(DateEventQueueTests.class);
+        suite.addTestSuite(RecurrenceRuleTests.class);
+        suite.addTestSuite(HolidayRuleTests.class);
+        suite.addTestSuite(EasterRelativeRuleTests.class);
+        suite.addTestSuite(ObservedHolidayRuleTests.class);
+        suite.addTestSuite(DateMetricsTests.class);
+        suite.addTestSuite(DateFlightRecorderTests.class);
         return suite;
     }
 
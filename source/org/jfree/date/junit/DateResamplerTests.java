@@ -0,0 +1,216 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DateResamplerTests.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.BitSet;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DateDoubleSeries;
+import org.jfree.date.DateResampler;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateResampler} class.
+ */
+public class DateResamplerTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateResamplerTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateResamplerTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * The period table agrees with decoding each date.
+     */
+    public void testPeriods() {
+        final DateResampler months = new DateResampler(DateResampler.MONTHLY,
+                2004, 2007);
+        final DateResampler quarters = new DateResampler(
+                DateResampler.QUARTERLY, MonthConstants.APRIL, 2004, 2007);
+        final DateResampler years = new DateResampler(DateResampler.YEARLY,
+                MonthConstants.JULY, 2004, 2007);
+        final DateResampler weeks = new DateResampler(DateResampler.WEEKLY,
+                2004, 2007);
+        final int first = SerialDate.createInstance(1, MonthConstants.JANUARY,
+                2004).toSerial();
+        final int last = SerialDate.createInstance(31,
+                MonthConstants.DECEMBER, 2007).toSerial();
+        for (int s = first; s <= last; s++) {
+            final SerialDate d = SerialDate.createInstance(s);
+            final int month = d.getMonth();
+            final int year = d.getYYYY();
+            assertEquals((year - 2004) * 12 + month - 1, months.getPeriod(s));
+
+            // fiscal quarters starting in April: Jan-Mar 2004 is period 0
+            final int fiscalMonth = (year - 2004) * 12 + month - 4;
+            assertEquals(fiscalMonth < 0 ? 0 : fiscalMonth / 3 + 1,
+                    quarters.getPeriod(s));
+
+            // fiscal years starting in July
+            assertEquals(fiscalMonth < 3 ? 0 : (fiscalMonth - 3) / 12 + 1,
+                    years.getPeriod(s));
+
+            // ISO weeks start on Monday
+            final int p = weeks.getPeriod(s);
+            final int start = weeks.getPeriodStart(p);
+            assertTrue(start <= s && s - start < 7);
+            if (p > 0) {
+                assertEquals(SerialDate.MONDAY,
+                        SerialDate.createInstance(start).getDayOfWeek());
+            }
+        }
+        assertEquals(48, months.getPeriodCount());
+        assertEquals(first, quarters.getPeriodStart(0));
+        assertEquals(SerialDate.createInstance(1, MonthConstants.APRIL,
+                2004).toSerial(), quarters.getPeriodStart(1));
+    }
+
+    /**
+     * The reducers.
+     */
+    public void testReducers() {
+        final DateResampler r = new DateResampler(DateResampler.MONTHLY,
+                2006, 2006);
+        final int jan1 = SerialDate.createInstance(1, MonthConstants.JANUARY,
+                2006).toSerial();
+        final int[] serials = new int[] {jan1 + 2, jan1 + 10, jan1 + 20,
+            jan1 + 40, jan1 + 50};
+        final double[] values = new double[] {3.0, 1.0, 5.0, 2.0, 4.0};
+        assertResult(r, serials, values, DateResampler.SUM, 9.0, 6.0);
+        assertResult(r, serials, values, DateResampler.MEAN, 3.0, 3.0);
+        assertResult(r, serials, values, DateResampler.FIRST, 3.0, 2.0);
+        assertResult(r, serials, values, DateResampler.LAST, 5.0, 4.0);
+        assertResult(r, serials, values, DateResampler.MIN, 1.0, 2.0);
+        assertResult(r, serials, values, DateResampler.MAX, 5.0, 4.0);
+    }
+
+    /**
+     * Checks a two-month result.
+     *
+     * @param r  the resampler.
+     * @param serials  the dates.
+     * @param values  the values.
+     * @param reducer  the reducer.
+     * @param january  the expected value for January.
+     * @param february  the expected value for February.
+     */
+    private void assertResult(final DateResampler r, final int[] serials,
+                              final double[] values, final int reducer,
+                              final double january, final double february) {
+        final DateDoubleSeries result = r.resample(serials, values, reducer);
+        assertEquals(2, result.size());
+        assertEquals(january, result.get(r.getPeriodStart(0)), 1e-12);
+        assertEquals(february, result.get(r.getPeriodStart(1)), 1e-12);
+    }
+
+    /**
+     * With a calendar, only business days are aggregated.
+     */
+    public void testBusinessDays() {
+        final BusinessDayCalendar calendar = new BusinessDayCalendar(2006,
+                2006, BusinessDayCalendar.SATURDAY_SUNDAY, new BitSet());
+        final DateResampler r = new DateResampler(DateResampler.MONTHLY,
+                2006, 2006);
+        final DateDoubleSeries daily = new DateDoubleSeries();
+        final int jan1 = SerialDate.createInstance(1, MonthConstants.JANUARY,
+                2006).toSerial();
+        for (int s = jan1; s < jan1 + 31; s++) {
+            daily.put(s, 1.0);
+        }
+        assertEquals(31.0, r.resample(daily, DateResampler.SUM).get(jan1),
+                0.0);
+        // January 2006 has 22 weekdays...
+        assertEquals(22.0, r.resample(daily, DateResampler.SUM,
+                calendar).get(jan1), 0.0);
+    }
+
+    /**
+     * Invalid arguments are rejected.
+     */
+    public void testErrors() {
+        final DateResampler r = new DateResampler(DateResampler.YEARLY,
+                2006, 2006);
+        try {
+            r.getPeriod(SerialDate.createInstance(1, MonthConstants.JANUARY,
+                    2007).toSerial());
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            r.resample(new int[] {38800, 38799}, new double[2],
+                    DateResampler.SUM);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new DateResampler(DateResampler.MONTHLY, 13, 2006, 2006);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
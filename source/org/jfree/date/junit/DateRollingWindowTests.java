@@ -0,0 +1,234 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * DateRollingWindowTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DateDoubleSeries;
+import org.jfree.date.DateRollingWindow;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link DateRollingWindow} class.
+ */
+public class DateRollingWindowTests extends TestCase {
+
+    /** The dates (irregular, with some repeats). */
+    private int[] serials;
+
+    /** The values. */
+    private double[] values;
+
+    /** A calendar with weekends and a few holidays. */
+    private BusinessDayCalendar calendar;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateRollingWindowTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateRollingWindowTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the test data.
+     */
+    protected void setUp() {
+        final Random random = new Random(29L);
+        final int first = SerialDate.createInstance(1,
+                MonthConstants.JANUARY, 2010).toSerial();
+        this.serials = new int[400];
+        this.values = new double[400];
+        int s = first;
+        for (int i = 0; i < this.serials.length; i++) {
+            s += random.nextInt(3);
+            this.serials[i] = s;
+            this.values[i] = 100.0 + random.nextGaussian() * 10.0;
+        }
+        final BitSet holidays = new BitSet();
+        for (int i = 0; i < 10; i++) {
+            holidays.set(first + random.nextInt(700));
+        }
+        this.calendar = new BusinessDayCalendar(2010, 2012,
+                BusinessDayCalendar.SATURDAY_SUNDAY, holidays);
+    }
+
+    /**
+     * Calculates a statistic by scanning each window.
+     *
+     * @param length  the window length.
+     * @param calendar  the calendar (<code>null</code> permitted).
+     * @param statistic  the statistic.
+     *
+     * @return The results.
+     */
+    private double[] scan(final int length,
+                          final BusinessDayCalendar calendar,
+                          final int statistic) {
+        final double[] result = new double[this.serials.length];
+        for (int i = 0; i < this.serials.length; i++) {
+            double sum = 0.0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            int n = 0;
+            for (int j = i; j >= 0; j--) {
+                final int age = (calendar == null)
+                        ? this.serials[i] - this.serials[j]
+                        : calendar.businessDaysBetween(this.serials[j],
+                                this.serials[i]);
+                if (age >= length) {
+                    break;
+                }
+                sum += this.values[j];
+                min = Math.min(min, this.values[j]);
+                max = Math.max(max, this.values[j]);
+                n++;
+            }
+            final double mean = sum / n;
+            double ss = 0.0;
+            for (int j = i; j > i - n; j--) {
+                ss += (this.values[j] - mean) * (this.values[j] - mean);
+            }
+            final double variance = (n > 1) ? ss / (n - 1) : Double.NaN;
+            final double[] stats = new double[] {sum, mean, variance,
+                Math.sqrt(variance), min, max};
+            result[i] = stats[statistic];
+        }
+        return result;
+    }
+
+    /**
+     * Checks every statistic against a scan.
+     *
+     * @param window  the window.
+     */
+    private void check(final DateRollingWindow window) {
+        for (int statistic = DateRollingWindow.SUM;
+                statistic <= DateRollingWindow.MAX; statistic++) {
+            final double[] expected = scan(window.getLength(),
+                    window.getCalendar(), statistic);
+            final double[] actual = window.apply(this.serials, this.values,
+                    statistic);
+            for (int i = 0; i < expected.length; i++) {
+                if (Double.isNaN(expected[i])) {
+                    assertTrue(Double.isNaN(actual[i]));
+                }
+                else {
+                    assertEquals(expected[i], actual[i], 1e-8);
+                }
+            }
+        }
+    }
+
+    /**
+     * Windows in calendar days.
+     */
+    public void testCalendarDays() {
+        check(new DateRollingWindow(1));
+        check(new DateRollingWindow(10));
+        check(new DateRollingWindow(90));
+    }
+
+    /**
+     * Windows in business days.
+     */
+    public void testBusinessDays() {
+        check(new DateRollingWindow(1, this.calendar));
+        check(new DateRollingWindow(5, this.calendar));
+        check(new DateRollingWindow(60, this.calendar));
+    }
+
+    /**
+     * A series can be rolled directly.
+     */
+    public void testSeries() {
+        final DateDoubleSeries series = new DateDoubleSeries();
+        series.put(40000, 1.0);
+        series.put(40001, 2.0);
+        series.put(40003, 4.0);
+        final DateDoubleSeries sums = new DateRollingWindow(2).apply(series,
+                DateRollingWindow.SUM);
+        assertEquals(1.0, sums.get(40000), 0.0);
+        assertEquals(3.0, sums.get(40001), 0.0);
+        assertEquals(4.0, sums.get(40003), 0.0);
+    }
+
+    /**
+     * Invalid arguments are rejected.
+     */
+    public void testErrors() {
+        try {
+            new DateRollingWindow(0);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new DateRollingWindow(5).apply(new int[] {2, 1}, new double[2],
+                    DateRollingWindow.SUM);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
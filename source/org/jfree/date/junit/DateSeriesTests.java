@@ -0,0 +1,209 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * DateSeriesTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Use generics and valueOf() in testRandom();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AbstractDateSeries;
+import org.jfree.date.DateDoubleSeries;
+import org.jfree.date.DateIntSeries;
+import org.jfree.date.DateLongSeries;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateRange;
+
+/**
+ * Tests for {@link DateDoubleSeries}, {@link DateLongSeries} and
+ * {@link DateIntSeries}.
+ */
+public class DateSeriesTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateSeriesTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DateSeriesTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks a series against a map from serial numbers to values.
+     *
+     * @param expected  the map.
+     * @param series  the series.
+     */
+    private static void check(final TreeMap<Integer, Double> expected,
+                              final DateDoubleSeries series) {
+        assertEquals(expected.size(), series.size());
+        final int[] serials = series.serials();
+        final double[] values = series.values();
+        final Iterator<Map.Entry<Integer, Double>> iterator
+            = expected.entrySet().iterator();
+        for (int i = 0; i < serials.length; i++) {
+            final Map.Entry<Integer, Double> entry = iterator.next();
+            assertEquals(entry.getKey().intValue(), serials[i]);
+            assertEquals(entry.getValue().doubleValue(), values[i], 0.0);
+            assertEquals(values[i], series.get(serials[i]), 0.0);
+        }
+        if (!expected.isEmpty()) {
+            assertEquals(expected.firstKey().intValue(),
+                    series.getFirstSerial());
+            assertEquals(expected.lastKey().intValue(),
+                    series.getLastSerial());
+        }
+    }
+
+    /**
+     * Random puts and removes in both layouts match a TreeMap.
+     */
+    public void testRandom() {
+        final int[] layouts = new int[] {AbstractDateSeries.DENSE,
+            AbstractDateSeries.SPARSE};
+        for (int l = 0; l < layouts.length; l++) {
+            final Random random = new Random(3L);
+            final TreeMap<Integer, Double> expected
+                = new TreeMap<Integer, Double>();
+            final DateDoubleSeries series = new DateDoubleSeries(layouts[l]);
+            for (int i = 0; i < 3000; i++) {
+                final int serial = 40000 + random.nextInt(600) - 300;
+                if (random.nextInt(4) == 0) {
+                    final boolean removed
+                        = expected.remove(Integer.valueOf(serial)) != null;
+                    assertEquals(removed, series.remove(serial));
+                }
+                else {
+                    final double value = random.nextDouble();
+                    expected.put(Integer.valueOf(serial),
+                            Double.valueOf(value));
+                    series.put(serial, value);
+                }
+            }
+            check(expected, series);
+            assertFalse(series.contains(39000));
+            assertEquals(-1.0, series.get(39000, -1.0), 0.0);
+
+            final SerialDateRange range = new SerialDateRange(39850, 40100,
+                    SerialDate.INCLUDE_FIRST);
+            check(new TreeMap<Integer, Double>(expected.subMap(
+                    Integer.valueOf(39850), Integer.valueOf(40100))),
+                    series.slice(range));
+        }
+    }
+
+    /**
+     * Values can be read and written by SerialDate.
+     */
+    public void testSerialDate() {
+        final SerialDate d = SerialDate.createInstance(1,
+                MonthConstants.MARCH, 2006);
+        final DateLongSeries longs = new DateLongSeries();
+        longs.put(d, 1234567890123L);
+        assertEquals(1234567890123L, longs.get(d));
+        assertTrue(longs.contains(d));
+        assertFalse(longs.contains(SerialDate.addDays(1, d)));
+
+        final DateIntSeries ints = new DateIntSeries(
+                AbstractDateSeries.SPARSE);
+        ints.put(d, 7);
+        ints.put(SerialDate.addDays(-10, d), 3);
+        assertEquals(7, ints.get(d));
+        assertTrue(Arrays.equals(new int[] {3, 7}, ints.values()));
+        assertEquals(0, ints.slice(new SerialDateRange(0, 1,
+                SerialDate.INCLUDE_BOTH)).size());
+    }
+
+    /**
+     * Missing values and bad arguments are rejected.
+     */
+    public void testErrors() {
+        final DateDoubleSeries series = new DateDoubleSeries();
+        try {
+            series.get(40000);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            series.getFirstSerial();
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            series.put(1, 1.0);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new DateIntSeries(2);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
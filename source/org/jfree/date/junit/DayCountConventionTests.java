@@ -0,0 +1,187 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DayCountConventionTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.DayCountConvention;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateArithmetic;
+import org.jfree.date.SerialDateUtilities;
+
+/**
+ * Tests for the {@link DayCountConvention} class.
+ */
+public class DayCountConventionTests extends TestCase {
+
+    /** Tolerance for year fractions. */
+    private static final double EPSILON = 1.0e-12;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DayCountConventionTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public DayCountConventionTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * The serial number helpers agree with SpreadsheetDate.
+     */
+    public void testSerialDateArithmetic() {
+        for (int s = SerialDate.SERIAL_LOWER_BOUND;
+                s <= SerialDate.SERIAL_UPPER_BOUND; s += 7) {
+            final SerialDate d = SerialDate.createInstance(s);
+            assertEquals(d.getYYYY(), SerialDateArithmetic.getYYYY(s));
+            assertEquals(d.getMonth(), SerialDateArithmetic.getMonth(s));
+            assertEquals(d.getDayOfMonth(),
+                    SerialDateArithmetic.getDayOfMonth(s));
+            assertEquals(d.getDayOfWeek(),
+                    SerialDateArithmetic.getDayOfWeek(s));
+            assertEquals(s, SerialDateArithmetic.toSerial(d.getDayOfMonth(),
+                    d.getMonth(), d.getYYYY()));
+        }
+    }
+
+    /**
+     * The serial number day counts agree with the SerialDate versions.
+     */
+    public void testDayCountsMatchSerialDateVersions() {
+        final int base = SerialDate.createInstance(1, 1, 2000).toSerial();
+        for (int i = 0; i < 800; i += 3) {
+            for (int j = 0; j < 800; j += 29) {
+                final int s1 = base + i;
+                final int s2 = base + j;
+                final SerialDate d1 = SerialDate.createInstance(s1);
+                final SerialDate d2 = SerialDate.createInstance(s2);
+                if (s1 != s2) {
+                    assertEquals(SerialDateUtilities.dayCount30(d1, d2),
+                            SerialDateUtilities.dayCount30(s1, s2));
+                }
+                assertEquals(SerialDateUtilities.dayCount30ISDA(d1, d2),
+                        SerialDateUtilities.dayCount30ISDA(s1, s2));
+                assertEquals(SerialDateUtilities.dayCount30PSA(d1, d2),
+                        SerialDateUtilities.dayCount30PSA(s1, s2));
+                assertEquals(SerialDateUtilities.dayCount30E(d1, d2),
+                        SerialDateUtilities.dayCount30E(s1, s2));
+            }
+        }
+    }
+
+    /**
+     * The ISDA example for Actual/Actual: 1 Nov 2003 to 1 May 2004.
+     */
+    public void testActActISDA() {
+        final SerialDate d1 = SerialDate.createInstance(1,
+                MonthConstants.NOVEMBER, 2003);
+        final SerialDate d2 = SerialDate.createInstance(1,
+                MonthConstants.MAY, 2004);
+        final double expected = 61.0 / 365.0 + 121.0 / 366.0;
+        assertEquals(expected,
+                DayCountConvention.ACT_ACT_ISDA.yearFraction(d1, d2), EPSILON);
+        assertEquals(-expected,
+                DayCountConvention.ACT_ACT_ISDA.yearFraction(d2, d1), EPSILON);
+
+        // several whole years...
+        final SerialDate d3 = SerialDate.createInstance(1,
+                MonthConstants.MAY, 2007);
+        assertEquals(3.0 + 61.0 / 365.0 + 120.0 / 365.0,
+                DayCountConvention.ACT_ACT_ISDA.yearFraction(d1, d3), EPSILON);
+    }
+
+    /**
+     * Some simple year fractions.
+     */
+    public void testSimpleConventions() {
+        final SerialDate d1 = SerialDate.createInstance(31,
+                MonthConstants.JANUARY, 2005);
+        final SerialDate d2 = SerialDate.createInstance(31,
+                MonthConstants.JULY, 2005);
+        assertEquals(181.0 / 360.0,
+                DayCountConvention.ACT_360.yearFraction(d1, d2), EPSILON);
+        assertEquals(181.0 / 365.0,
+                DayCountConvention.ACT_365F.yearFraction(d1, d2), EPSILON);
+        assertEquals(0.5,
+                DayCountConvention.THIRTY_360_ISDA.yearFraction(d1, d2),
+                EPSILON);
+        assertEquals(0.5,
+                DayCountConvention.THIRTY_E_360.yearFraction(d1, d2), EPSILON);
+    }
+
+    /**
+     * The batch method gives the same results as the scalar method, for
+     * every convention.
+     */
+    public void testBatchMatchesScalar() {
+        final int n = 500;
+        final int[] starts = new int[n];
+        final int[] ends = new int[n];
+        final int base = SerialDate.createInstance(28, 2, 1999).toSerial();
+        for (int i = 0; i < n; i++) {
+            starts[i] = base + (i * 37) % 1500;
+            ends[i] = base + (i * 91) % 1500;
+        }
+        final DayCountConvention[] conventions = DayCountConvention.values();
+        for (int c = 0; c < conventions.length; c++) {
+            final double[] result = conventions[c].yearFractions(starts, ends);
+            for (int i = 0; i < n; i++) {
+                assertEquals(conventions[c].yearFraction(starts[i], ends[i]),
+                        result[i], 0.0);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * EasterRelativeRuleTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.EasterRelativeRule;
+import org.jfree.date.EasterSundayRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link EasterSundayRule} and {@link EasterRelativeRule}
+ * classes.
+ */
+public class EasterRelativeRuleTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(EasterRelativeRuleTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public EasterRelativeRuleTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Some known dates.
+     */
+    public void testKnownDates() {
+        final EasterSundayRule rule = new EasterSundayRule();
+        assertEquals(SerialDate.createInstance(15, MonthConstants.APRIL,
+                1900), rule.getDate(1900));
+        assertEquals(SerialDate.createInstance(25, MonthConstants.APRIL,
+                1943), rule.getDate(1943));
+        assertEquals(SerialDate.createInstance(23, MonthConstants.APRIL,
+                2000), rule.getDate(2000));
+        assertEquals(SerialDate.createInstance(31, MonthConstants.MARCH,
+                2024), rule.getDate(2024));
+        assertEquals(SerialDate.createInstance(22, MonthConstants.MARCH,
+                2285), rule.getDate(2285));
+        assertEquals(SerialDate.createInstance(25, MonthConstants.APRIL,
+                2038), rule.getDate(2038));
+    }
+
+    /**
+     * Every date in the table is a Sunday between 22 March and 25 April.
+     */
+    public void testTable() {
+        final EasterSundayRule rule = new EasterSundayRule();
+        for (int y = 1900; y <= 9999; y++) {
+            final SerialDate d = rule.getDate(y);
+            assertEquals(d.toSerial(), rule.getSerial(y));
+            assertEquals(SerialDate.SUNDAY, d.getDayOfWeek());
+            assertEquals(y, d.getYYYY());
+            final int day = d.getDayOfMonth();
+            if (d.getMonth() == MonthConstants.MARCH) {
+                assertTrue(day >= 22);
+            }
+            else {
+                assertEquals(MonthConstants.APRIL, d.getMonth());
+                assertTrue(day <= 25);
+            }
+        }
+    }
+
+    /**
+     * The relative rules.
+     */
+    public void testRelative() {
+        final int easter = SerialDate.createInstance(31,
+                MonthConstants.MARCH, 2024).toSerial();
+        assertEquals(easter - 2, new EasterRelativeRule(
+                EasterRelativeRule.GOOD_FRIDAY).getSerial(2024));
+        assertEquals(easter + 1, new EasterRelativeRule(
+                EasterRelativeRule.EASTER_MONDAY).getSerial(2024));
+        assertEquals(SerialDate.createInstance(9, MonthConstants.MAY, 2024),
+                new EasterRelativeRule(EasterRelativeRule.ASCENSION_DAY)
+                .getDate(2024));
+        assertEquals(SerialDate.createInstance(20, MonthConstants.MAY, 2024),
+                new EasterRelativeRule(EasterRelativeRule.WHIT_MONDAY)
+                .getDate(2024));
+        assertEquals(SerialDate.createInstance(14, MonthConstants.FEBRUARY,
+                2024), new EasterRelativeRule(
+                EasterRelativeRule.ASH_WEDNESDAY).getDate(2024));
+        assertEquals(new EasterSundayRule().getDate(2010),
+                new EasterRelativeRule().getDate(2010));
+
+        final EasterRelativeRule rule = new EasterRelativeRule(-300);
+        assertEquals(-1, rule.getSerial(1900));
+        assertNull(rule.getDate(1900));
+        rule.setOffset(EasterRelativeRule.CORPUS_CHRISTI);
+        assertEquals(SerialDate.createInstance(30, MonthConstants.MAY, 2024),
+                rule.getDate(2024));
+    }
+
+    /**
+     * Invalid arguments.
+     */
+    public void testInvalid() {
+        try {
+            new EasterRelativeRule(400);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new EasterSundayRule().getSerial(1899);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
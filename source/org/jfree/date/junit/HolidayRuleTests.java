@@ -0,0 +1,406 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * HolidayRuleTests.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testLocale() and a corrupt snapshot test;
+ * 19-Oct-2026 : Added tests for named rules starting with "weekend" and
+ *               for invalid snapshot masks and names;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DayAndMonthRule;
+import org.jfree.date.DayOfWeekInMonthRule;
+import org.jfree.date.EasterSundayRule;
+import org.jfree.date.HolidayCalendarSpec;
+import org.jfree.date.HolidayRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.RelativeDayOfWeekRule;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link HolidayRule} and {@link HolidayCalendarSpec}
+ * classes.
+ */
+public class HolidayRuleTests extends TestCase {
+
+    /** A calendar definition used by several tests. */
+    private static final String NEW_YORK = "# test calendar\n"
+        + "weekend SATURDAY SUNDAY\n"
+        + "New Year: 1 JANUARY\n"
+        + "Good Friday: EASTER -2\n"
+        + "Memorial Day: last MONDAY in MAY\n"
+        + "Thanksgiving: fourth THURSDAY in NOVEMBER; 25 DEC\n";
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(HolidayRuleTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public HolidayRuleTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that a compiled rule gives the same dates as a rule graph.
+     *
+     * @param text  the rule text.
+     * @param expected  the equivalent rule graph.
+     */
+    private void checkSame(final String text, final AnnualDateRule expected) {
+        final HolidayRule rule = HolidayRule.parse(text);
+        for (int y = 1900; y <= 2100; y++) {
+            assertEquals(text + " " + y, expected.getDate(y),
+                    rule.getDate(y));
+        }
+    }
+
+    /**
+     * Compiled rules match the equivalent rule graphs.
+     */
+    public void testMatchesRuleGraphs() {
+        checkSame("25 DECEMBER", new DayAndMonthRule(25,
+                MonthConstants.DECEMBER));
+        checkSame("1 mar", new DayAndMonthRule(1, MonthConstants.MARCH));
+        checkSame("last MONDAY in MAY", new DayOfWeekInMonthRule(
+                SerialDate.LAST_WEEK_IN_MONTH, SerialDate.MONDAY,
+                MonthConstants.MAY));
+        checkSame("last SAT in FEBRUARY", new DayOfWeekInMonthRule(
+                SerialDate.LAST_WEEK_IN_MONTH, SerialDate.SATURDAY,
+                MonthConstants.FEBRUARY));
+        checkSame("fourth THURSDAY in NOVEMBER", new DayOfWeekInMonthRule(
+                SerialDate.FOURTH_WEEK_IN_MONTH, SerialDate.THURSDAY,
+                MonthConstants.NOVEMBER));
+        checkSame("first monday in september", new DayOfWeekInMonthRule(
+                SerialDate.FIRST_WEEK_IN_MONTH, SerialDate.MONDAY,
+                MonthConstants.SEPTEMBER));
+        checkSame("EASTER", new EasterSundayRule());
+        checkSame("MONDAY following 25 DECEMBER", new RelativeDayOfWeekRule(
+                new DayAndMonthRule(25, MonthConstants.DECEMBER),
+                SerialDate.MONDAY, SerialDate.FOLLOWING));
+        checkSame("FRIDAY preceding EASTER", new RelativeDayOfWeekRule(
+                new EasterSundayRule(), SerialDate.FRIDAY,
+                SerialDate.PRECEDING));
+        checkSame("TUESDAY following FRIDAY preceding 4 JULY",
+                new RelativeDayOfWeekRule(new RelativeDayOfWeekRule(
+                new DayAndMonthRule(4, MonthConstants.JULY),
+                SerialDate.FRIDAY, SerialDate.PRECEDING),
+                SerialDate.TUESDAY, SerialDate.FOLLOWING));
+    }
+
+    /**
+     * Offsets and the nearest weekday.
+     */
+    public void testOffsetAndNearest() {
+        final HolidayRule goodFriday = HolidayRule.parse("EASTER -2");
+        final HolidayRule friday = HolidayRule.parse(
+                "FRIDAY preceding EASTER");
+        final HolidayRule whitMonday = HolidayRule.parse("EASTER +50");
+        for (int y = 1900; y <= 2100; y++) {
+            assertEquals(friday.getSerial(y), goodFriday.getSerial(y));
+            assertEquals(SerialDate.MONDAY,
+                    whitMonday.getDate(y).getDayOfWeek());
+        }
+
+        // 4 July 2004 is a Sunday, 4 July 2009 a Saturday...
+        final HolidayRule nearest = HolidayRule.parse(
+                "MONDAY nearest 4 JULY");
+        assertEquals(SerialDate.createInstance(5, MonthConstants.JULY, 2004),
+                nearest.getDate(2004));
+        assertEquals(SerialDate.createInstance(6, MonthConstants.JULY, 2009),
+                nearest.getDate(2009));
+        // ...4 July 2013 a Thursday...
+        assertEquals(SerialDate.createInstance(1, MonthConstants.JULY, 2013),
+                nearest.getDate(2013));
+        // ...and 5 July 2010 is a Monday
+        assertEquals(SerialDate.createInstance(5, MonthConstants.JULY, 2010),
+                HolidayRule.parse("MONDAY nearest 5 JULY").getDate(2010));
+    }
+
+    /**
+     * 29 February gives no date in other years.
+     */
+    public void testLeapDay() {
+        final HolidayRule rule = HolidayRule.parse("29 FEBRUARY");
+        assertEquals(SerialDate.createInstance(29, MonthConstants.FEBRUARY,
+                2004), rule.getDate(2004));
+        assertNull(rule.getDate(2005));
+        assertEquals(-1, rule.getSerial(1900));
+    }
+
+    /**
+     * Invalid rules are rejected.
+     */
+    public void testInvalid() {
+        final String[] invalid = {"", "31 APRIL", "30 FEBRUARY",
+            "0 JANUARY", "25 DECEMBRE", "fifth MONDAY in MAY",
+            "last MONDAY of MAY", "MONDAY after 25 DECEMBER", "EASTER 2",
+            "EASTER +2 +3", "EASTER -400", "25", "MONDAY following"};
+        for (int i = 0; i < invalid.length; i++) {
+            try {
+                HolidayRule.parse(invalid[i]);
+                fail(invalid[i]);
+            }
+            catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * The text of a rule parses to an equal rule.
+     */
+    public void testToString() {
+        final String[] texts = {"25 DECEMBER", "last MONDAY in MAY",
+            "MONDAY following 25 DECEMBER", "EASTER -2", "EASTER +39",
+            "TUESDAY nearest FRIDAY preceding first SUNDAY in MARCH +3"};
+        for (int i = 0; i < texts.length; i++) {
+            final HolidayRule rule = HolidayRule.parse(texts[i]);
+            assertEquals(texts[i], rule.toString());
+            assertEquals(rule, HolidayRule.parse(rule.toString()));
+        }
+        assertEquals("3 JANUARY", HolidayRule.parse("3 jan").toString());
+    }
+
+    /**
+     * A compiled definition gives the same calendar as the rule graphs.
+     */
+    public void testCompile() {
+        final HolidayCalendarSpec spec = HolidayCalendarSpec.compile(
+                NEW_YORK);
+        assertEquals(5, spec.getRuleCount());
+        assertEquals("Good Friday", spec.getName(1));
+        assertEquals("", spec.getName(4));
+        assertEquals(BusinessDayCalendar.weekendMask(SerialDate.SATURDAY,
+                SerialDate.SUNDAY), spec.getWeekendMask());
+
+        final AnnualDateRule[] rules = {
+            new DayAndMonthRule(1, MonthConstants.JANUARY),
+            new RelativeDayOfWeekRule(new EasterSundayRule(),
+                SerialDate.FRIDAY, SerialDate.PRECEDING),
+            new DayOfWeekInMonthRule(SerialDate.LAST_WEEK_IN_MONTH,
+                SerialDate.MONDAY, MonthConstants.MAY),
+            new DayOfWeekInMonthRule(SerialDate.FOURTH_WEEK_IN_MONTH,
+                SerialDate.THURSDAY, MonthConstants.NOVEMBER),
+            new DayAndMonthRule(25, MonthConstants.DECEMBER)};
+        final BusinessDayCalendar expected = BusinessDayCalendar.fromRules(
+                1990, 2030, spec.getWeekendMask(), rules);
+        final BusinessDayCalendar actual = spec.toCalendar(1990, 2030);
+        final int first = SerialDate.createInstance(1, 1, 1990).toSerial();
+        final int last = SerialDate.createInstance(31, 12, 2030).toSerial();
+        for (int s = first; s <= last; s++) {
+            assertEquals(expected.isBusinessDay(s), actual.isBusinessDay(s));
+        }
+
+        final HolidayCalendarSpec middleEast = HolidayCalendarSpec.compile(
+                "weekend FRI SAT");
+        assertEquals(BusinessDayCalendar.weekendMask(SerialDate.FRIDAY,
+                SerialDate.SATURDAY), middleEast.getWeekendMask());
+        assertEquals(0, middleEast.getRuleCount());
+
+        try {
+            HolidayCalendarSpec.compile("weekend SATURDAY SONNTAG");
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            HolidayCalendarSpec.compile("weekend SUN MON TUE WED THU FRI SAT");
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        // a named rule is not the weekend line
+        final HolidayCalendarSpec uk = HolidayCalendarSpec.compile(
+                "Weekend Bank Holiday: 1 MAY");
+        assertEquals(1, uk.getRuleCount());
+        assertEquals("Weekend Bank Holiday", uk.getName(0));
+        assertEquals(BusinessDayCalendar.weekendMask(SerialDate.SATURDAY,
+                SerialDate.SUNDAY), uk.getWeekendMask());
+    }
+
+    /**
+     * Writes a snapshot with one rule.
+     *
+     * @param mask  the weekend mask.
+     * @param name  the rule name.
+     *
+     * @return The snapshot.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static byte[] snapshot(final int mask, final String name)
+        throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(HolidayCalendarSpec.MAGIC);
+        out.writeInt(HolidayCalendarSpec.VERSION);
+        out.writeInt(mask);
+        out.writeInt(1);
+        out.writeUTF(name);
+        HolidayRule.parse("1 MAY").writeTo(out);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * The text of a definition compiles to the same definition.
+     */
+    public void testSpecToString() {
+        final HolidayCalendarSpec spec = HolidayCalendarSpec.compile(
+                NEW_YORK);
+        final HolidayCalendarSpec copy = HolidayCalendarSpec.compile(
+                spec.toString());
+        assertEquals(spec.toString(), copy.toString());
+        assertEquals(spec.getRuleCount(), copy.getRuleCount());
+        for (int i = 0; i < spec.getRuleCount(); i++) {
+            assertEquals(spec.getRule(i), copy.getRule(i));
+            assertEquals(spec.getName(i), copy.getName(i));
+        }
+    }
+
+    /**
+     * A snapshot reads back as the same definition.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSnapshot() throws IOException {
+        final HolidayCalendarSpec spec = HolidayCalendarSpec.compile(
+                NEW_YORK + "TUESDAY nearest FRIDAY preceding 4 JULY -1\n"
+                + "weekend SUNDAY");
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        spec.writeSnapshot(new DataOutputStream(buffer));
+        final HolidayCalendarSpec copy = HolidayCalendarSpec.readSnapshot(
+                new DataInputStream(new ByteArrayInputStream(
+                buffer.toByteArray())));
+        assertEquals(spec.getWeekendMask(), copy.getWeekendMask());
+        assertEquals(spec.getRuleCount(), copy.getRuleCount());
+        for (int i = 0; i < spec.getRuleCount(); i++) {
+            assertEquals(spec.getRule(i), copy.getRule(i));
+            assertEquals(spec.getName(i), copy.getName(i));
+        }
+
+        final byte[] bytes = buffer.toByteArray();
+        bytes[0] = 0;
+        try {
+            HolidayCalendarSpec.readSnapshot(new DataInputStream(
+                    new ByteArrayInputStream(bytes)));
+            fail();
+        }
+        catch (IOException e) {
+            // expected
+        }
+
+        // a corrupt rule count runs out of data
+        final byte[] corrupt = buffer.toByteArray();
+        corrupt[12] = (byte) 0x7F;
+        try {
+            HolidayCalendarSpec.readSnapshot(new DataInputStream(
+                    new ByteArrayInputStream(corrupt)));
+            fail();
+        }
+        catch (IOException e) {
+            // expected
+        }
+
+        // weekend masks and names are checked
+        assertEquals("May Day", HolidayCalendarSpec.readSnapshot(
+                new DataInputStream(new ByteArrayInputStream(snapshot(0x82,
+                "May Day")))).getName(0));
+        final byte[][] invalid = {snapshot(0x83, "May Day"),
+            snapshot(0xFE, "May Day"), snapshot(0x82, "May: Day"),
+            snapshot(0x82, "May # Day"), snapshot(0x82, "May; Day"),
+            snapshot(0x82, "May\nDay"), snapshot(0x82, " May Day")};
+        for (int i = 0; i < invalid.length; i++) {
+            try {
+                HolidayCalendarSpec.readSnapshot(new DataInputStream(
+                        new ByteArrayInputStream(invalid[i])));
+                fail();
+            }
+            catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Rules and definitions read the same way in any default locale.
+     */
+    public void testLocale() {
+        final Locale saved = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            final HolidayRule rule = HolidayRule.parse("first friday in may");
+            assertEquals("first FRIDAY in MAY", rule.toString());
+            assertEquals(SerialDate.createInstance(1, MonthConstants.MAY,
+                    2026), rule.getDate(2026));
+            assertEquals(BusinessDayCalendar.weekendMask(SerialDate.FRIDAY,
+                    SerialDate.SATURDAY), HolidayCalendarSpec.compile(
+                    "weekend fri sat").getWeekendMask());
+        }
+        finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * ObservedHolidayRuleTests.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.BitSet;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.DayAndMonthRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.ObservedHolidayRule;
+import org.jfree.date.SerialDate;
+
+/**
+ * Tests for the {@link ObservedHolidayRule} class.
+ */
+public class ObservedHolidayRuleTests extends TestCase {
+
+    /** Christmas Day. */
+    private static final AnnualDateRule CHRISTMAS = new DayAndMonthRule(25,
+            MonthConstants.DECEMBER);
+
+    /** Boxing Day. */
+    private static final AnnualDateRule BOXING_DAY = new DayAndMonthRule(26,
+            MonthConstants.DECEMBER);
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ObservedHolidayRuleTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ObservedHolidayRuleTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the serial number for a date.
+     *
+     * @param day  the day.
+     * @param month  the month.
+     * @param year  the year.
+     *
+     * @return The serial number.
+     */
+    private static int serial(final int day, final int month,
+                              final int year) {
+        return SerialDate.createInstance(day, month, year).toSerial();
+    }
+
+    /**
+     * The policies for a single rule.
+     */
+    public void testPolicies() {
+        // 4 July 2020 is a Saturday, 4 July 2021 a Sunday...
+        final ObservedHolidayRule nearest = new ObservedHolidayRule(
+                new DayAndMonthRule(4, MonthConstants.JULY),
+                SerialDate.NEAREST);
+        assertEquals(serial(3, MonthConstants.JULY, 2020),
+                nearest.getSerial(2020));
+        assertEquals(serial(5, MonthConstants.JULY, 2021),
+                nearest.getSerial(2021));
+        // ...and 4 July 2019 a Thursday
+        assertEquals(serial(4, MonthConstants.JULY, 2019),
+                nearest.getSerial(2019));
+
+        // 25 December 2021 is a Saturday
+        assertEquals(SerialDate.createInstance(27, MonthConstants.DECEMBER,
+                2021), new ObservedHolidayRule(CHRISTMAS,
+                SerialDate.FOLLOWING).getDate(2021));
+        assertEquals(SerialDate.createInstance(24, MonthConstants.DECEMBER,
+                2021), new ObservedHolidayRule(CHRISTMAS,
+                SerialDate.PRECEDING).getDate(2021));
+
+        // a Sunday-only weekend leaves Saturday holidays alone
+        final int sunday = BusinessDayCalendar.weekendMask(SerialDate.SUNDAY);
+        assertEquals(serial(25, MonthConstants.DECEMBER, 2021),
+                new ObservedHolidayRule(CHRISTMAS, SerialDate.FOLLOWING,
+                sunday).getSerial(2021));
+        assertEquals(serial(27, MonthConstants.DECEMBER, 2021),
+                new ObservedHolidayRule(BOXING_DAY, SerialDate.FOLLOWING,
+                sunday).getSerial(2021));
+    }
+
+    /**
+     * Moved holidays do not land on each other.
+     */
+    public void testCollisions() {
+        final AnnualDateRule[] rules = {
+            new ObservedHolidayRule(CHRISTMAS, SerialDate.FOLLOWING),
+            new ObservedHolidayRule(BOXING_DAY, SerialDate.FOLLOWING)};
+        final BitSet holidays = new BitSet();
+        ObservedHolidayRule.resolve(rules, 2021, 2022, holidays);
+
+        // 2021: Saturday and Sunday, observed on Monday and Tuesday...
+        assertTrue(holidays.get(serial(27, MonthConstants.DECEMBER, 2021)));
+        assertTrue(holidays.get(serial(28, MonthConstants.DECEMBER, 2021)));
+        // ...2022: Sunday and Monday, so Christmas moves past Boxing Day
+        assertTrue(holidays.get(serial(26, MonthConstants.DECEMBER, 2022)));
+        assertTrue(holidays.get(serial(27, MonthConstants.DECEMBER, 2022)));
+        assertEquals(4, holidays.cardinality());
+
+        // a moved holiday keeps going in the same direction
+        final AnnualDateRule[] nearest = {
+            new DayAndMonthRule(24, MonthConstants.DECEMBER),
+            new ObservedHolidayRule(CHRISTMAS, SerialDate.NEAREST)};
+        holidays.clear();
+        ObservedHolidayRule.resolve(nearest, 2021, 2021, holidays);
+        assertTrue(holidays.get(serial(24, MonthConstants.DECEMBER, 2021)));
+        assertTrue(holidays.get(serial(23, MonthConstants.DECEMBER, 2021)));
+        assertEquals(2, holidays.cardinality());
+    }
+
+    /**
+     * The calendar built from rules uses the observed dates.
+     */
+    public void testFromRules() {
+        final AnnualDateRule[] rules = {
+            new ObservedHolidayRule(new DayAndMonthRule(1,
+                MonthConstants.JANUARY), SerialDate.NEAREST),
+            new ObservedHolidayRule(CHRISTMAS, SerialDate.FOLLOWING),
+            new ObservedHolidayRule(BOXING_DAY, SerialDate.FOLLOWING)};
+        final BusinessDayCalendar calendar = BusinessDayCalendar.fromRules(
+                2021, 2022, BusinessDayCalendar.weekendMask(
+                SerialDate.SATURDAY, SerialDate.SUNDAY), rules);
+        // 1 January 2022 is a Saturday, observed on Friday 31 December
+        assertFalse(calendar.isBusinessDay(serial(31,
+                MonthConstants.DECEMBER, 2021)));
+        assertFalse(calendar.isBusinessDay(serial(27,
+                MonthConstants.DECEMBER, 2021)));
+        assertFalse(calendar.isBusinessDay(serial(28,
+                MonthConstants.DECEMBER, 2021)));
+        assertTrue(calendar.isBusinessDay(serial(29,
+                MonthConstants.DECEMBER, 2021)));
+        assertTrue(calendar.isBusinessDay(serial(3,
+                MonthConstants.JANUARY, 2022)));
+    }
+
+    /**
+     * Invalid arguments.
+     */
+    public void testInvalid() {
+        try {
+            new ObservedHolidayRule(null, SerialDate.FOLLOWING);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ObservedHolidayRule(CHRISTMAS, 2);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ObservedHolidayRule(CHRISTMAS, SerialDate.NEAREST, 0xFE);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
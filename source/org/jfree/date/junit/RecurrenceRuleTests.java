@@ -0,0 +1,276 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * RecurrenceRuleTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Use WeeklyRecurrence.dayMask() in testWeekly();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.AdjustedRecurrence;
+import org.jfree.date.AnnualRecurrence;
+import org.jfree.date.BusinessDayCalendar;
+import org.jfree.date.BusinessDayRecurrence;
+import org.jfree.date.DayOfWeekInMonthRule;
+import org.jfree.date.EasterSundayRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.MonthlyRecurrence;
+import org.jfree.date.RecurrenceRule;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateRange;
+import org.jfree.date.WeeklyRecurrence;
+
+/**
+ * Tests for {@link RecurrenceRule} and its subclasses.
+ */
+public class RecurrenceRuleTests extends TestCase {
+
+    /** The first date checked (1 January 2004). */
+    private static final int FIRST = SerialDate.createInstance(1,
+            MonthConstants.JANUARY, 2004).toSerial();
+
+    /** The last date checked (31 December 2007). */
+    private static final int LAST = SerialDate.createInstance(31,
+            MonthConstants.DECEMBER, 2007).toSerial();
+
+    /** A calendar with weekends and some holidays. */
+    private BusinessDayCalendar calendar;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RecurrenceRuleTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public RecurrenceRuleTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the calendar.
+     */
+    protected void setUp() {
+        final BitSet holidays = new BitSet();
+        for (int y = 2003; y <= 2008; y++) {
+            // 31 March and 1 January are holidays...
+            holidays.set(SerialDate.createInstance(31, MonthConstants.MARCH,
+                    y).toSerial());
+            holidays.set(SerialDate.createInstance(1, MonthConstants.JANUARY,
+                    y).toSerial());
+        }
+        this.calendar = new BusinessDayCalendar(2003, 2008,
+                BusinessDayCalendar.SATURDAY_SUNDAY, holidays);
+    }
+
+    /**
+     * Checks a rule against the expected occurrences in the test range.
+     * The expected occurrences must include one before and one after the
+     * range.
+     *
+     * @param rule  the rule.
+     * @param expected  the expected occurrences (ascending).
+     */
+    private static void check(final RecurrenceRule rule,
+                              final int[] expected) {
+        int j = 0;
+        for (int d = FIRST; d <= LAST; d++) {
+            while (expected[j + 1] <= d) {
+                j++;
+            }
+            // expected[j] <= d < expected[j + 1]
+            assertEquals(expected[j + 1], rule.nextOccurrence(d));
+            final int previous = (expected[j] == d) ? expected[j - 1]
+                                                    : expected[j];
+            assertEquals(previous, rule.previousOccurrence(d));
+            assertEquals(expected[j] == d, rule.isOccurrence(d));
+        }
+
+        // the stream holds the occurrences in the range...
+        final int[] inRange = rule.occurrences(new SerialDateRange(FIRST,
+                LAST, SerialDate.INCLUDE_BOTH)).toArray();
+        int n = 0;
+        for (int i = 0; i < expected.length; i++) {
+            if ((expected[i] >= FIRST) && (expected[i] <= LAST)) {
+                assertEquals(expected[i], inRange[n++]);
+            }
+        }
+        assertEquals(n, inRange.length);
+    }
+
+    /**
+     * The third Wednesday of every month matches DayOfWeekInMonthRule.
+     */
+    public void testMonthlyWeekday() {
+        final int[] expected = new int[12 * 6];
+        int n = 0;
+        for (int y = 2003; y <= 2008; y++) {
+            for (int m = 1; m <= 12; m++) {
+                expected[n++] = new DayOfWeekInMonthRule(3,
+                        SerialDate.WEDNESDAY, m).getDate(y).toSerial();
+            }
+        }
+        check(new MonthlyRecurrence(1, MonthConstants.JANUARY,
+                SerialDate.THIRD_WEEK_IN_MONTH, SerialDate.WEDNESDAY),
+                expected);
+    }
+
+    /**
+     * The last Friday of every other month.
+     */
+    public void testMonthlyLastWeekday() {
+        final int[] expected = new int[6 * 6];
+        int n = 0;
+        for (int y = 2003; y <= 2008; y++) {
+            for (int m = 2; m <= 12; m += 2) {
+                expected[n++] = new DayOfWeekInMonthRule(
+                        SerialDate.LAST_WEEK_IN_MONTH, SerialDate.FRIDAY, m)
+                        .getDate(y).toSerial();
+            }
+        }
+        check(new MonthlyRecurrence(2, MonthConstants.DECEMBER,
+                SerialDate.LAST_WEEK_IN_MONTH, SerialDate.FRIDAY), expected);
+    }
+
+    /**
+     * The last business day of each quarter.
+     */
+    public void testLastBusinessDayOfQuarter() {
+        final int[] expected = new int[4 * 6];
+        int n = 0;
+        for (int y = 2003; y <= 2008; y++) {
+            for (int m = 3; m <= 12; m += 3) {
+                final SerialDate d = SerialDate.createInstance(1, m, y);
+                expected[n++] = this.calendar.preceding(
+                        d.getEndOfCurrentMonth(d).toSerial());
+            }
+        }
+        final RecurrenceRule quarterEnds = new MonthlyRecurrence(3,
+                MonthConstants.MARCH, 31);
+        check(new AdjustedRecurrence(quarterEnds, this.calendar,
+                SerialDate.PRECEDING), expected);
+    }
+
+    /**
+     * Every fifth business day.
+     */
+    public void testBusinessDays() {
+        final int anchor = SerialDate.createInstance(1,
+                MonthConstants.JANUARY, 2003).toSerial();
+        final int start = this.calendar.following(anchor);
+        final int[] expected = new int[300];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = this.calendar.addBusinessDays(5 * i, start);
+        }
+        check(new BusinessDayRecurrence(this.calendar, 5, anchor), expected);
+    }
+
+    /**
+     * Every other Tuesday and Thursday.
+     */
+    public void testWeekly() {
+        final int anchor = SerialDate.createInstance(7,
+                MonthConstants.JANUARY, 2004).toSerial();
+        final int tuesday = anchor - 1;
+        final int[] expected = new int[2 * 120];
+        int n = 0;
+        for (int w = -2; w < 118; w++) {
+            expected[n++] = tuesday + 14 * w;
+            expected[n++] = tuesday + 14 * w + 2;
+        }
+        final int mask = WeeklyRecurrence.dayMask(SerialDate.TUESDAY,
+                SerialDate.THURSDAY);
+        check(new WeeklyRecurrence(2, mask, anchor), expected);
+        assertEquals(anchor - 1, new WeeklyRecurrence(
+                SerialDate.TUESDAY).nextOccurrence(anchor - 7));
+
+        // bit 0 is not a day of the week
+        try {
+            new WeeklyRecurrence(1, mask | 1, anchor);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Easter Sunday, through AnnualRecurrence.
+     */
+    public void testAnnual() {
+        final EasterSundayRule easter = new EasterSundayRule();
+        final int[] expected = new int[6];
+        for (int y = 2003; y <= 2008; y++) {
+            expected[y - 2003] = easter.getSerial(y);
+        }
+        check(new AnnualRecurrence(easter), expected);
+    }
+
+    /**
+     * Queries at the ends of the supported range.
+     */
+    public void testLimits() {
+        final RecurrenceRule rule = new MonthlyRecurrence(1,
+                MonthConstants.JANUARY, 15);
+        assertEquals(RecurrenceRule.NONE, rule.previousOccurrence(
+                SerialDate.SERIAL_LOWER_BOUND));
+        assertEquals(SerialDate.createInstance(15, MonthConstants.JANUARY,
+                1900).toSerial(), rule.nextOccurrence(0));
+        assertEquals(RecurrenceRule.NONE, rule.nextOccurrence(
+                SerialDate.SERIAL_UPPER_BOUND - 1));
+        assertTrue(Arrays.equals(new int[0], rule.occurrences(
+                new SerialDateRange(40001, 40003, SerialDate.INCLUDE_NONE))
+                .toArray()));
+    }
+
+}
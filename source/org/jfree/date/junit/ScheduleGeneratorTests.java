@@ -0,0 +1,249 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * ScheduleGeneratorTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.function.IntConsumer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.MonthConstants;
+import org.jfree.date.ScheduleGenerator;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateArithmetic;
+
+/**
+ * Tests for the {@link ScheduleGenerator} class.
+ */
+public class ScheduleGeneratorTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ScheduleGeneratorTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public ScheduleGeneratorTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the serial number for a date.
+     *
+     * @param d  the day.
+     * @param m  the month.
+     * @param y  the year.
+     *
+     * @return The serial number.
+     */
+    private static int serial(final int d, final int m, final int y) {
+        return SerialDate.createInstance(d, m, y).toSerial();
+    }
+
+    /**
+     * Checks a schedule against the expected dates.
+     *
+     * @param expected  the expected dates.
+     * @param actual  the actual dates.
+     */
+    private static void assertSchedule(final int[] expected,
+                                       final int[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i]);
+        }
+    }
+
+    /**
+     * The addMonths() and endOfMonth() helpers agree with SerialDate.
+     */
+    public void testAddMonths() {
+        final int base = serial(1, 1, 2000);
+        for (int s = base; s < base + 800; s += 3) {
+            final SerialDate d = SerialDate.createInstance(s);
+            for (int m = -30; m <= 30; m += 7) {
+                assertEquals(SerialDate.addMonths(m, d).toSerial(),
+                        SerialDateArithmetic.addMonths(m, s));
+            }
+            assertEquals(d.getEndOfCurrentMonth(d).toSerial(),
+                    SerialDateArithmetic.endOfMonth(s));
+        }
+    }
+
+    /**
+     * A schedule with no stub.
+     */
+    public void testRegular() {
+        final ScheduleGenerator g = new ScheduleGenerator(6,
+                ScheduleGenerator.SHORT_FRONT_STUB, false);
+        final int[] expected = new int[] {serial(15, 1, 2020),
+            serial(15, 7, 2020), serial(15, 1, 2021), serial(15, 7, 2021),
+            serial(15, 1, 2022)};
+        assertSchedule(expected, g.generate(expected[0], expected[4]));
+        final ScheduleGenerator g2 = new ScheduleGenerator(6,
+                ScheduleGenerator.LONG_BACK_STUB, false);
+        assertSchedule(expected, g2.generate(expected[0], expected[4]));
+    }
+
+    /**
+     * Short and long front stubs.
+     */
+    public void testFrontStubs() {
+        final int start = serial(1, MonthConstants.MARCH, 2020);
+        final int end = serial(15, MonthConstants.JANUARY, 2022);
+        final ScheduleGenerator shortFront = new ScheduleGenerator(6,
+                ScheduleGenerator.SHORT_FRONT_STUB, false);
+        assertSchedule(new int[] {start, serial(15, 7, 2020),
+            serial(15, 1, 2021), serial(15, 7, 2021), end},
+            shortFront.generate(start, end));
+        final ScheduleGenerator longFront = new ScheduleGenerator(6,
+                ScheduleGenerator.LONG_FRONT_STUB, false);
+        assertSchedule(new int[] {start, serial(15, 1, 2021),
+            serial(15, 7, 2021), end}, longFront.generate(start, end));
+    }
+
+    /**
+     * Short and long back stubs.
+     */
+    public void testBackStubs() {
+        final int start = serial(15, MonthConstants.JANUARY, 2020);
+        final int end = serial(1, MonthConstants.NOVEMBER, 2021);
+        final ScheduleGenerator shortBack = new ScheduleGenerator(6,
+                ScheduleGenerator.SHORT_BACK_STUB, false);
+        assertSchedule(new int[] {start, serial(15, 7, 2020),
+            serial(15, 1, 2021), serial(15, 7, 2021), end},
+            shortBack.generate(start, end));
+        final ScheduleGenerator longBack = new ScheduleGenerator(6,
+                ScheduleGenerator.LONG_BACK_STUB, false);
+        assertSchedule(new int[] {start, serial(15, 7, 2020),
+            serial(15, 1, 2021), end}, longBack.generate(start, end));
+    }
+
+    /**
+     * A period shorter than one step gives just the start and end dates.
+     */
+    public void testSinglePeriod() {
+        final int start = serial(1, 3, 2020);
+        final int end = serial(1, 5, 2020);
+        for (int stub = ScheduleGenerator.SHORT_FRONT_STUB;
+                stub <= ScheduleGenerator.LONG_BACK_STUB; stub++) {
+            final ScheduleGenerator g = new ScheduleGenerator(12, stub, true);
+            assertSchedule(new int[] {start, end}, g.generate(start, end));
+        }
+    }
+
+    /**
+     * Dates are rolled from the anchor, and the end-of-month rule applies
+     * when the anchor is the last day of a month.
+     */
+    public void testEndOfMonth() {
+        final int start = serial(31, MonthConstants.JANUARY, 2020);
+        final int end = serial(31, MonthConstants.MAY, 2020);
+        final ScheduleGenerator g = new ScheduleGenerator(1,
+                ScheduleGenerator.SHORT_BACK_STUB, false);
+        assertSchedule(new int[] {start, serial(29, 2, 2020),
+            serial(31, 3, 2020), serial(30, 4, 2020), end},
+            g.generate(start, end));
+
+        final int start2 = serial(30, MonthConstants.APRIL, 2020);
+        final int end2 = serial(31, MonthConstants.JULY, 2020);
+        assertSchedule(new int[] {start2, serial(30, 5, 2020),
+            serial(30, 6, 2020), serial(30, 7, 2020), end2},
+            g.generate(start2, end2));
+        final ScheduleGenerator eom = new ScheduleGenerator(1,
+                ScheduleGenerator.SHORT_BACK_STUB, true);
+        assertSchedule(new int[] {start2, serial(31, 5, 2020),
+            serial(30, 6, 2020), end2}, eom.generate(start2, end2));
+    }
+
+    /**
+     * The consumer receives the same dates as the array, and the counts
+     * agree.
+     */
+    public void testConsumer() {
+        final int base = serial(17, 3, 2001);
+        for (int stub = ScheduleGenerator.SHORT_FRONT_STUB;
+                stub <= ScheduleGenerator.LONG_BACK_STUB; stub++) {
+            final ScheduleGenerator g = new ScheduleGenerator(3, stub, true);
+            for (int days = 1; days < 2000; days += 37) {
+                final int[] dates = g.generate(base, base + days);
+                assertEquals(dates.length, g.count(base, base + days));
+                final int[] index = new int[1];
+                final int n = g.generate(base, base + days, new IntConsumer() {
+                    public void accept(final int serial) {
+                        assertEquals(dates[index[0]++], serial);
+                    }
+                });
+                assertEquals(dates.length, n);
+                for (int i = 1; i < dates.length; i++) {
+                    assertTrue(dates[i - 1] < dates[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The start date must be before the end date.
+     */
+    public void testInvalidDates() {
+        final ScheduleGenerator g = new ScheduleGenerator(6,
+                ScheduleGenerator.SHORT_FRONT_STUB, false);
+        try {
+            g.generate(100, 100);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
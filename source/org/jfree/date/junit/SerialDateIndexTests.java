@@ -0,0 +1,213 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * SerialDateIndexTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Use generics in testSerialDates();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateIndex;
+import org.jfree.date.SerialDateRange;
+
+/**
+ * Tests for the {@link SerialDateIndex} class.
+ */
+public class SerialDateIndexTests extends TestCase {
+
+    /** Unsorted dates with duplicates. */
+    private int[] dates;
+
+    /** The index of the dates. */
+    private SerialDateIndex index;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SerialDateIndexTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public SerialDateIndexTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the index.
+     */
+    protected void setUp() {
+        final Random random = new Random(17L);
+        this.dates = new int[5000];
+        for (int i = 0; i < this.dates.length; i++) {
+            // a cluster and a sparse tail, to exercise the search...
+            this.dates[i] = (i % 5 == 0) ? 40000 + random.nextInt(20000)
+                                         : 38000 + random.nextInt(400);
+        }
+        this.index = new SerialDateIndex(this.dates);
+    }
+
+    /**
+     * Counts the dates in a range by scanning.
+     *
+     * @param s1  one boundary date.
+     * @param s2  the other boundary date.
+     * @param include  the include code.
+     *
+     * @return The count.
+     */
+    private int scan(final int s1, final int s2, final int include) {
+        final SerialDate d1 = SerialDate.createInstance(s1);
+        final SerialDate d2 = SerialDate.createInstance(s2);
+        int count = 0;
+        for (int i = 0; i < this.dates.length; i++) {
+            if (SerialDate.createInstance(this.dates[i]).isInRange(d1, d2,
+                    include)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The index holds the sorted dates.
+     */
+    public void testSorted() {
+        final int[] sorted = this.dates.clone();
+        Arrays.sort(sorted);
+        assertTrue(Arrays.equals(sorted, this.index.toArray()));
+        assertEquals(sorted.length, this.index.stream().count());
+    }
+
+    /**
+     * The bounds agree with a linear scan of the sorted dates.
+     */
+    public void testBounds() {
+        final int[] sorted = this.index.toArray();
+        for (int s = 37990; s < 60010; s += 7) {
+            int lower = 0;
+            while ((lower < sorted.length) && (sorted[lower] < s)) {
+                lower++;
+            }
+            int upper = lower;
+            while ((upper < sorted.length) && (sorted[upper] <= s)) {
+                upper++;
+            }
+            assertEquals(lower, this.index.lowerBound(s));
+            assertEquals(upper, this.index.upperBound(s));
+            assertEquals(upper > lower, this.index.contains(s));
+        }
+    }
+
+    /**
+     * Range counts agree with SerialDate.isInRange().
+     */
+    public void testCount() {
+        final int[][] ranges = new int[][] {{38000, 38100}, {38399, 38000},
+            {38100, 45000}, {50000, 50000}, {30000, 70000}, {38050, 38051}};
+        for (int r = 0; r < ranges.length; r++) {
+            for (int include = SerialDate.INCLUDE_NONE;
+                    include <= SerialDate.INCLUDE_BOTH; include++) {
+                final int expected = scan(ranges[r][0], ranges[r][1],
+                        include);
+                assertEquals(expected, this.index.count(ranges[r][0],
+                        ranges[r][1], include));
+                assertEquals(expected, this.index.slice(ranges[r][0],
+                        ranges[r][1], include).size());
+                assertEquals(expected, this.index.count(new SerialDateRange(
+                        ranges[r][0], ranges[r][1], include)));
+            }
+        }
+    }
+
+    /**
+     * A slice is a view that can itself be queried.
+     */
+    public void testSlice() {
+        final SerialDateIndex slice = this.index.slice(38100, 38200,
+                SerialDate.INCLUDE_BOTH);
+        assertTrue(slice.get(0) >= 38100);
+        assertTrue(slice.get(slice.size() - 1) <= 38200);
+        assertEquals(this.index.count(38150, 38300, SerialDate.INCLUDE_BOTH)
+                - this.index.count(38201, 38300, SerialDate.INCLUDE_BOTH),
+                slice.count(38150, 38300, SerialDate.INCLUDE_BOTH));
+        assertEquals(slice.size(), slice.lowerBound(40000));
+        assertEquals(0, slice.upperBound(100));
+        try {
+            slice.get(slice.size());
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The SerialDate convenience methods.
+     */
+    public void testSerialDates() {
+        final List<SerialDate> list = new ArrayList<SerialDate>();
+        list.add(SerialDate.createInstance(5, 5, 2005));
+        list.add(SerialDate.createInstance(1, 1, 2001));
+        list.add(SerialDate.createInstance(3, 3, 2003));
+        final SerialDateIndex i = new SerialDateIndex(list);
+        assertEquals(SerialDate.createInstance(1, 1, 2001), i.getDate(0));
+        assertTrue(i.contains(SerialDate.createInstance(3, 3, 2003)));
+        assertEquals(2, i.count(SerialDate.createInstance(1, 1, 2001),
+                SerialDate.createInstance(5, 5, 2005),
+                SerialDate.INCLUDE_FIRST));
+    }
+
+}
@@ -0,0 +1,245 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------------
+ * SerialDateIntervalIndexTests.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateIntervalIndex;
+import org.jfree.date.SerialDateRange;
+
+/**
+ * Tests for the {@link SerialDateIntervalIndex} class.
+ */
+public class SerialDateIntervalIndexTests extends TestCase {
+
+    /** The first boundary date of each interval. */
+    private int[] d1;
+
+    /** The second boundary date of each interval. */
+    private int[] d2;
+
+    /** The include code of each interval. */
+    private int[] include;
+
+    /** The index of the intervals. */
+    private SerialDateIntervalIndex index;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SerialDateIntervalIndexTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public SerialDateIntervalIndexTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the index.
+     */
+    protected void setUp() {
+        final Random random = new Random(23L);
+        final int n = 500;
+        this.d1 = new int[n];
+        this.d2 = new int[n];
+        this.include = new int[n];
+        this.index = new SerialDateIntervalIndex();
+        for (int i = 0; i < n; i++) {
+            this.d1[i] = 40000 + random.nextInt(2000);
+            // mostly short windows, with a few long ones and some empty...
+            this.d2[i] = this.d1[i] + ((i % 10 == 0) ? random.nextInt(800)
+                                                     : random.nextInt(15) - 7);
+            this.include[i] = random.nextInt(4);
+            assertEquals(i, this.index.add(this.d1[i], this.d2[i],
+                    this.include[i]));
+        }
+    }
+
+    /**
+     * Returns the ids of the intervals containing a date, by scanning.
+     *
+     * @param serial  the date.
+     *
+     * @return The ids.
+     */
+    private int[] scan(final int serial) {
+        final SerialDate date = SerialDate.createInstance(serial);
+        int count = 0;
+        final int[] ids = new int[this.d1.length];
+        for (int i = 0; i < this.d1.length; i++) {
+            if (date.isInRange(SerialDate.createInstance(this.d1[i]),
+                    SerialDate.createInstance(this.d2[i]), this.include[i])) {
+                ids[count++] = i;
+            }
+        }
+        final int[] result = new int[count];
+        System.arraycopy(ids, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Stabbing queries match a scan with isInRange().
+     */
+    public void testContaining() {
+        for (int s = 39990; s < 42810; s += 3) {
+            final int[] expected = scan(s);
+            assertTrue(Arrays.equals(expected,
+                    this.index.containing(s)));
+            assertEquals(expected.length, this.index.countContaining(s));
+            assertEquals(expected.length > 0, this.index.anyContains(s));
+        }
+    }
+
+    /**
+     * The bulk queries match the single-date queries.
+     */
+    public void testBulk() {
+        final int[] serials = new int[] {39000, 40001, 40500, 41234, 41999,
+                42500, 50000};
+        final int[] counts = this.index.countContaining(serials);
+        final boolean[] any = this.index.anyContains(serials);
+        for (int i = 0; i < serials.length; i++) {
+            assertEquals(this.index.countContaining(serials[i]), counts[i]);
+            assertEquals(this.index.anyContains(serials[i]), any[i]);
+        }
+        assertEquals(0, counts[0]);
+        assertFalse(any[6]);
+    }
+
+    /**
+     * Overlap queries match a scan of the closed bounds.
+     */
+    public void testOverlapping() {
+        final int[][] ranges = new int[][] {{40100, 40110}, {40500, 40500},
+            {41990, 43000}, {30000, 39999}, {40000, 42000}};
+        for (int r = 0; r < ranges.length; r++) {
+            final SerialDateRange range = new SerialDateRange(ranges[r][0],
+                    ranges[r][1], SerialDate.INCLUDE_BOTH);
+            final int[] ids = this.index.overlapping(range);
+            int expected = 0;
+            for (int i = 0; i < this.d1.length; i++) {
+                final int first = this.index.getStart(i);
+                final int last = this.index.getEnd(i);
+                if ((first <= last) && (first <= range.getLast())
+                        && (last >= range.getFirst())) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, ids.length);
+            for (int k = 1; k < ids.length; k++) {
+                assertTrue(ids[k - 1] < ids[k]);
+            }
+        }
+        assertEquals(0, this.index.overlapping(40100, 40101,
+                SerialDate.INCLUDE_NONE).length);
+    }
+
+    /**
+     * Intervals added after a query are seen by the next query.
+     */
+    public void testIncremental() {
+        final int before = this.index.countContaining(45000);
+        assertEquals(0, before);
+        final int id = this.index.add(45005, 44990, SerialDate.INCLUDE_FIRST);
+        assertEquals(500, id);
+        assertEquals(501, this.index.size());
+        assertEquals(44990, this.index.getStart(id));
+        assertEquals(45004, this.index.getEnd(id));
+        assertTrue(Arrays.equals(new int[] {id},
+                this.index.containing(45000)));
+        assertFalse(this.index.anyContains(45005));
+    }
+
+    /**
+     * An empty index finds nothing.
+     */
+    public void testEmpty() {
+        final SerialDateIntervalIndex empty = new SerialDateIntervalIndex();
+        assertEquals(0, empty.containing(40000).length);
+        assertFalse(empty.anyContains(40000));
+        empty.add(40000, 40000, SerialDate.INCLUDE_NONE);
+        assertFalse(empty.anyContains(40000));
+    }
+
+    /**
+     * Invalid arguments are rejected.
+     */
+    public void testInvalid() {
+        try {
+            this.index.add(40000, 40001, 4);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            this.index.add(1, 40001, SerialDate.INCLUDE_BOTH);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            this.index.getStart(1000);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
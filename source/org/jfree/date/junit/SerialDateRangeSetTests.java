@@ -0,0 +1,222 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * SerialDateRangeSetTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateRange;
+import org.jfree.date.SerialDateRangeSet;
+
+/**
+ * Tests for the {@link SerialDateRangeSet} class.
+ */
+public class SerialDateRangeSetTests extends TestCase {
+
+    /** The first date covered by the random sets. */
+    private static final int BASE = 40000;
+
+    /** The number of dates covered by the random sets. */
+    private static final int SPAN = 400;
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SerialDateRangeSetTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public SerialDateRangeSetTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a random set of overlapping ranges.
+     *
+     * @param random  the random number generator.
+     * @param days  receives a flag for each day in the set.
+     *
+     * @return The set.
+     */
+    private static SerialDateRangeSet random(final Random random,
+                                             final boolean[] days) {
+        final SerialDateRange[] ranges = new SerialDateRange[20];
+        for (int i = 0; i < ranges.length; i++) {
+            final int s1 = BASE + random.nextInt(SPAN - 20);
+            final int s2 = s1 + random.nextInt(20);
+            ranges[i] = new SerialDateRange(s1, s2, random.nextInt(4));
+            final int last = ranges[i].getLast();
+            for (int s = ranges[i].getFirst(); s <= last; s++) {
+                days[s - BASE] = true;
+            }
+        }
+        return SerialDateRangeSet.of(ranges);
+    }
+
+    /**
+     * Checks a set against a flag for each day.
+     *
+     * @param days  the flags.
+     * @param set  the set.
+     */
+    private static void check(final boolean[] days,
+                              final SerialDateRangeSet set) {
+        int count = 0;
+        for (int i = 0; i < days.length; i++) {
+            assertEquals(days[i], set.contains(BASE + i));
+            if (days[i]) {
+                count++;
+            }
+        }
+        assertFalse(set.contains(BASE - 1));
+        assertFalse(set.contains(BASE + days.length));
+        assertEquals(count, set.cardinality());
+
+        // the ranges are disjoint, sorted and do not touch...
+        final SerialDateRange[] ranges = set.toRanges();
+        for (int i = 1; i < ranges.length; i++) {
+            assertTrue(ranges[i - 1].getLast() + 1 < ranges[i].getFirst());
+        }
+    }
+
+    /**
+     * The set algebra matches the same operations on flags.
+     */
+    public void testAlgebra() {
+        final Random random = new Random(5L);
+        for (int trial = 0; trial < 50; trial++) {
+            final boolean[] a = new boolean[SPAN];
+            final boolean[] b = new boolean[SPAN];
+            final SerialDateRangeSet sa = random(random, a);
+            final SerialDateRangeSet sb = random(random, b);
+            check(a, sa);
+            final boolean[] union = new boolean[SPAN];
+            final boolean[] intersection = new boolean[SPAN];
+            final boolean[] difference = new boolean[SPAN];
+            for (int i = 0; i < SPAN; i++) {
+                union[i] = a[i] || b[i];
+                intersection[i] = a[i] && b[i];
+                difference[i] = a[i] && !b[i];
+            }
+            check(union, sa.union(sb));
+            check(intersection, sa.intersection(sb));
+            check(difference, sa.difference(sb));
+            assertEquals(sa.union(sb), sb.union(sa));
+        }
+    }
+
+    /**
+     * Ranges that touch are merged.
+     */
+    public void testNormalised() {
+        final SerialDateRangeSet s1 = SerialDateRangeSet.of(
+                new int[] {40010, 40000, 40006},
+                new int[] {40012, 40005, 40009});
+        assertEquals(1, s1.getRangeCount());
+        assertEquals(new SerialDateRange(40000, 40012,
+                SerialDate.INCLUDE_BOTH), s1.getRange(0));
+        final SerialDateRangeSet s2 = new SerialDateRangeSet(
+                new SerialDateRange(40000, 40005, SerialDate.INCLUDE_BOTH))
+                .union(new SerialDateRangeSet(new SerialDateRange(40006,
+                40012, SerialDate.INCLUDE_BOTH)));
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * The gaps lie between the ranges.
+     */
+    public void testGaps() {
+        final SerialDateRangeSet set = SerialDateRangeSet.of(
+                new int[] {40000, 40010, 40020},
+                new int[] {40004, 40014, 40024});
+        final SerialDateRangeSet gaps = set.gaps();
+        assertEquals(2, gaps.getRangeCount());
+        assertEquals(new SerialDateRange(40005, 40009,
+                SerialDate.INCLUDE_BOTH), gaps.getRange(0));
+        assertEquals(10, gaps.cardinality());
+        assertEquals(set.getSpan(), new SerialDateRange(40000, 40024,
+                SerialDate.INCLUDE_BOTH));
+        assertEquals(gaps, set.complement(set.getSpan()));
+        assertTrue(set.union(gaps).gaps().isEmpty());
+        assertTrue(SerialDateRangeSet.EMPTY.gaps().isEmpty());
+    }
+
+    /**
+     * Range containment and intersection.
+     */
+    public void testRanges() {
+        final SerialDateRangeSet set = SerialDateRangeSet.of(
+                new int[] {40000, 40010}, new int[] {40004, 40014});
+        assertTrue(set.contains(new SerialDateRange(40001, 40004,
+                SerialDate.INCLUDE_BOTH)));
+        assertFalse(set.contains(new SerialDateRange(40003, 40010,
+                SerialDate.INCLUDE_BOTH)));
+        assertTrue(set.intersects(new SerialDateRange(40005, 40010,
+                SerialDate.INCLUDE_BOTH)));
+        assertFalse(set.intersects(new SerialDateRange(40005, 40009,
+                SerialDate.INCLUDE_BOTH)));
+        assertFalse(set.intersects(new SerialDateRange(40015, 40020,
+                SerialDate.INCLUDE_BOTH)));
+        final int[] count = new int[1];
+        set.forEach(new IntConsumer() {
+            public void accept(final int serial) {
+                count[0]++;
+            }
+        });
+        assertEquals(10, count[0]);
+    }
+
+}
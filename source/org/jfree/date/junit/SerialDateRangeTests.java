@@ -0,0 +1,191 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * SerialDateRangeTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Build the day mask directly in testWeekdays();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.Spliterator;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.MonthConstants;
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateRange;
+
+/**
+ * Tests for the {@link SerialDateRange} class.
+ */
+public class SerialDateRangeTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SerialDateRangeTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public SerialDateRangeTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Membership agrees with SerialDate.isInRange() for each include code.
+     */
+    public void testIncludeCodes() {
+        final SerialDate d1 = SerialDate.createInstance(10, 3, 2005);
+        final SerialDate d2 = SerialDate.createInstance(20, 3, 2005);
+        for (int include = SerialDate.INCLUDE_NONE;
+                include <= SerialDate.INCLUDE_BOTH; include++) {
+            final SerialDateRange r1 = new SerialDateRange(d1, d2, include);
+            final SerialDateRange r2 = new SerialDateRange(d2, d1, include);
+            assertEquals(r1, r2);
+            int count = 0;
+            for (int s = d1.toSerial() - 2; s <= d2.toSerial() + 2; s++) {
+                final SerialDate d = SerialDate.createInstance(s);
+                assertEquals(d.isInRange(d1, d2, include), r1.contains(s));
+                if (r1.contains(s)) {
+                    count++;
+                }
+            }
+            assertEquals(count, r1.size());
+            assertEquals(count, r1.stream().count());
+        }
+    }
+
+    /**
+     * Empty ranges.
+     */
+    public void testEmpty() {
+        final SerialDateRange r = new SerialDateRange(100, 101,
+                SerialDate.INCLUDE_NONE);
+        assertTrue(r.isEmpty());
+        assertEquals(0, r.size());
+        assertEquals(0, r.stream().count());
+        assertEquals(0, r.days(3).count());
+        assertEquals(0, r.months(1).count());
+        assertEquals(0, r.weekdays(0xFE).count());
+        assertEquals(new SerialDateRange(5, 5, SerialDate.INCLUDE_FIRST), r);
+    }
+
+    /**
+     * The parallel stream splits evenly and gives the same dates.
+     */
+    public void testParallel() {
+        final SerialDateRange r = new SerialDateRange(
+                SerialDate.createInstance(1, 1, 1950),
+                SerialDate.createInstance(31, 12, 2049));
+        final Spliterator.OfInt s = r.spliterator();
+        final long size = s.estimateSize();
+        final Spliterator.OfInt prefix = s.trySplit();
+        assertEquals(size / 2, prefix.estimateSize());
+        assertEquals(size - size / 2, s.estimateSize());
+
+        long expected = 0;
+        for (int d = r.getFirst(); d <= r.getLast(); d++) {
+            expected += d;
+        }
+        assertEquals(expected, r.parallelStream().asLongStream().sum());
+        assertEquals(expected, r.stream().asLongStream().sum());
+    }
+
+    /**
+     * Stepping by days.
+     */
+    public void testDays() {
+        final SerialDateRange r = new SerialDateRange(100, 120,
+                SerialDate.INCLUDE_BOTH);
+        final int[] dates = r.days(7).toArray();
+        assertEquals(3, dates.length);
+        assertEquals(100, dates[0]);
+        assertEquals(114, dates[2]);
+        assertEquals(21, r.days(1).count());
+        assertEquals(21, r.toArray().length);
+    }
+
+    /**
+     * Stepping by a day-of-the-week mask.
+     */
+    public void testWeekdays() {
+        final SerialDateRange r = new SerialDateRange(
+                SerialDate.createInstance(3, 1, 2007),
+                SerialDate.createInstance(28, 2, 2007));
+        final int mask = (1 << SerialDate.MONDAY)
+                | (1 << SerialDate.FRIDAY);
+        final int[] dates = r.weekdays(mask).toArray();
+        int expected = 0;
+        for (int s = r.getFirst(); s <= r.getLast(); s++) {
+            final int dow = SerialDate.createInstance(s).getDayOfWeek();
+            if ((dow == SerialDate.MONDAY) || (dow == SerialDate.FRIDAY)) {
+                assertEquals(s, dates[expected++]);
+            }
+        }
+        assertEquals(expected, dates.length);
+        assertEquals(expected, r.weekdays(mask).parallel().count());
+    }
+
+    /**
+     * Stepping by months clamps the day but keeps the anchor.
+     */
+    public void testMonths() {
+        final SerialDateRange r = new SerialDateRange(
+                SerialDate.createInstance(31, MonthConstants.JANUARY, 2008),
+                SerialDate.createInstance(30, MonthConstants.APRIL, 2008));
+        final int[] dates = r.months(1).toArray();
+        assertEquals(4, dates.length);
+        assertEquals(SerialDate.createInstance(29, 2, 2008).toSerial(),
+                dates[1]);
+        assertEquals(SerialDate.createInstance(31, 3, 2008).toSerial(),
+                dates[2]);
+        assertEquals(r.getLast(), dates[3]);
+        assertEquals(2, r.months(2).count());
+    }
+
+}
@@ -0,0 +1,256 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2005, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * SerialDateSortTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added tests for payloads, dedup and parallel sorting;
+ * 19-Oct-2026 : Use generics in testSortList();
+ * 19-Oct-2026 : Added tests for long payloads in parallelSort() and
+ *               dedup();
+ *
+ */
+
+package org.jfree.date.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateSort;
+
+/**
+ * Tests for the {@link SerialDateSort} class.
+ */
+public class SerialDateSortTests extends TestCase {
+
+    /**
+     * Returns a test suite for the JUnit test runner.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SerialDateSortTests.class);
+    }
+
+    /**
+     * Creates a new test case.
+     *
+     * @param name  the name.
+     */
+    public SerialDateSortTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns random serial numbers.
+     *
+     * @param n  the number of values.
+     * @param range  the number of distinct values.
+     * @param seed  the random seed.
+     *
+     * @return The serial numbers.
+     */
+    static int[] randomSerials(final int n, final int range,
+                               final long seed) {
+        final Random random = new Random(seed);
+        final int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = SerialDate.SERIAL_UPPER_BOUND - random.nextInt(range);
+        }
+        return result;
+    }
+
+    /**
+     * The radix sort agrees with Arrays.sort().
+     */
+    public void testSort() {
+        final int[] sizes = new int[] {0, 1, 10, 255, 256, 1000, 100000};
+        final int[] ranges = new int[] {1, 1000, 2047, 2958463};
+        for (int i = 0; i < sizes.length; i++) {
+            for (int j = 0; j < ranges.length; j++) {
+                final int[] a = randomSerials(sizes[i], ranges[j], i * 31 + j);
+                final int[] expected = a.clone();
+                Arrays.sort(expected);
+                SerialDateSort.sort(a);
+                assertTrue(Arrays.equals(expected, a));
+                assertTrue(SerialDateSort.isSorted(a));
+            }
+        }
+    }
+
+    /**
+     * Part of an array can be sorted.
+     */
+    public void testSortRange() {
+        final int[] a = randomSerials(2000, 100000, 5L);
+        final int[] expected = a.clone();
+        Arrays.sort(expected, 100, 1900);
+        SerialDateSort.sort(a, 100, 1900);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    /**
+     * Values that are not serial numbers are rejected.
+     */
+    public void testInvalidValues() {
+        final int[] a = randomSerials(1000, 1000, 3L);
+        a[500] = -1;
+        try {
+            SerialDateSort.sort(a);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The payload is rearranged with the serial numbers, and the sort is
+     * stable.
+     */
+    public void testPayloads() {
+        final int[] sizes = new int[] {10, 5000};
+        for (int k = 0; k < sizes.length; k++) {
+            final int[] a = randomSerials(sizes[k], 50, 7L);
+            final int[] b = a.clone();
+            final int[] ints = new int[a.length];
+            final long[] longs = new long[a.length];
+            for (int i = 0; i < a.length; i++) {
+                ints[i] = i;
+                longs[i] = 10000000000L + i;
+            }
+            final int[] original = a.clone();
+            SerialDateSort.sort(a, ints);
+            SerialDateSort.sort(b, longs);
+            assertTrue(SerialDateSort.isSorted(a));
+            assertTrue(Arrays.equals(a, b));
+            for (int i = 0; i < a.length; i++) {
+                assertEquals(a[i], original[ints[i]]);
+                assertEquals(ints[i] + 10000000000L, longs[i]);
+                if ((i > 0) && (a[i] == a[i - 1])) {
+                    assertTrue(ints[i] > ints[i - 1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Duplicates are removed, keeping the payload of the first occurrence.
+     */
+    public void testDedup() {
+        final int[] a = new int[] {5, 3, 5, 9, 3, 3, 7};
+        final int[] payload = new int[] {0, 1, 2, 3, 4, 5, 6};
+        SerialDateSort.sort(a, payload);
+        final int n = SerialDateSort.dedup(a, payload);
+        assertEquals(4, n);
+        assertTrue(Arrays.equals(new int[] {3, 5, 7, 9},
+                Arrays.copyOf(a, n)));
+        assertTrue(Arrays.equals(new int[] {1, 0, 6, 3},
+                Arrays.copyOf(payload, n)));
+        assertTrue(Arrays.equals(new int[] {3, 5, 7, 9},
+                SerialDateSort.sortDistinct(new int[] {9, 7, 5, 3, 5, 7})));
+        assertEquals(0, SerialDateSort.dedup(new int[0]));
+
+        final int[] c = new int[] {5, 3, 5, 9, 3, 3, 7};
+        final long[] rows = new long[] {1L << 40, 1L << 41, 1L << 42,
+            1L << 43, 1L << 44, 1L << 45, 1L << 46};
+        SerialDateSort.sort(c, rows);
+        assertEquals(4, SerialDateSort.dedup(c, rows));
+        assertTrue(Arrays.equals(new long[] {1L << 41, 1L << 40, 1L << 46,
+            1L << 43}, Arrays.copyOf(rows, 4)));
+        assertEquals(0, SerialDateSort.dedup(new int[0], new long[0]));
+    }
+
+    /**
+     * The parallel sort agrees with the sequential sort.
+     */
+    public void testParallelSort() {
+        final int n = SerialDateSort.PARALLEL_THRESHOLD + 1001;
+        final int[] a = randomSerials(n, 2958463, 11L);
+        final int[] payload = new int[n];
+        for (int i = 0; i < n; i++) {
+            payload[i] = i;
+        }
+        final int[] b = a.clone();
+        final int[] original = a.clone();
+        SerialDateSort.sort(b);
+        SerialDateSort.parallelSort(a, payload);
+        assertTrue(Arrays.equals(b, a));
+        for (int i = 0; i < n; i++) {
+            assertEquals(a[i], original[payload[i]]);
+        }
+
+        // a long payload, checking that equal dates keep their order
+        final int[] c = original.clone();
+        final long[] rows = new long[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = (1L << 32) + i;
+        }
+        SerialDateSort.parallelSort(c, rows);
+        assertTrue(Arrays.equals(b, c));
+        for (int i = 0; i < n; i++) {
+            assertEquals(c[i], original[(int) (rows[i] - (1L << 32))]);
+            if ((i > 0) && (c[i] == c[i - 1])) {
+                assertTrue(rows[i] > rows[i - 1]);
+            }
+        }
+    }
+
+    /**
+     * A list of dates is sorted in place, as by Collections.sort().
+     */
+    public void testSortList() {
+        final int[] serials = randomSerials(1000, 5000, 13L);
+        final List<SerialDate> dates = new ArrayList<SerialDate>();
+        for (int i = 0; i < serials.length; i++) {
+            dates.add(SerialDate.createInstance(serials[i]));
+        }
+        final List<SerialDate> expected = new ArrayList<SerialDate>(dates);
+        // SerialDate is a raw Comparable, so use the natural order directly
+        expected.sort(null);
+        SerialDateSort.sort(dates);
+        assertEquals(expected, dates);
+        assertTrue(SerialDateSort.isSorted(SerialDateSort.toSerials(dates)));
+    }
+
+}
@@ -41,6 +41,7 @@
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 13-Mar-2003 : Added serialization test (DG);
  * 05-Jan-2005 : Added test for bug report 1096282 (DG);
+ * 19-Oct-2026 : Added test for the default SerialDateFactory;
  *
  */
 
@@ -59,6 +60,9 @@ import junit.framework.TestCase;
 import junit.framework.TestSuite;
 import org.jfree.date.MonthConstants;
 import org.jfree.date.SerialDate;
+import org.jfree.date.SerialDateFactory;
+import org.jfree.date.SpreadsheetDate;
+import org.jfree.date.SpreadsheetDateFactory;
 
 /**
  * Some JUnit tests for the {@link SerialDate} class.
@@ -319,4 +323,20 @@ public class SerialDateTests extends TestCase {
         assertEquals(7, d4.getMonth());
         assertEquals(2004, d4.getYYYY());
     }
+
+    /**
+     * With no factory configured, createInstance() and the date arithmetic
+     * return SpreadsheetDate instances.
+     */
+    public void testDefaultFactory() {
+        assertTrue(SerialDateFactory.getInstance() 
+                instanceof SpreadsheetDateFactory);
+        final SerialDate d1 = SerialDate.createInstance(31, 5, 2004);
+        assertTrue(d1 instanceof SpreadsheetDate);
+        assertTrue(SerialDate.addMonths(1, d1) instanceof SpreadsheetDate);
+        assertTrue(SerialDate.createInstance(d1.toDate()) 
+                instanceof SpreadsheetDate);
+        assertEquals(d1, SerialDate.createInstance(d1.toDate()));
+    }
+
 }
@@ -38,6 +38,8 @@
  * -------
  * 25-Jun-2002 : Version 1 (DG);
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 19-Oct-2026 : Added tests for the batch day-count methods;
+ * 19-Oct-2026 : Added tests for countFeb29s();
  *
  */
 
@@ -125,4 +127,120 @@ public class SerialDateUtilitiesTests extends TestCase {
         assertEquals(1, count);
     }
 
+    /**
+     * The batch day-count methods give the same results as the scalar
+     * methods, including for reversed and equal dates and for dates at the
+     * end of February and on the 31st.
+     */
+    public void testBatchDayCounts() {
+        final int base = SerialDate.createInstance(25, 1, 2003).toSerial();
+        final int span = 3 * 366;
+        final int n = 40000;
+        final int[] starts = new int[n];
+        final int[] ends = new int[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = base + (i * 7919) % span;
+            ends[i] = base + (i * 104729) % span;
+        }
+        starts[0] = ends[0];
+        final int[] result = new int[n];
+
+        SerialDateUtilities.dayCountActual(starts, ends, result);
+        for (int i = 0; i < n; i++) {
+            assertEquals(ends[i] - starts[i], result[i]);
+        }
+        SerialDateUtilities.dayCount30(starts, ends, result);
+        for (int i = 0; i < n; i++) {
+            assertEquals(SerialDateUtilities.dayCount30(starts[i], ends[i]),
+                    result[i]);
+        }
+        SerialDateUtilities.dayCount30ISDA(starts, ends, result);
+        for (int i = 0; i < n; i++) {
+            final SerialDate d1 = SerialDate.createInstance(starts[i]);
+            final SerialDate d2 = SerialDate.createInstance(ends[i]);
+            assertEquals(SerialDateUtilities.dayCount30ISDA(d1, d2), result[i]);
+        }
+        SerialDateUtilities.dayCount30PSA(starts, ends, result);
+        for (int i = 0; i < n; i++) {
+            final SerialDate d1 = SerialDate.createInstance(starts[i]);
+            final SerialDate d2 = SerialDate.createInstance(ends[i]);
+            assertEquals(SerialDateUtilities.dayCount30PSA(d1, d2), result[i]);
+        }
+        SerialDateUtilities.dayCount30E(starts, ends, result);
+        for (int i = 0; i < n; i++) {
+            final SerialDate d1 = SerialDate.createInstance(starts[i]);
+            final SerialDate d2 = SerialDate.createInstance(ends[i]);
+            assertEquals(SerialDateUtilities.dayCount30E(d1, d2), result[i]);
+        }
+    }
+
+    /**
+     * The batch methods reject arrays of different lengths.
+     */
+    public void testBatchDayCountLengths() {
+        try {
+            SerialDateUtilities.dayCount30E(new int[2], new int[3], new int[2]);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the countFeb29s() method.
+     */
+    public void testCountFeb29s() {
+        final SerialDate d1 = SerialDate.createInstance(28,
+                MonthConstants.FEBRUARY, 2004);
+        final SerialDate d2 = SerialDate.createInstance(29,
+                MonthConstants.FEBRUARY, 2004);
+        final SerialDate d3 = SerialDate.createInstance(1,
+                MonthConstants.MARCH, 2012);
+
+        // the end date is included, the start date is not...
+        assertEquals(1, SerialDateUtilities.countFeb29s(d1, d2));
+        assertEquals(2, SerialDateUtilities.countFeb29s(d2, d3));
+        assertEquals(3, SerialDateUtilities.countFeb29s(d1, d3));
+
+        // the order of the dates is not important...
+        assertEquals(3, SerialDateUtilities.countFeb29s(d3, d1));
+
+        // equal dates...
+        assertEquals(0, SerialDateUtilities.countFeb29s(d2, d2));
+    }
+
+    /**
+     * The closed-form count agrees with a day-by-day count.
+     */
+    public void testCountFeb29sMatchesDayByDay() {
+        checkCountFeb29s(SerialDate.createInstance(1, 1, 1900).toSerial());
+        checkCountFeb29s(SerialDate.createInstance(1, 1, 2098).toSerial());
+    }
+
+    /**
+     * Compares countFeb29s() with a day-by-day count over a range of dates.
+     *
+     * @param base  the first date in the range (serial number).
+     */
+    private void checkCountFeb29s(final int base) {
+        final int n = 3000;
+        final int[] cumulative = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            final SerialDate d = SerialDate.createInstance(base + i);
+            if ((d.getMonth() == MonthConstants.FEBRUARY)
+                    && (d.getDayOfMonth() == 29)) {
+                count++;
+            }
+            cumulative[i] = count;
+        }
+        for (int i = 0; i < n; i += 17) {
+            for (int j = 0; j < n; j += 23) {
+                assertEquals(Math.abs(cumulative[j] - cumulative[i]),
+                        SerialDateUtilities.countFeb29s(base + i, base + j));
+            }
+        }
+    }
+
 }